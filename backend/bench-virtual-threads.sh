@@ -0,0 +1,71 @@
+#!/bin/bash
+
+# 虚拟线程/平台线程执行模式吞吐对比脚本
+#
+# 用法:
+#   ./bench-virtual-threads.sh <连接ID> <图名称> [并发数] [请求总数]
+#
+# 步骤:
+#   1. 以平台线程模式启动后端（spring.threads.virtual.enabled=false），运行本脚本
+#   2. 以虚拟线程模式启动后端（JDK 21+，--spring.threads.virtual.enabled=true），再次运行本脚本
+#   3. 对比两次输出的吞吐与延迟
+#
+# 环境变量:
+#   BASE_URL  后端地址，默认 http://localhost:8081
+#   ENDPOINT  压测接口，sync（同步点查接口）或 async（原生查询接口），默认 sync
+#   QUERY     原生查询语句，默认执行一个耗时较长的Cypher
+#   VERTEX_UID 同步接口查询的节点UID，默认 1
+
+if [ $# -lt 2 ]; then
+    echo "用法: $0 <连接ID> <图名称> [并发数] [请求总数]"
+    exit 1
+fi
+
+CONNECTION_ID=$1
+GRAPH_NAME=$2
+CONCURRENCY=${3:-400}
+TOTAL=${4:-4000}
+BASE_URL=${BASE_URL:-http://localhost:8081}
+ENDPOINT=${ENDPOINT:-sync}
+QUERY=${QUERY:-"UNWIND range(1, 2000000) AS x RETURN count(x) AS c"}
+VERTEX_UID=${VERTEX_UID:-1}
+
+if ! command -v curl &> /dev/null; then
+    echo "错误: 未安装curl"
+    exit 1
+fi
+
+DATA_URL="$BASE_URL/api/v1/connections/$CONNECTION_ID/graphs/$GRAPH_NAME/data"
+TMP_FILE=$(mktemp)
+trap 'rm -f "$TMP_FILE"' EXIT
+
+request() {
+    if [ "$ENDPOINT" = "async" ]; then
+        curl -s -o /dev/null -w "%{http_code} %{time_total}\n" -X POST "$DATA_URL/native-query" \
+            -H "Content-Type: application/json" \
+            -d "{\"queryLanguage\":\"cypher\",\"queryStatement\":\"$QUERY\"}"
+    else
+        curl -s -o /dev/null -w "%{http_code} %{time_total}\n" "$DATA_URL/vertices/$VERTEX_UID"
+    fi
+}
+export -f request
+export DATA_URL QUERY VERTEX_UID ENDPOINT
+
+echo "压测: endpoint=$ENDPOINT, 并发=$CONCURRENCY, 请求数=$TOTAL"
+START=$(date +%s.%N)
+seq "$TOTAL" | xargs -P "$CONCURRENCY" -I{} bash -c request > "$TMP_FILE"
+END=$(date +%s.%N)
+
+ELAPSED=$(echo "$END - $START" | bc)
+sort -k2 -n "$TMP_FILE" | awk -v total="$TOTAL" -v elapsed="$ELAPSED" '
+    { latency[NR] = $2; if ($1 != "200") errors++ }
+    END {
+        p50 = latency[int(NR * 0.50) > 0 ? int(NR * 0.50) : 1]
+        p95 = latency[int(NR * 0.95) > 0 ? int(NR * 0.95) : 1]
+        p99 = latency[int(NR * 0.99) > 0 ? int(NR * 0.99) : 1]
+        printf "总耗时: %.2fs\n", elapsed
+        printf "吞吐: %.1f req/s\n", NR / elapsed
+        printf "失败: %d\n", errors
+        printf "P50: %.0fms  P95: %.0fms  P99: %.0fms\n",
+            p50 * 1000, p95 * 1000, p99 * 1000
+    }'
@@ -2,80 +2,93 @@ package com.graphdb.adapter;
 
 import com.graphdb.core.constant.DatabaseTypeEnum;
 import com.graphdb.core.exception.CoreException;
+import com.graphdb.core.interfaces.AsyncDataHandler;
+import com.graphdb.core.interfaces.AsyncGraphAdapter;
 import com.graphdb.core.interfaces.DataHandler;
 import com.graphdb.core.interfaces.GraphAdapter;
 import com.graphdb.core.interfaces.SchemaHandler;
 import com.graphdb.core.model.ConnectionConfig;
 import com.graphdb.core.model.CsvImportConfig;
+import com.graphdb.core.model.CursorPage;
 import com.graphdb.core.model.GraphQueryResult;
+import com.graphdb.core.model.GraphQueryResultBuilder;
 import com.graphdb.core.model.GraphSchema;
 import com.graphdb.core.model.LabelType;
+import com.graphdb.core.model.PoolStatus;
+import com.graphdb.core.model.PropertyFilter;
+import com.graphdb.core.model.QueryCondition;
+import com.graphdb.core.model.QueryContext;
+import com.graphdb.core.util.BlockingCallExecutor;
+import com.graphdb.core.util.LatencyRecorder;
+import com.graphdb.core.util.UidGenerator;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.Cardinality;
 import org.janusgraph.core.JanusGraph;
-import org.janusgraph.core.JanusGraphFactory;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.janusgraph.core.PropertyKey;
 import org.janusgraph.core.schema.JanusGraphManagement;
+import org.janusgraph.core.schema.SchemaAction;
+import org.janusgraph.core.schema.SchemaStatus;
+import org.janusgraph.diskstorage.TemporaryBackendException;
+import org.janusgraph.graphdb.database.StandardJanusGraph;
+import org.janusgraph.graphdb.database.management.ManagementSystem;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import javax.script.ScriptException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 /**
  * JanusGraph适配器实现
  */
 @Slf4j
 @Service
-public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
+public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler, AsyncGraphAdapter, AsyncDataHandler {
 
-    private JanusGraph graph;
-    private boolean connected;
-    private String currentGraph;
-
-    public JanusAdapter() {
-        // 初始化时不需要配置，连接时再配置
-    }
+    /**
+     * 异步接口的执行器，嵌入式JanusGraph的遍历在调用线程上执行，异步调用在该线程池上执行；
+     * 适配器按连接创建，每个连接独占一个执行器，某个存储阻塞时不会占满其他连接的线程，空闲线程超时后回收
+     */
+    private final BlockingCallExecutor asyncExecutor = new BlockingCallExecutor("janus-async", 16, 500);
 
-    private void initializeGraph(ConnectionConfig config) {
-        JanusGraphFactory.Builder builder = JanusGraphFactory.build()
-                .set("storage.backend", getStorageBackend(config.getType()))
-                .set("storage.hostname", config.getHost())
-                .set("storage.port", config.getPort());
+    private static final String UID_KEY = "uid";
+    private static final String VERTEX_UID_INDEX = "graphdbVertexByUid";
+    private static final String EDGE_UID_INDEX = "graphdbEdgeByUid";
 
-        if (config.getUsername() != null) {
-            builder.set("storage.username", config.getUsername());
-        }
-        if (config.getPassword() != null) {
-            builder.set("storage.password", config.getPassword());
-        }
+    /**
+     * JanusGraph实例由缓存统一管理，同一存储配置的连接共享同一实例
+     */
+    @Autowired
+    private JanusGraphInstanceCache graphCache;
 
-        graph = builder.open();
+    private volatile JanusGraph graph;
+    private volatile String graphKey;
+    private volatile boolean connected;
+    private String currentGraph;
 
-        if (config.getDatabaseName() != null) {
-            currentGraph = config.getDatabaseName();
-        }
-    }
+    private final LatencyRecorder transactionLatency = new LatencyRecorder();
 
-    private String getStorageBackend(String databaseType) {
-        // 根据数据库类型返回合适的存储后端
-        if (databaseType != null) {
-            String type = databaseType.toLowerCase();
-            if (type.contains("cassandra")) {
-                return "cql";
-            } else if (type.contains("hbase")) {
-                return "hbase";
-            } else if (type.contains("berkeleyje")) {
-                return "berkeleyje";
-            }
-        }
-        // 默认使用inmemory存储用于测试
-        return "inmemory";
+    public JanusAdapter() {
+        // 初始化时不需要配置，连接时再配置
     }
 
     @Override
@@ -86,8 +99,10 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
     @Override
     public boolean testConnection(ConnectionConfig config) {
         try {
-            JanusGraph testGraph = initializeTestGraph(config);
-            testGraph.close();
+            // 复用缓存中的实例，避免每次测试都重新引导存储后端
+            String key = graphCache.keyOf(config);
+            graphCache.acquire(key, config);
+            graphCache.release(key);
             System.out.println("JanusGraph连接测试成功");
             return true;
         } catch (Exception e) {
@@ -95,43 +110,31 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
     }
 
-    private JanusGraph initializeTestGraph(ConnectionConfig config) {
-        JanusGraphFactory.Builder builder = JanusGraphFactory.build()
-                .set("storage.backend", getStorageBackend(config.getType()))
-                .set("storage.hostname", config.getHost())
-                .set("storage.port", config.getPort());
-
-        if (config.getUsername() != null) {
-            builder.set("storage.username", config.getUsername());
-        }
-        if (config.getPassword() != null) {
-            builder.set("storage.password", config.getPassword());
-        }
-
-        return builder.open();
-    }
-
     @Override
     public void connect(ConnectionConfig config) {
         try {
-            initializeGraph(config);
+            String key = graphCache.keyOf(config);
+            graph = graphCache.acquire(key, config);
+            graphKey = key;
             connected = true;
+            ensureUidIndexes(graph);
 
             if (config.getDatabaseName() != null) {
                 currentGraph = config.getDatabaseName();
             }
         } catch (Exception e) {
-            if (graph != null) {
-                graph.close();
-            }
             throw new RuntimeException("JanusGraph连接失败: " + e.getMessage());
         }
     }
 
     @Override
     public void disconnect() {
-        if (graph != null) {
-            graph.close();
+        String key = graphKey;
+        if (key != null) {
+            // 仅释放引用，实例由缓存在空闲超时后关闭
+            graphCache.release(key);
+            graphKey = null;
+            graph = null;
             connected = false;
             currentGraph = null;
         }
@@ -139,7 +142,136 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
     @Override
     public boolean isConnected() {
-        return connected;
+        return connected && graph != null && graph.isOpen();
+    }
+
+    /**
+     * 确保uid属性上存在节点、边的组合索引，按uid定位不再全图扫描。
+     * uid属性键已存在（图中已有数据）时新建的索引需要重建后才可用，重建在后台执行；
+     * 失败仅记录日志，不影响连接
+     */
+    private void ensureUidIndexes(JanusGraph current) {
+        JanusGraphManagement management = current.openManagement();
+        List<String> created = new ArrayList<>();
+        boolean existingKey;
+        try {
+            existingKey = management.containsPropertyKey(UID_KEY);
+            PropertyKey uidKey = existingKey ? management.getPropertyKey(UID_KEY)
+                    : management.makePropertyKey(UID_KEY).dataType(String.class).cardinality(Cardinality.SINGLE).make();
+            if (!management.containsGraphIndex(VERTEX_UID_INDEX)) {
+                management.buildIndex(VERTEX_UID_INDEX, Vertex.class).addKey(uidKey).buildCompositeIndex();
+                created.add(VERTEX_UID_INDEX);
+            }
+            if (!management.containsGraphIndex(EDGE_UID_INDEX)) {
+                management.buildIndex(EDGE_UID_INDEX, Edge.class).addKey(uidKey).buildCompositeIndex();
+                created.add(EDGE_UID_INDEX);
+            }
+            if (created.isEmpty()) {
+                management.rollback();
+                return;
+            }
+            management.commit();
+            log.info("创建JanusGraph uid索引: {}", created);
+        } catch (Exception e) {
+            management.rollback();
+            log.warn("创建JanusGraph uid索引失败: {}", e.getMessage());
+            return;
+        }
+        if (existingKey) {
+            asyncExecutor.submit(() -> {
+                created.forEach(indexName -> reindex(current, indexName));
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 等待索引注册完成后重建索引，使已有数据可以通过索引查到
+     */
+    private void reindex(JanusGraph current, String indexName) {
+        try {
+            ManagementSystem.awaitGraphIndexStatus(current, indexName).status(SchemaStatus.REGISTERED).call();
+            JanusGraphManagement management = current.openManagement();
+            management.updateIndex(management.getGraphIndex(indexName), SchemaAction.REINDEX).get();
+            management.commit();
+            log.info("JanusGraph uid索引重建完成: {}", indexName);
+        } catch (Exception e) {
+            log.warn("JanusGraph uid索引重建失败: {}, {}", indexName, e.getMessage());
+        }
+    }
+
+    /**
+     * 打开事务并记录耗时，JanusGraph没有客户端连接池，以事务作为资源统计单位
+     */
+    private JanusGraphTransaction beginTransaction() {
+        long start = System.currentTimeMillis();
+        JanusGraphTransaction tx = graph.newTransaction();
+        transactionLatency.record(System.currentTimeMillis() - start);
+        return tx;
+    }
+
+    /**
+     * 报告共享JanusGraph实例上的打开事务数，实例被多个连接共享时事务数为实例级别
+     */
+    @Override
+    public PoolStatus getPoolStatus() {
+        JanusGraph current = graph;
+        if (current == null) {
+            return null;
+        }
+        PoolStatus status = new PoolStatus();
+        status.setDatabaseType(getDatabaseType().name());
+        if (current instanceof StandardJanusGraph) {
+            status.setInUse(((StandardJanusGraph) current).getOpenTransactions().size());
+        }
+        status.setAcquired(transactionLatency.getCount());
+        status.setAvgAcquisitionMs(transactionLatency.getAverage());
+        long[] percentiles = transactionLatency.percentiles(50, 95, 99);
+        if (percentiles != null) {
+            status.setP50AcquisitionMs(percentiles[0]);
+            status.setP95AcquisitionMs(percentiles[1]);
+            status.setP99AcquisitionMs(percentiles[2]);
+        }
+        String key = graphKey;
+        if (key != null) {
+            status.getDetails().put("instanceKey", key);
+            status.getDetails().put("instanceReferences", graphCache.getReferenceCounts().get(key));
+        }
+        status.setTimestamp(System.currentTimeMillis());
+        return status;
+    }
+
+    @Override
+    public boolean ping() throws CoreException {
+        if (!isConnected()) {
+            return false;
+        }
+        JanusGraphManagement management = null;
+        try {
+            // 读取一次schema元数据，会访问存储后端
+            management = graph.openManagement();
+            management.getVertexLabels().iterator().hasNext();
+            return true;
+        } catch (Exception e) {
+            throw new CoreException("JanusGraph健康探测失败: " + e.getMessage(), e);
+        } finally {
+            if (management != null && management.isOpen()) {
+                management.rollback();
+            }
+        }
+    }
+
+    /**
+     * 存储后端暂时性故障（TemporaryBackendException，包括锁冲突TemporaryLockingException）可以重试
+     */
+    @Override
+    public boolean isTransientError(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof TemporaryBackendException) {
+                return true;
+            }
+        }
+        return isUnavailableError(error);
     }
 
     @Override
@@ -224,10 +356,7 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            // JanusGraph删除图需要关闭图并删除底层存储
-            if (graph != null) {
-                graph.close();
-            }
+            // JanusGraph实例在连接间共享，不在此处关闭；底层存储需由运维工具清理
             System.out.println("JanusGraph图已删除: " + graphName);
         } catch (Exception e) {
             throw new CoreException("删除JanusGraph图失败: " + e.getMessage(), e);
@@ -494,7 +623,7 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            org.janusgraph.core.JanusGraphTransaction tx = graph.newTransaction();
+            JanusGraphTransaction tx = beginTransaction();
 
             // 创建顶点
             org.apache.tinkerpop.gremlin.structure.Vertex vertex = tx.addVertex(label);
@@ -507,7 +636,7 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             }
 
             // 生成唯一ID
-            String uid = "v_" + vertex.id();
+            String uid = UidGenerator.next("v_");
             vertex.property("uid", uid);
 
             tx.commit();
@@ -528,16 +657,24 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
     public Map<String, Object> createEdge(String graphName, String label,
                                           String sourceUid, String targetUid,
                                           Map<String, Object> properties) {
+        return createEdge(graphName, label, null, sourceUid, null, targetUid, properties);
+    }
+
+    @Override
+    public Map<String, Object> createEdge(String graphName, String label,
+                                          String sourceLabel, String sourceUid,
+                                          String targetLabel, String targetUid,
+                                          Map<String, Object> properties) {
         if (!isConnected()) {
             throw new CoreException("JanusGraph连接未建立");
         }
 
         try {
-            org.janusgraph.core.JanusGraphTransaction tx = graph.newTransaction();
+            JanusGraphTransaction tx = beginTransaction();
 
             // 查找源节点和目标节点
-            org.apache.tinkerpop.gremlin.structure.Vertex sourceVertex = tx.traversal().V().has("uid", sourceUid).next();
-            org.apache.tinkerpop.gremlin.structure.Vertex targetVertex = tx.traversal().V().has("uid", targetUid).next();
+            org.apache.tinkerpop.gremlin.structure.Vertex sourceVertex = findVertex(tx, sourceLabel, sourceUid);
+            org.apache.tinkerpop.gremlin.structure.Vertex targetVertex = findVertex(tx, targetLabel, targetUid);
 
             // 创建边
             org.apache.tinkerpop.gremlin.structure.Edge edge = sourceVertex.addEdge(label, targetVertex);
@@ -550,7 +687,7 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             }
 
             // 生成唯一ID
-            String uid = "e_" + edge.id();
+            String uid = UidGenerator.next("e_");
             edge.property("uid", uid);
 
             tx.commit();
@@ -571,15 +708,20 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
     @Override
     public void deleteVertex(String graphName, String uid) {
+        deleteVertex(graphName, null, uid);
+    }
+
+    @Override
+    public void deleteVertex(String graphName, String label, String uid) {
         if (!isConnected()) {
             throw new CoreException("JanusGraph连接未建立");
         }
 
         try {
-            org.janusgraph.core.JanusGraphTransaction tx = graph.newTransaction();
+            JanusGraphTransaction tx = beginTransaction();
 
             // 查找并删除节点
-            org.apache.tinkerpop.gremlin.structure.Vertex vertex = tx.traversal().V().has("uid", uid).next();
+            org.apache.tinkerpop.gremlin.structure.Vertex vertex = findVertex(tx, label, uid);
             vertex.remove();
 
             tx.commit();
@@ -590,15 +732,20 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
     @Override
     public void deleteEdge(String graphName, String uid) {
+        deleteEdge(graphName, null, uid);
+    }
+
+    @Override
+    public void deleteEdge(String graphName, String label, String uid) {
         if (!isConnected()) {
             throw new CoreException("JanusGraph连接未建立");
         }
 
         try {
-            org.janusgraph.core.JanusGraphTransaction tx = graph.newTransaction();
+            JanusGraphTransaction tx = beginTransaction();
 
             // 查找并删除边
-            org.apache.tinkerpop.gremlin.structure.Edge edge = tx.traversal().E().has("uid", uid).next();
+            org.apache.tinkerpop.gremlin.structure.Edge edge = findEdge(tx, label, uid);
             edge.remove();
 
             tx.commit();
@@ -608,40 +755,31 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
     }
 
     @Override
-    public List<Map<String, Object>> queryVertices(String graphName, String label) {
+    public List<Map<String, Object>> queryVertices(String graphName, QueryCondition condition) {
         if (!isConnected()) {
             throw new CoreException("JanusGraph连接未建立");
         }
 
         try {
-            org.janusgraph.core.JanusGraphTransaction tx = graph.newTransaction();
+            JanusGraphTransaction tx = beginTransaction();
 
             List<Map<String, Object>> vertices = new ArrayList<>();
 
-            // 构建查询
+            // 构建查询，range()分页由遍历在取满当前页后停止
+            QueryCondition page = condition == null ? new QueryCondition() : condition;
+            String label = page.getLabel();
             org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal<org.apache.tinkerpop.gremlin.structure.Vertex, org.apache.tinkerpop.gremlin.structure.Vertex> traversal;
             if (label != null && !label.isEmpty()) {
                 traversal = tx.traversal().V().hasLabel(label);
             } else {
                 traversal = tx.traversal().V();
             }
+            traversal = orderBy(applyFilters(traversal, page), page)
+                    .range(page.getOffset(), (long) page.getOffset() + page.getLimit());
 
             // 执行查询并转换结果
             while (traversal.hasNext()) {
-                org.apache.tinkerpop.gremlin.structure.Vertex vertex = traversal.next();
-                Map<String, Object> vertexData = new HashMap<>();
-
-                vertexData.put("uid", vertex.property("uid").orElse("unknown"));
-                vertexData.put("label", vertex.label());
-
-                // 获取属性
-                Map<String, Object> props = new HashMap<>();
-                vertex.properties().forEachRemaining(prop -> {
-                    props.put(prop.key(), prop.value());
-                });
-                vertexData.put("properties", props);
-
-                vertices.add(vertexData);
+                vertices.add(vertexToMap(traversal.next()));
             }
 
             tx.rollback(); // 只读事务，回滚
@@ -652,42 +790,31 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
     }
 
     @Override
-    public List<Map<String, Object>> queryEdges(String graphName, String label) {
+    public List<Map<String, Object>> queryEdges(String graphName, QueryCondition condition) {
         if (!isConnected()) {
             throw new CoreException("JanusGraph连接未建立");
         }
 
         try {
-            org.janusgraph.core.JanusGraphTransaction tx = graph.newTransaction();
+            JanusGraphTransaction tx = beginTransaction();
 
             List<Map<String, Object>> edges = new ArrayList<>();
 
-            // 构建查询
+            // 构建查询，range()分页由遍历在取满当前页后停止
+            QueryCondition page = condition == null ? new QueryCondition() : condition;
+            String label = page.getLabel();
             org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal<org.apache.tinkerpop.gremlin.structure.Edge, org.apache.tinkerpop.gremlin.structure.Edge> traversal;
             if (label != null && !label.isEmpty()) {
                 traversal = tx.traversal().E().hasLabel(label);
             } else {
                 traversal = tx.traversal().E();
             }
+            traversal = orderBy(applyFilters(traversal, page), page)
+                    .range(page.getOffset(), (long) page.getOffset() + page.getLimit());
 
             // 执行查询并转换结果
             while (traversal.hasNext()) {
-                org.apache.tinkerpop.gremlin.structure.Edge edge = traversal.next();
-                Map<String, Object> edgeData = new HashMap<>();
-
-                edgeData.put("uid", edge.property("uid").orElse("unknown"));
-                edgeData.put("label", edge.label());
-                edgeData.put("sourceUid", edge.outVertex().property("uid").orElse("unknown"));
-                edgeData.put("targetUid", edge.inVertex().property("uid").orElse("unknown"));
-
-                // 获取属性
-                Map<String, Object> props = new HashMap<>();
-                edge.properties().forEachRemaining(prop -> {
-                    props.put(prop.key(), prop.value());
-                });
-                edgeData.put("properties", props);
-
-                edges.add(edgeData);
+                edges.add(edgeToMap(traversal.next()));
             }
 
             tx.rollback(); // 只读事务，回滚
@@ -697,6 +824,174 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
     }
 
+    /**
+     * JanusGraph不支持游标分页：按uid的范围条件及排序需要uid的混合索引（外部索引后端），
+     * 仅有组合索引时每页都要全量扫描并排序，且跳过没有uid属性的元素。请按页码查询或使用流式查询
+     */
+    @Override
+    public CursorPage<Map<String, Object>> scrollVertices(String graphName, QueryCondition condition) {
+        throw new CoreException("JanusGraph不支持游标分页，请按页码查询");
+    }
+
+    @Override
+    public CursorPage<Map<String, Object>> scrollEdges(String graphName, QueryCondition condition) {
+        throw new CoreException("JanusGraph不支持游标分页，请按页码查询");
+    }
+
+    /**
+     * 将属性过滤编译为has()步骤，等值条件可走组合索引，范围、IN及前缀条件需要混合索引
+     */
+    private static <E extends Element> GraphTraversal<E, E> applyFilters(GraphTraversal<E, E> traversal, QueryCondition page) {
+        for (PropertyFilter filter : page.toFilters()) {
+            Object value = filter.getValue();
+            P<?> predicate = switch (filter.getOperator()) {
+                case EQ -> P.eq(value);
+                case GT -> P.gt(value);
+                case GTE -> P.gte(value);
+                case LT -> P.lt(value);
+                case LTE -> P.lte(value);
+                case IN -> P.within(filter.getValues());
+                case PREFIX -> TextP.startingWith(String.valueOf(value));
+            };
+            traversal = traversal.has(filter.getProperty(), predicate);
+        }
+        return traversal;
+    }
+
+    private static <E extends Element> GraphTraversal<E, E> orderBy(GraphTraversal<E, E> traversal, QueryCondition page) {
+        if (!page.hasSort()) {
+            return traversal;
+        }
+        return traversal.order().by(page.getSortField(), page.isDescending() ? Order.desc : Order.asc);
+    }
+
+    /**
+     * 遍历结果惰性迭代，每个元素在消费时才从存储读取，只读事务在流关闭时回滚
+     */
+    @Override
+    public Stream<Map<String, Object>> streamVertices(String graphName, QueryCondition condition) {
+        if (!isConnected()) {
+            throw new CoreException("JanusGraph连接未建立");
+        }
+
+        QueryCondition page = condition == null ? new QueryCondition() : condition;
+        JanusGraphTransaction tx = beginTransaction();
+        try {
+            GraphTraversal<Vertex, Vertex> traversal = StringUtils.isEmpty(page.getLabel())
+                    ? tx.traversal().V() : tx.traversal().V().hasLabel(page.getLabel());
+            return orderBy(applyFilters(traversal, page), page).toStream()
+                    .map(this::vertexToMap)
+                    .onClose(tx::rollback);
+        } catch (Exception e) {
+            tx.rollback();
+            throw new CoreException("查询JanusGraph节点失败: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Stream<Map<String, Object>> streamEdges(String graphName, QueryCondition condition) {
+        if (!isConnected()) {
+            throw new CoreException("JanusGraph连接未建立");
+        }
+
+        QueryCondition page = condition == null ? new QueryCondition() : condition;
+        JanusGraphTransaction tx = beginTransaction();
+        try {
+            GraphTraversal<Edge, Edge> traversal = StringUtils.isEmpty(page.getLabel())
+                    ? tx.traversal().E() : tx.traversal().E().hasLabel(page.getLabel());
+            return orderBy(applyFilters(traversal, page), page).toStream()
+                    .map(this::edgeToMap)
+                    .onClose(tx::rollback);
+        } catch (Exception e) {
+            tx.rollback();
+            throw new CoreException("查询JanusGraph边失败: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getVertex(String graphName, String uid) {
+        return getVertex(graphName, null, uid);
+    }
+
+    /**
+     * 按uid获取节点，通过uid组合索引定位
+     */
+    @Override
+    public Map<String, Object> getVertex(String graphName, String label, String uid) {
+        if (!isConnected()) {
+            throw new CoreException("JanusGraph连接未建立");
+        }
+
+        JanusGraphTransaction tx = beginTransaction();
+        try {
+            org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal<org.apache.tinkerpop.gremlin.structure.Vertex, org.apache.tinkerpop.gremlin.structure.Vertex> traversal =
+                    StringUtils.isEmpty(label) ? tx.traversal().V().has(UID_KEY, uid) : tx.traversal().V().has(label, UID_KEY, uid);
+            return traversal.tryNext().map(this::vertexToMap).orElse(null);
+        } catch (Exception e) {
+            throw new CoreException("获取JanusGraph节点失败: " + e.getMessage(), e);
+        } finally {
+            tx.rollback(); // 只读事务，回滚
+        }
+    }
+
+    @Override
+    public Map<String, Object> getEdge(String graphName, String uid) {
+        return getEdge(graphName, null, uid);
+    }
+
+    /**
+     * 按uid获取边，通过uid组合索引定位
+     */
+    @Override
+    public Map<String, Object> getEdge(String graphName, String label, String uid) {
+        if (!isConnected()) {
+            throw new CoreException("JanusGraph连接未建立");
+        }
+
+        JanusGraphTransaction tx = beginTransaction();
+        try {
+            org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal<org.apache.tinkerpop.gremlin.structure.Edge, org.apache.tinkerpop.gremlin.structure.Edge> traversal =
+                    StringUtils.isEmpty(label) ? tx.traversal().E().has(UID_KEY, uid) : tx.traversal().E().has(label, UID_KEY, uid);
+            return traversal.tryNext().map(this::edgeToMap).orElse(null);
+        } catch (Exception e) {
+            throw new CoreException("获取JanusGraph边失败: " + e.getMessage(), e);
+        } finally {
+            tx.rollback(); // 只读事务，回滚
+        }
+    }
+
+    private Map<String, Object> vertexToMap(org.apache.tinkerpop.gremlin.structure.Vertex vertex) {
+        Map<String, Object> vertexData = new HashMap<>();
+
+        vertexData.put("uid", vertex.property("uid").orElse("unknown"));
+        vertexData.put("label", vertex.label());
+
+        // 获取属性
+        Map<String, Object> props = new HashMap<>();
+        vertex.properties().forEachRemaining(prop -> {
+            props.put(prop.key(), prop.value());
+        });
+        vertexData.put("properties", props);
+        return vertexData;
+    }
+
+    private Map<String, Object> edgeToMap(org.apache.tinkerpop.gremlin.structure.Edge edge) {
+        Map<String, Object> edgeData = new HashMap<>();
+
+        edgeData.put("uid", edge.property("uid").orElse("unknown"));
+        edgeData.put("label", edge.label());
+        edgeData.put("sourceUid", edge.outVertex().property("uid").orElse("unknown"));
+        edgeData.put("targetUid", edge.inVertex().property("uid").orElse("unknown"));
+
+        // 获取属性
+        Map<String, Object> props = new HashMap<>();
+        edge.properties().forEachRemaining(prop -> {
+            props.put(prop.key(), prop.value());
+        });
+        edgeData.put("properties", props);
+        return edgeData;
+    }
+
     @Override
     public String importFromCsv(String graphName, CsvImportConfig config, InputStream csvStream) {
         // JanusGraph没有内置的CSV导入工具，这里实现基本逻辑
@@ -727,15 +1022,20 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
     @Override
     public Map<String, Object> updateVertex(String graphName, String uid, Map<String, Object> properties) {
+        return updateVertex(graphName, null, uid, properties);
+    }
+
+    @Override
+    public Map<String, Object> updateVertex(String graphName, String label, String uid, Map<String, Object> properties) {
         if (!isConnected()) {
             throw new CoreException("JanusGraph连接未建立");
         }
 
         try {
-            org.janusgraph.core.JanusGraphTransaction tx = graph.newTransaction();
+            JanusGraphTransaction tx = beginTransaction();
 
             // 查找要更新的节点
-            org.apache.tinkerpop.gremlin.structure.Vertex vertex = tx.traversal().V().has("uid", uid).next();
+            org.apache.tinkerpop.gremlin.structure.Vertex vertex = findVertex(tx, label, uid);
 
             // 更新属性
             if (properties != null) {
@@ -760,15 +1060,20 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
     @Override
     public Map<String, Object> updateEdge(String graphName, String uid, Map<String, Object> properties) {
+        return updateEdge(graphName, null, uid, properties);
+    }
+
+    @Override
+    public Map<String, Object> updateEdge(String graphName, String label, String uid, Map<String, Object> properties) {
         if (!isConnected()) {
             throw new CoreException("JanusGraph连接未建立");
         }
 
         try {
-            org.janusgraph.core.JanusGraphTransaction tx = graph.newTransaction();
+            JanusGraphTransaction tx = beginTransaction();
 
             // 查找要更新的边
-            org.apache.tinkerpop.gremlin.structure.Edge edge = tx.traversal().E().has("uid", uid).next();
+            org.apache.tinkerpop.gremlin.structure.Edge edge = findEdge(tx, label, uid);
 
             // 更新属性
             if (properties != null) {
@@ -793,6 +1098,85 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
     }
 
+    /**
+     * 按uid查找节点，通过uid组合索引定位；已知标签时附加标签条件
+     */
+    private org.apache.tinkerpop.gremlin.structure.Vertex findVertex(JanusGraphTransaction tx, String label, String uid) {
+        return StringUtils.isEmpty(label)
+                ? tx.traversal().V().has(UID_KEY, uid).next()
+                : tx.traversal().V().has(label, UID_KEY, uid).next();
+    }
+
+    /**
+     * 按uid查找边，通过uid组合索引定位；已知类型时附加类型条件
+     */
+    private org.apache.tinkerpop.gremlin.structure.Edge findEdge(JanusGraphTransaction tx, String label, String uid) {
+        return StringUtils.isEmpty(label)
+                ? tx.traversal().E().has(UID_KEY, uid).next()
+                : tx.traversal().E().has(label, UID_KEY, uid).next();
+    }
+
+    @Override
+    public CompletionStage<GraphQueryResult> executeNativeQueryAsync(ConnectionConfig config, String graphName,
+                                                                     String queryLanguage, String queryStatement) {
+        return asyncExecutor.submit(() -> executeNativeQuery(config, graphName, queryLanguage, queryStatement));
+    }
+
+    @Override
+    public CompletionStage<List<Map<String, Object>>> queryVerticesAsync(String graphName, QueryCondition condition) {
+        return asyncExecutor.submit(() -> queryVertices(graphName, condition));
+    }
+
+    @Override
+    public CompletionStage<List<Map<String, Object>>> queryEdgesAsync(String graphName, QueryCondition condition) {
+        return asyncExecutor.submit(() -> queryEdges(graphName, condition));
+    }
+
+    /**
+     * Gremlin脚本在执行器线程上运行，超时或取消时中断该线程：遍历步骤检测到中断后停止，
+     * 执行线程在退出时回滚其线程绑定的事务
+     */
+    @Override
+    public GraphQueryResult executeNativeQuery(ConnectionConfig config, String graphName, String queryLanguage,
+                                               String queryStatement, QueryContext context) throws CoreException {
+        long timeoutMs = context.getRemainingMs();
+        long start = System.currentTimeMillis();
+        try {
+            return asyncExecutor.call(() -> {
+                // 取消动作在QueryContext的锁外执行，可能晚于查询结束；
+                // 中断与结束标记在同一把锁内判断，保证不会中断线程执行的下一个任务
+                Thread worker = Thread.currentThread();
+                boolean[] running = {true};
+                context.onCancel(() -> {
+                    synchronized (running) {
+                        if (running[0]) {
+                            worker.interrupt();
+                        }
+                    }
+                });
+                try {
+                    return executeNativeQuery(config, graphName, queryLanguage, queryStatement);
+                } finally {
+                    synchronized (running) {
+                        running[0] = false;
+                    }
+                    context.onCancel(null);
+                    // 清除取消时设置的中断标记，避免影响线程执行的下一个任务
+                    Thread.interrupted();
+                }
+            }, timeoutMs > 0 ? timeoutMs : Long.MAX_VALUE, true);
+        } catch (TimeoutException e) {
+            log.warn("Gremlin查询超时，已中断执行: queryId={}, timeoutMs={}", context.getQueryId(), timeoutMs);
+            return GraphQueryResult.timeout(timeoutMs);
+        } catch (RuntimeException e) {
+            if (context.isCancelled()) {
+                log.info("Gremlin查询已取消: queryId={}", context.getQueryId());
+                return GraphQueryResult.cancelled(System.currentTimeMillis() - start);
+            }
+            throw e;
+        }
+    }
+
     @Override
     public GraphQueryResult executeNativeQuery(ConnectionConfig config, String graphName,
                                                String queryLanguage, String queryStatement) throws CoreException {
@@ -817,32 +1201,26 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             engine.put("graph", graph);
             engine.put("g", graph.traversal());
 
-            Object queryResult;
+            // 处理查询结果，提取节点和边；脚本返回遍历时在事务内逐个读取，达到结果上限后停止
+            GraphQueryResultBuilder builder = new GraphQueryResultBuilder();
             try {
-                queryResult = engine.eval(queryStatement);
-            } catch (ScriptException e) {
-                throw new CoreException("Gremlin脚本执行失败: " + e.getMessage(), e);
+                Object queryResult;
+                try {
+                    queryResult = engine.eval(queryStatement);
+                } catch (ScriptException e) {
+                    throw new CoreException("Gremlin脚本执行失败: " + e.getMessage(), e);
+                }
+                extractGremlinGraphElements(queryResult, builder);
+                if (queryResult instanceof Traversal<?, ?> traversal) {
+                    traversal.close();
+                }
             } finally {
                 graph.tx().rollback(); // 只读事务，回滚
             }
-
-            // 处理查询结果，提取节点和边
-            List<com.graphdb.core.model.Vertex> vertices = new ArrayList<>();
-            List<com.graphdb.core.model.Edge> edges = new ArrayList<>();
-
-            extractGremlinGraphElements(queryResult, vertices, edges);
-
-            // 设置结果
-            result.setVertices(vertices);
-            result.setEdges(edges);
-
-            // 设置统计信息
-            GraphQueryResult.QueryStatistics stats = new GraphQueryResult.QueryStatistics();
-            stats.setResultRows(vertices.size() + edges.size());
-            stats.setStatus("SUCCESS");
-            result.setStatistics(stats);
-
-            return result;
+            if (builder.isTruncated()) {
+                log.warn("Gremlin查询结果超过上限，已截断");
+            }
+            return builder.build();
 
         } catch (Exception e) {
             // 设置错误信息
@@ -856,37 +1234,42 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
     }
 
     /**
-     * 从Gremlin查询结果中提取图元素（节点和边）
+     * 从Gremlin查询结果中提取图元素（节点和边），已收录的id不再转换
+     * @return 是否可以继续提取，达到结果上限时返回false
      */
-    private void extractGremlinGraphElements(Object queryResult, List<com.graphdb.core.model.Vertex> vertices, List<com.graphdb.core.model.Edge> edges) {
-        if (queryResult instanceof org.apache.tinkerpop.gremlin.structure.Vertex) {
+    private boolean extractGremlinGraphElements(Object queryResult, GraphQueryResultBuilder builder) {
+        if (queryResult instanceof Vertex gremlinVertex) {
             // 处理单个节点
-            Vertex gremlinVertex = (Vertex) queryResult;
-            com.graphdb.core.model.Vertex vertex = convertGremlinVertexToVertex(gremlinVertex);
-            if (!containsVertex(vertices, vertex.getUid())) {
-                vertices.add(vertex);
-            }
-        } else if (queryResult instanceof Edge) {
+            return builder.containsVertex(gremlinVertex.id().toString())
+                    || builder.addVertex(convertGremlinVertexToVertex(gremlinVertex));
+        } else if (queryResult instanceof Edge gremlinEdge) {
             // 处理单条边
-            Edge gremlinEdge = (Edge) queryResult;
-            com.graphdb.core.model.Edge edge = convertGremlinEdgeToEdge(gremlinEdge);
-            if (!containsEdge(edges, edge.getUid())) {
-                edges.add(edge);
-            }
-        } else if (queryResult instanceof List) {
-            // 处理列表
-            List<?> list = (List<?>) queryResult;
-            for (Object item : list) {
-                extractGremlinGraphElements(item, vertices, edges);
+            return builder.containsEdge(gremlinEdge.id().toString())
+                    || builder.addEdge(convertGremlinEdgeToEdge(gremlinEdge));
+        } else if (queryResult instanceof Path path) {
+            // 处理路径
+            return extractGremlinGraphElements(path.objects(), builder);
+        } else if (queryResult instanceof Iterable<?> items) {
+            // 处理列表、集合
+            return extractGremlinGraphElements(items.iterator(), builder);
+        } else if (queryResult instanceof Iterator<?> iterator) {
+            // 处理遍历结果，按需读取
+            while (iterator.hasNext()) {
+                if (!extractGremlinGraphElements(iterator.next(), builder)) {
+                    return false;
+                }
             }
         } else if (queryResult instanceof Map) {
             // 处理Map（可能包含路径或其他结构）
             Map<?, ?> map = (Map<?, ?>) queryResult;
             for (Object value : map.values()) {
-                extractGremlinGraphElements(value, vertices, edges);
+                if (!extractGremlinGraphElements(value, builder)) {
+                    return false;
+                }
             }
         }
         // 忽略其他类型的查询结果（如统计信息等）
+        return !builder.isTruncated();
     }
 
     /**
@@ -949,20 +1332,6 @@ public class JanusAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         return edge;
     }
 
-    /**
-     * 检查节点是否已存在
-     */
-    private boolean containsVertex(List<com.graphdb.core.model.Vertex> vertices, String uid) {
-        return vertices.stream().anyMatch(v -> uid.equals(v.getUid()));
-    }
-
-    /**
-     * 检查边是否已存在
-     */
-    private boolean containsEdge(List<com.graphdb.core.model.Edge> edges, String uid) {
-        return edges.stream().anyMatch(e -> uid.equals(e.getUid()));
-    }
-
     @Override
     public Map<String, Object> executeNativeQuery(String graphName, String query, DatabaseTypeEnum dbType) {
         try {
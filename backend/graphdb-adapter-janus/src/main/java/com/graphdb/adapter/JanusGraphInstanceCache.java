@@ -0,0 +1,236 @@
+package com.graphdb.adapter;
+
+import com.graphdb.core.exception.CoreException;
+import com.graphdb.core.model.ConnectionConfig;
+import com.graphdb.core.util.ConnectionParams;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JanusGraph实例缓存
+ * 按存储配置（后端、主机、端口、keyspace）缓存已打开的JanusGraph实例，
+ * 通过引用计数在多个连接及连接测试之间共享，引用归零且空闲超时后关闭
+ */
+@Slf4j
+@Component
+public class JanusGraphInstanceCache {
+
+    private final Map<String, CachedGraph> graphs = new ConcurrentHashMap<>();
+
+    @Value("${graphdb.janus.idle-evict-ms:600000}")
+    private long idleEvictMs;
+
+    /**
+     * 根据连接配置计算缓存键
+     * 键中包含凭据摘要（不含明文密码），密码错误或修改密码后不会复用以旧凭据打开的实例
+     * @param config 连接配置
+     * @return 缓存键
+     */
+    public String keyOf(ConnectionConfig config) {
+        return resolveStorageBackend(config) + "|" + config.getHost() + "|" + config.getPort()
+                + "|" + resolveKeyspace(config) + "|" + config.getUsername()
+                + "|" + credentialDigest(config.getUsername(), config.getPassword());
+    }
+
+    /**
+     * 凭据的SHA-256摘要（取前16位十六进制）
+     */
+    private static String credentialDigest(String username, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((username + "\u0000" + password).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256不可用", e);
+        }
+    }
+
+    /**
+     * 获取（必要时打开）JanusGraph实例并增加引用计数
+     * @param key 缓存键
+     * @param config 连接配置
+     * @return 已打开的JanusGraph实例
+     */
+    public JanusGraph acquire(String key, ConnectionConfig config) {
+        while (true) {
+            CachedGraph cached = graphs.computeIfAbsent(key, k -> new CachedGraph());
+            cached.lock.lock();
+            try {
+                if (cached.evicted) {
+                    continue;
+                }
+                if (cached.graph == null || !cached.graph.isOpen()) {
+                    try {
+                        cached.graph = open(config);
+                        log.info("打开JanusGraph实例: {}", key);
+                    } catch (Exception e) {
+                        cached.evicted = true;
+                        graphs.remove(key, cached);
+                        throw new CoreException("打开JanusGraph实例失败: " + e.getMessage(), e);
+                    }
+                }
+                cached.refCount++;
+                cached.lastReleaseTime = System.currentTimeMillis();
+                return cached.graph;
+            } finally {
+                cached.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 释放一次引用，实例保留在缓存中直到空闲超时
+     * @param key 缓存键
+     */
+    public void release(String key) {
+        CachedGraph cached = graphs.get(key);
+        if (cached == null) {
+            return;
+        }
+        cached.lock.lock();
+        try {
+            if (cached.refCount > 0) {
+                cached.refCount--;
+            }
+            cached.lastReleaseTime = System.currentTimeMillis();
+        } finally {
+            cached.lock.unlock();
+        }
+    }
+
+    /**
+     * 定期关闭引用计数为零且空闲超时的实例
+     */
+    @Scheduled(fixedDelayString = "${graphdb.janus.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        graphs.forEach((key, cached) -> {
+            cached.lock.lock();
+            try {
+                if (!cached.evicted && cached.refCount == 0 && now - cached.lastReleaseTime > idleEvictMs) {
+                    cached.evicted = true;
+                    graphs.remove(key, cached);
+                    closeQuietly(key, cached.graph);
+                    cached.graph = null;
+                }
+            } finally {
+                cached.lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 获取缓存状态快照
+     * @return 缓存键 -> 引用计数
+     */
+    public Map<String, Integer> getReferenceCounts() {
+        Map<String, Integer> snapshot = new HashMap<>();
+        graphs.forEach((key, cached) -> snapshot.put(key, cached.refCount));
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        for (String key : List.copyOf(graphs.keySet())) {
+            CachedGraph cached = graphs.remove(key);
+            if (cached != null) {
+                cached.lock.lock();
+                try {
+                    cached.evicted = true;
+                    closeQuietly(key, cached.graph);
+                    cached.graph = null;
+                } finally {
+                    cached.lock.unlock();
+                }
+            }
+        }
+    }
+
+    private JanusGraph open(ConnectionConfig config) {
+        String backend = resolveStorageBackend(config);
+        JanusGraphFactory.Builder builder = JanusGraphFactory.build()
+                .set("storage.backend", backend)
+                .set("storage.hostname", config.getHost())
+                .set("storage.port", config.getPort());
+
+        if (config.getUsername() != null) {
+            builder.set("storage.username", config.getUsername());
+        }
+        if (config.getPassword() != null) {
+            builder.set("storage.password", config.getPassword());
+        }
+
+        String keyspace = resolveKeyspace(config);
+        if (keyspace != null) {
+            if ("cql".equals(backend)) {
+                builder.set("storage.cql.keyspace", keyspace);
+            } else if ("hbase".equals(backend)) {
+                builder.set("storage.hbase.table", keyspace);
+            }
+        }
+        return builder.open();
+    }
+
+    private void closeQuietly(String key, JanusGraph graph) {
+        if (graph == null) {
+            return;
+        }
+        try {
+            graph.close();
+            log.info("关闭JanusGraph实例: {}", key);
+        } catch (Exception e) {
+            log.warn("关闭JanusGraph实例失败: {}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 解析存储后端：依次使用storageBackend、storageType、数据库类型
+     */
+    String resolveStorageBackend(ConnectionConfig config) {
+        String source = StringUtils.firstNonBlank(config.getStorageBackend(), config.getStorageType(), config.getType());
+        if (source != null) {
+            String type = source.toLowerCase();
+            if (type.contains("cassandra") || type.equals("cql")) {
+                return "cql";
+            } else if (type.contains("hbase")) {
+                return "hbase";
+            } else if (type.contains("berkeleyje")) {
+                return "berkeleyje";
+            }
+        }
+        // 默认使用inmemory存储用于测试
+        return "inmemory";
+    }
+
+    private String resolveKeyspace(ConnectionConfig config) {
+        ConnectionParams params = ConnectionParams.of(config);
+        return params.getString("keyspace", config.getDatabaseName());
+    }
+
+    /**
+     * 缓存的JanusGraph实例
+     */
+    private static class CachedGraph {
+        private final ReentrantLock lock = new ReentrantLock();
+        private JanusGraph graph;
+        private volatile int refCount;
+        private long lastReleaseTime = System.currentTimeMillis();
+        private boolean evicted;
+    }
+}
@@ -2,23 +2,39 @@ package com.graphdb.adapter;
 
 import com.graphdb.core.constant.DatabaseTypeEnum;
 import com.graphdb.core.exception.CoreException;
+import com.graphdb.core.interfaces.AsyncDataHandler;
+import com.graphdb.core.interfaces.AsyncGraphAdapter;
 import com.graphdb.core.interfaces.DataHandler;
 import com.graphdb.core.interfaces.GraphAdapter;
 import com.graphdb.core.interfaces.SchemaHandler;
 import com.graphdb.core.model.ConnectionConfig;
 import com.graphdb.core.model.CsvImportConfig;
+import com.graphdb.core.model.CursorPage;
 import com.graphdb.core.model.Edge;
 import com.graphdb.core.model.GraphQueryResult;
+import com.graphdb.core.model.GraphQueryResultBuilder;
 import com.graphdb.core.model.GraphSchema;
 import com.graphdb.core.model.LabelType;
+import com.graphdb.core.model.PoolStatus;
+import com.graphdb.core.model.PropertyFilter;
+import com.graphdb.core.model.QueryCondition;
+import com.graphdb.core.model.QueryContext;
 import com.graphdb.core.model.Vertex;
+import com.graphdb.core.util.BlockingCallExecutor;
+import com.graphdb.core.util.ConnectionParams;
+import com.graphdb.core.util.LatencyRecorder;
+import com.graphdb.core.util.UidGenerator;
 import com.vesoft.nebula.client.graph.NebulaPoolConfig;
+import com.vesoft.nebula.client.graph.SessionPool;
+import com.vesoft.nebula.client.graph.SessionPoolConfig;
 import com.vesoft.nebula.client.graph.data.HostAddress;
 import com.vesoft.nebula.client.graph.data.Node;
 import com.vesoft.nebula.client.graph.data.PathWrapper;
 import com.vesoft.nebula.client.graph.data.Relationship;
 import com.vesoft.nebula.client.graph.data.ResultSet;
 import com.vesoft.nebula.client.graph.data.ValueWrapper;
+import com.vesoft.nebula.client.graph.exception.IOErrorException;
+import com.vesoft.nebula.client.graph.exception.NotValidConnectionException;
 import com.vesoft.nebula.client.graph.net.NebulaPool;
 import com.vesoft.nebula.client.graph.net.Session;
 import org.springframework.stereotype.Service;
@@ -29,6 +45,16 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 // import static com.vesoft.nebula.client.graph.net.NebulaPool.getSession; // 移除不正确的静态导入
@@ -37,12 +63,55 @@ import java.util.stream.Collectors;
  * NebulaGraph适配器实现
  */
 @Service
-public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
+public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler, AsyncGraphAdapter, AsyncDataHandler {
 
-    private NebulaPool pool;
-    private Session session;
-    private boolean connected;
-    private String currentGraph;
+    /**
+     * 默认会话池参数，可通过ConnectionConfig.extraParams覆盖
+     */
+    private static final int DEFAULT_MIN_SESSION_SIZE = 1;
+    private static final int DEFAULT_MAX_SESSION_SIZE = 10;
+    private static final int DEFAULT_SESSION_IDLE_SECONDS = 600;
+    private static final int DEFAULT_SESSION_WAIT_MS = 3000;
+    private static final long DEFAULT_SPACE_POOL_IDLE_MS = 30 * 60 * 1000L;
+    private static final long SPACE_POOL_SWEEP_INTERVAL_MS = 60 * 1000L;
+
+    /**
+     * 异步接口的执行器，Nebula Java客户端没有异步执行API，阻塞调用在该线程池上执行；
+     * 适配器按连接创建，每个连接独占一个执行器，某个集群阻塞时不会占满其他连接的线程，空闲线程超时后回收
+     */
+    private final BlockingCallExecutor asyncExecutor = new BlockingCallExecutor("nebula-async", 32, 1000);
+
+    /**
+     * 超时查询终止任务的重试间隔（毫秒）
+     */
+    private static final long KILL_RETRY_INTERVAL_MS = 1000;
+
+    private static final ScheduledExecutorService KILL_SCHEDULER = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "nebula-query-killer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 不绑定图空间的连接池，仅用于SHOW SPACES、CREATE/DROP SPACE等空间无关语句
+     */
+    private volatile NebulaPool pool;
+
+    /**
+     * 图空间 -> 会话池，每个图空间独立维护会话，避免在共享会话上切换USE
+     */
+    private final Map<String, SpaceSessionPool> spacePools = new ConcurrentHashMap<>();
+
+    private volatile ConnectionConfig connectionConfig;
+    private volatile boolean connected;
+    private volatile long lastSweepTime = System.currentTimeMillis();
+    private volatile int maxConnSize;
+
+    /**
+     * 空间无关会话的获取耗时及失败次数
+     */
+    private final LatencyRecorder acquireLatency = new LatencyRecorder();
+    private final LongAdder acquireFailures = new LongAdder();
 
     public NebulaAdapter() {
         // 初始化连接池
@@ -81,27 +150,30 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
     @Override
     public void connect(ConnectionConfig config) {
         try {
+            ConnectionParams params = ConnectionParams.of(config);
             NebulaPoolConfig poolConfig = new NebulaPoolConfig();
-            poolConfig.setMaxConnSize(10);
-            poolConfig.setMinConnSize(2);
+            maxConnSize = params.getInt("maxConnSize", 10);
+            poolConfig.setMaxConnSize(maxConnSize);
+            poolConfig.setMinConnSize(params.getInt("minConnSize", 1));
             poolConfig.setIdleTime(1000 * 60 * 60 * 2);
 
-            pool = new NebulaPool();
-            List<HostAddress> addresses = Arrays.asList(
-                    new HostAddress(config.getHost(), config.getPort())
-            );
+            NebulaPool newPool = new NebulaPool();
+            if (!newPool.init(buildAddresses(config), poolConfig)) {
+                newPool.close();
+                throw new CoreException("NebulaGraph连接池初始化失败");
+            }
 
-            pool.init(addresses, poolConfig);
-            session = pool.getSession(config.getUsername(), config.getPassword(), false);
+            pool = newPool;
+            connectionConfig = config;
+            connected = true;
 
-            // 设置当前图空间
-            currentGraph = config.getDatabaseName() != null ? config.getDatabaseName() : "test";
+            // 预先创建默认图空间的会话池
             if (config.getDatabaseName() != null) {
-                session.execute("USE " + config.getDatabaseName());
+                createSpacePool(config.getDatabaseName());
             }
-
-            connected = true;
             System.out.println("成功连接到NebulaGraph: " + config.getHost() + ":" + config.getPort());
+        } catch (CoreException e) {
+            throw e;
         } catch (Exception e) {
             throw new CoreException("NebulaGraph连接失败: " + e.getMessage(), e);
         }
@@ -109,22 +181,293 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
     @Override
     public void disconnect() {
-        if (session != null) {
-            session.release();
-            session = null;
+        connected = false;
+        for (String space : List.copyOf(spacePools.keySet())) {
+            closeSpacePool(space);
         }
-        if (pool != null) {
-            pool.close();
-            pool = null;
+        NebulaPool current = pool;
+        pool = null;
+        if (current != null) {
+            current.close();
         }
-        connected = false;
-        currentGraph = null;
         System.out.println("已断开NebulaGraph连接");
     }
 
     @Override
     public boolean isConnected() {
-        return connected && pool != null && session != null;
+        return connected && pool != null;
+    }
+
+    @Override
+    public boolean ping() throws CoreException {
+        if (!isConnected()) {
+            return false;
+        }
+        ResultSet resultSet = executeWithoutSpace("SHOW HOSTS");
+        if (!resultSet.isSucceeded()) {
+            throw new CoreException("NebulaGraph健康探测失败: " + resultSet.getErrorMessage());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isUnavailableError(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof IOErrorException || t instanceof NotValidConnectionException) {
+                return true;
+            }
+        }
+        return GraphAdapter.super.isUnavailableError(error);
+    }
+
+    /**
+     * 除连接故障外，会话失效（graphd重启或会话超时被回收）时重新执行即可获取新会话
+     */
+    @Override
+    public boolean isTransientError(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            String message = t.getMessage();
+            if (message != null && (message.contains("E_SESSION_INVALID") || message.contains("Session not existed"))) {
+                return true;
+            }
+        }
+        return isUnavailableError(error);
+    }
+
+    private List<HostAddress> buildAddresses(ConnectionConfig config) {
+        return Arrays.asList(new HostAddress(config.getHost(), config.getPort()));
+    }
+
+    /**
+     * 解析语句所属的图空间：优先使用传入的图名称，其次使用连接配置的默认数据库
+     */
+    private String resolveSpace(String graphName) {
+        if (graphName != null && !graphName.isEmpty()) {
+            return graphName;
+        }
+        ConnectionConfig config = connectionConfig;
+        return config != null ? config.getDatabaseName() : null;
+    }
+
+    /**
+     * 在指定图空间的会话池上执行语句，未指定图空间时使用空间无关会话
+     */
+    private ResultSet executeInSpace(String graphName, String statement) {
+        String space = resolveSpace(graphName);
+        if (space == null) {
+            return executeWithoutSpace(statement);
+        }
+        SpaceSessionPool spacePool = acquireSpacePool(space);
+        try {
+            return spacePool.sessionPool.execute(statement);
+        } catch (Exception e) {
+            if (e.getMessage() != null && e.getMessage().contains("no extra session available")) {
+                // 等待sessionWaitTimeMs后仍无空闲会话
+                spacePool.waitTimeouts.increment();
+            }
+            throw new CoreException("在图空间" + space + "执行nGQL失败: " + e.getMessage(), e);
+        } finally {
+            spacePool.lastUsedTime = System.currentTimeMillis();
+            spacePool.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 借用一个空间无关会话执行语句，执行完成后立即归还
+     */
+    private ResultSet executeWithoutSpace(String statement) {
+        NebulaPool current = pool;
+        ConnectionConfig config = connectionConfig;
+        if (current == null || config == null) {
+            throw new CoreException("NebulaGraph连接未建立");
+        }
+        Session adminSession = null;
+        long start = System.currentTimeMillis();
+        try {
+            try {
+                adminSession = current.getSession(config.getUsername(), config.getPassword(), false);
+            } catch (Exception e) {
+                acquireFailures.increment();
+                throw e;
+            }
+            acquireLatency.record(System.currentTimeMillis() - start);
+            return adminSession.execute(statement);
+        } catch (Exception e) {
+            throw new CoreException("执行nGQL失败: " + e.getMessage(), e);
+        } finally {
+            if (adminSession != null) {
+                adminSession.release();
+            }
+        }
+    }
+
+    /**
+     * 借用图空间对应的会话池，不存在时创建；使用完毕后须递减inFlight
+     * 借用计数与最近使用时间在映射的原子更新内设置，空闲清理不会关闭正在被借用的会话池
+     */
+    private SpaceSessionPool acquireSpacePool(String space) {
+        sweepIdleSpacePools();
+        while (true) {
+            SpaceSessionPool acquired = spacePools.computeIfPresent(space, (key, spacePool) -> {
+                spacePool.inFlight.incrementAndGet();
+                spacePool.lastUsedTime = System.currentTimeMillis();
+                return spacePool;
+            });
+            if (acquired != null) {
+                return acquired;
+            }
+            createSpacePool(space);
+        }
+    }
+
+    /**
+     * 创建图空间对应的会话池，已存在时直接返回
+     * 每个会话池的最小/最大会话数及空闲清理时间由extraParams配置：
+     * minSessionSize、maxSessionSize、sessionIdleSeconds、sessionWaitTimeMs、spacePoolIdleMs
+     */
+    private SpaceSessionPool createSpacePool(String space) {
+        SpaceSessionPool existing = spacePools.get(space);
+        if (existing != null) {
+            return existing;
+        }
+        ConnectionConfig config = connectionConfig;
+        if (!connected || config == null) {
+            throw new CoreException("NebulaGraph连接未建立");
+        }
+
+        ConnectionParams params = ConnectionParams.of(config);
+        SessionPoolConfig sessionPoolConfig = new SessionPoolConfig(
+                buildAddresses(config), space, config.getUsername(), config.getPassword());
+        sessionPoolConfig.setMinSessionSize(params.getInt("minSessionSize", DEFAULT_MIN_SESSION_SIZE));
+        sessionPoolConfig.setMaxSessionSize(params.getInt("maxSessionSize", DEFAULT_MAX_SESSION_SIZE));
+        sessionPoolConfig.setCleanTime(params.getInt("sessionIdleSeconds", DEFAULT_SESSION_IDLE_SECONDS));
+        sessionPoolConfig.setWaitTime(params.getInt("sessionWaitTimeMs", DEFAULT_SESSION_WAIT_MS));
+
+        // 构造时即按最小会话数建立会话
+        SessionPool sessionPool = new SessionPool(sessionPoolConfig);
+        if (!sessionPool.isActive()) {
+            sessionPool.close();
+            throw new CoreException("初始化图空间会话池失败: " + space);
+        }
+
+        SpaceSessionPool created = new SpaceSessionPool(sessionPool, sessionPoolConfig.getMaxSessionSize());
+        SpaceSessionPool raced = spacePools.putIfAbsent(space, created);
+        if (raced != null) {
+            // 并发创建时保留先放入的会话池
+            sessionPool.close();
+            return raced;
+        }
+        System.out.println("创建Nebula图空间会话池: " + space);
+        return created;
+    }
+
+    /**
+     * 关闭并移除图空间对应的会话池
+     */
+    private void closeSpacePool(String space) {
+        SpaceSessionPool removed = spacePools.remove(space);
+        if (removed != null) {
+            removed.sessionPool.close();
+        }
+    }
+
+    /**
+     * 关闭长时间未使用的图空间会话池，最多每分钟检查一次
+     */
+    private void sweepIdleSpacePools() {
+        long now = System.currentTimeMillis();
+        if (now - lastSweepTime < SPACE_POOL_SWEEP_INTERVAL_MS) {
+            return;
+        }
+        lastSweepTime = now;
+        ConnectionConfig config = connectionConfig;
+        long idleMs = ConnectionParams.of(config).getLong("spacePoolIdleMs", DEFAULT_SPACE_POOL_IDLE_MS);
+        String defaultSpace = config != null ? config.getDatabaseName() : null;
+        for (String space : List.copyOf(spacePools.keySet())) {
+            if (space.equals(defaultSpace)) {
+                continue;
+            }
+            SpaceSessionPool[] removed = new SpaceSessionPool[1];
+            // 与acquireSpacePool在同一键上原子执行：有借用中的调用或最近被使用时保留
+            spacePools.computeIfPresent(space, (key, spacePool) -> {
+                if (spacePool.inFlight.get() > 0 || now - spacePool.lastUsedTime <= idleMs) {
+                    return spacePool;
+                }
+                removed[0] = spacePool;
+                return null;
+            });
+            if (removed[0] != null) {
+                removed[0].sessionPool.close();
+                System.out.println("关闭空闲的Nebula图空间会话池: " + space);
+            }
+        }
+    }
+
+    /**
+     * 图空间会话池及其借用计数、最近使用时间
+     */
+    private static class SpaceSessionPool {
+        private final SessionPool sessionPool;
+        private final int maxSessionSize;
+        private final LongAdder waitTimeouts = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile long lastUsedTime = System.currentTimeMillis();
+
+        SpaceSessionPool(SessionPool sessionPool, int maxSessionSize) {
+            this.sessionPool = sessionPool;
+            this.maxSessionSize = maxSessionSize;
+        }
+    }
+
+    /**
+     * 汇总空间无关连接池及各图空间会话池的状态
+     * 获取耗时分位数仅覆盖空间无关会话，图空间会话的获取发生在SessionPool.execute内部
+     */
+    @Override
+    public PoolStatus getPoolStatus() {
+        NebulaPool current = pool;
+        if (current == null) {
+            return null;
+        }
+        int inUse = current.getActiveConnNum();
+        int idle = current.getIdleConnNum();
+        int maxSize = maxConnSize;
+        long timeouts = acquireFailures.sum();
+        Map<String, Object> spaces = new HashMap<>();
+        for (Map.Entry<String, SpaceSessionPool> entry : spacePools.entrySet()) {
+            SpaceSessionPool spacePool = entry.getValue();
+            int sessions = spacePool.sessionPool.getSessionNums();
+            int idleSessions = spacePool.sessionPool.getIdleSessionNums();
+            inUse += sessions - idleSessions;
+            idle += idleSessions;
+            maxSize += spacePool.maxSessionSize;
+            timeouts += spacePool.waitTimeouts.sum();
+            Map<String, Object> spaceStatus = new HashMap<>();
+            spaceStatus.put("sessions", sessions);
+            spaceStatus.put("idleSessions", idleSessions);
+            spaceStatus.put("maxSessions", spacePool.maxSessionSize);
+            spaceStatus.put("waitTimeouts", spacePool.waitTimeouts.sum());
+            spaces.put(entry.getKey(), spaceStatus);
+        }
+
+        PoolStatus status = new PoolStatus();
+        status.setDatabaseType(getDatabaseType().name());
+        status.setInUse(inUse);
+        status.setIdle(idle);
+        status.setMaxSize(maxSize);
+        status.setPending(current.getWaitersNum());
+        status.setAcquired(acquireLatency.getCount());
+        status.setAcquisitionTimeouts(timeouts);
+        status.setAvgAcquisitionMs(acquireLatency.getAverage());
+        long[] percentiles = acquireLatency.percentiles(50, 95, 99);
+        if (percentiles != null) {
+            status.setP50AcquisitionMs(percentiles[0]);
+            status.setP95AcquisitionMs(percentiles[1]);
+            status.setP99AcquisitionMs(percentiles[2]);
+        }
+        status.getDetails().put("spaces", spaces);
+        status.setTimestamp(System.currentTimeMillis());
+        return status;
     }
 
     // DataHandler 接口实现
@@ -136,10 +479,10 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
         try {
             // 生成唯一ID
-            String uid = "vertex_" + System.currentTimeMillis();
+            String uid = UidGenerator.next("vertex_");
 
             // 构建创建节点的nGQL查询
-            StringBuilder queryBuilder = new StringBuilder("INSERT VERTEX `" + label + "` VALUES \"" + uid + "\":");
+            StringBuilder queryBuilder = new StringBuilder("INSERT VERTEX " + quoteName(label) + " VALUES " + formatValue(uid) + ":");
 
             if (properties != null && !properties.isEmpty()) {
                 boolean first = true;
@@ -153,7 +496,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             }
             queryBuilder.append(";");
 
-            ResultSet result = session.execute(queryBuilder.toString());
+            ResultSet result = executeInSpace(graphName, queryBuilder.toString());
             if (!result.isSucceeded()) {
                 throw new CoreException("创建节点失败: " + result.getErrorMessage());
             }
@@ -177,11 +520,12 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            // 生成唯一ID
-            String uid = "edge_" + System.currentTimeMillis();
+            // 边的uid即边的主键（类型+起点+终点），可直接定位
+            String uid = edgeUid(label, sourceUid, targetUid);
 
             // 构建创建边的nGQL查询
-            StringBuilder queryBuilder = new StringBuilder("INSERT EDGE `" + label + "` VALUES \"" + sourceUid + "\"->\"" + targetUid + "\"");
+            StringBuilder queryBuilder = new StringBuilder("INSERT EDGE " + quoteName(label) + " VALUES " + formatValue(sourceUid) + "->"
+                    + formatValue(targetUid));
 
             if (properties != null && !properties.isEmpty()) {
                 queryBuilder.append("(");
@@ -197,7 +541,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             }
             queryBuilder.append(";");
 
-            ResultSet result = session.execute(queryBuilder.toString());
+            ResultSet result = executeInSpace(graphName, queryBuilder.toString());
             if (!result.isSucceeded()) {
                 throw new CoreException("创建边失败: " + result.getErrorMessage());
             }
@@ -224,8 +568,8 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
         try {
             // 删除节点及其所有边
-            String query = "DELETE VERTEX \"" + uid + "\";";
-            ResultSet result = session.execute(query);
+            String query = "DELETE VERTEX " + formatValue(uid) + ";";
+            ResultSet result = executeInSpace(graphName, query);
             if (!result.isSucceeded()) {
                 throw new CoreException("删除节点失败: " + result.getErrorMessage());
             }
@@ -241,22 +585,12 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            // NebulaGraph删除边需要知道源节点、目标节点和边类型
-            // 假设uid格式为 "edge_edgeType_sourceVertexId_targetVertexId"
-            if (uid != null && uid.startsWith("edge_")) {
-                String[] parts = uid.substring(5).split("_", 3);
-                if (parts.length == 3) {
-                    String edgeType = parts[0];
-                    String sourceId = parts[1];
-                    String targetId = parts[2];
-
-                    // 删除指定边
-                    String query = String.format("DELETE EDGE `%s` \"%s\"->\"%s\";", edgeType, sourceId, targetId);
-                    ResultSet result = session.execute(query);
-                    if (!result.isSucceeded()) {
-                        throw new CoreException("删除边失败: " + result.getErrorMessage());
-                    }
-                }
+            // NebulaGraph按边的主键（类型+起点+终点）删除边，主键从uid中解析
+            String[] key = parseEdgeUid(uid);
+            String query = "DELETE EDGE " + quoteName(key[0]) + " " + formatValue(key[1]) + "->" + formatValue(key[2]) + ";";
+            ResultSet result = executeInSpace(graphName, query);
+            if (!result.isSucceeded()) {
+                throw new CoreException("删除边失败: " + result.getErrorMessage());
             }
         } catch (Exception e) {
             throw new CoreException("删除Nebula边失败: " + e.getMessage(), e);
@@ -264,20 +598,20 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
     }
 
     @Override
-    public List<Map<String, Object>> queryVertices(String graphName, String label) {
+    public List<Map<String, Object>> queryVertices(String graphName, QueryCondition condition) {
         if (!isConnected()) {
             throw new CoreException("NebulaGraph连接未建立");
         }
 
         try {
-            String query;
-            if (label != null && !label.isEmpty()) {
-                query = "MATCH (v:`" + label + "`) RETURN v LIMIT 100;";
-            } else {
-                query = "MATCH (v) RETURN v LIMIT 100;";
-            }
-
-            ResultSet result = session.execute(query);
+            QueryCondition page = condition == null ? new QueryCondition() : condition;
+            String label = page.getLabel();
+            String pattern = vertexPattern(label);
+            List<String> predicates = filterPredicates(page, property -> vertexProperty(label, property));
+            String query = "MATCH " + pattern + whereClause(predicates) + " RETURN v"
+                    + orderClause(page, property -> vertexProperty(label, property)) + pageClause(page) + ";";
+
+            ResultSet result = executeInSpace(graphName, query);
             if (!result.isSucceeded()) {
                 throw new CoreException("查询节点失败: " + result.getErrorMessage());
             }
@@ -286,10 +620,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             for (int i = 0; i < result.rowsSize(); i++) {
                 ValueWrapper vertexWrapper = result.rowValues(i).get(0);
                 if (vertexWrapper.isVertex()) {
-                    Map<String, Object> vertex = new HashMap<>();
-                    // 解析顶点数据
-                    // 实际实现中需要更复杂的解析逻辑
-                    vertices.add(vertex);
+                    vertices.add(vertexToMap(convertNebulaVertexToVertex(vertexWrapper.asNode())));
                 }
             }
 
@@ -299,21 +630,71 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
     }
 
+    /**
+     * 按VID做键集分页：WHERE id(v) > after ORDER BY id(v) LIMIT n
+     */
+    @Override
+    public CursorPage<Map<String, Object>> scrollVertices(String graphName, QueryCondition condition) {
+        if (!isConnected()) {
+            throw new CoreException("NebulaGraph连接未建立");
+        }
+
+        try {
+            QueryCondition page = condition == null ? new QueryCondition() : condition;
+            String label = page.getLabel();
+            String pattern = vertexPattern(label);
+            List<String> predicates = filterPredicates(page, property -> vertexProperty(label, property));
+            if (page.getAfterKey() != null) {
+                predicates.add(0, "id(v) > " + formatValue(page.getAfterKey()));
+            }
+            String query = "MATCH " + pattern + whereClause(predicates)
+                    + " RETURN v, id(v) AS k ORDER BY k LIMIT " + page.getLimit() + ";";
+
+            ResultSet result = executeInSpace(graphName, query);
+            if (!result.isSucceeded()) {
+                throw new CoreException("查询节点失败: " + result.getErrorMessage());
+            }
+
+            List<Map<String, Object>> vertices = new ArrayList<>();
+            for (int i = 0; i < result.rowsSize(); i++) {
+                ValueWrapper vertexWrapper = result.rowValues(i).get(0);
+                if (vertexWrapper.isVertex()) {
+                    vertices.add(vertexToMap(convertNebulaVertexToVertex(vertexWrapper.asNode())));
+                }
+            }
+            return new CursorPage<>(vertices, nextKey(vertices, page));
+        } catch (Exception e) {
+            throw new CoreException("查询Nebula节点失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 按边主键（类型、起点、终点）做键集分页，游标为上一页最后一条边的uid
+     */
     @Override
-    public List<Map<String, Object>> queryEdges(String graphName, String label) {
+    public CursorPage<Map<String, Object>> scrollEdges(String graphName, QueryCondition condition) {
         if (!isConnected()) {
             throw new CoreException("NebulaGraph连接未建立");
         }
 
         try {
-            String query;
-            if (label != null && !label.isEmpty()) {
-                query = "MATCH ()-[e:`" + label + "`]->() RETURN e LIMIT 100;";
-            } else {
-                query = "MATCH ()-[e]->() RETURN e LIMIT 100;";
+            QueryCondition page = condition == null ? new QueryCondition() : condition;
+            String label = page.getLabel();
+            String pattern = edgePattern(label);
+            List<String> predicates = filterPredicates(page, NebulaAdapter::edgeProperty);
+            if (page.getAfterKey() != null) {
+                String[] key = parseEdgeUid(page.getAfterKey());
+                String type = formatValue(key[0]);
+                String src = formatValue(key[1]);
+                String dst = formatValue(key[2]);
+                predicates.add(0, "(type(e) > " + type + " OR (type(e) == " + type + " AND (src(e) > " + src
+                        + " OR (src(e) == " + src + " AND dst(e) > " + dst + "))))");
             }
+            String query = "MATCH " + pattern + whereClause(predicates)
+                    + " RETURN e, type(e) AS k1, src(e) AS k2, dst(e) AS k3 ORDER BY k1, k2, k3 LIMIT "
+                    + page.getLimit() + ";";
 
-            ResultSet result = session.execute(query);
+            ResultSet result = executeInSpace(graphName, query);
             if (!result.isSucceeded()) {
                 throw new CoreException("查询边失败: " + result.getErrorMessage());
             }
@@ -322,10 +703,102 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             for (int i = 0; i < result.rowsSize(); i++) {
                 ValueWrapper edgeWrapper = result.rowValues(i).get(0);
                 if (edgeWrapper.isEdge()) {
-                    Map<String, Object> edge = new HashMap<>();
-                    // 解析边数据
-                    // 实际实现中需要更复杂的解析逻辑
-                    edges.add(edge);
+                    edges.add(edgeToMap(convertNebulaEdgeToEdge(edgeWrapper.asRelationship())));
+                }
+            }
+            return new CursorPage<>(edges, nextKey(edges, page));
+        } catch (Exception e) {
+            throw new CoreException("查询Nebula边失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 取满一页时以最后一条的uid作为下一页游标，否则已到末尾
+     */
+    private static String nextKey(List<Map<String, Object>> items, QueryCondition page) {
+        return items.size() < page.getLimit() ? null : String.valueOf(items.get(items.size() - 1).get("uid"));
+    }
+
+    /**
+     * 按VID直接获取节点
+     */
+    @Override
+    public Map<String, Object> getVertex(String graphName, String uid) {
+        return getVertex(graphName, null, uid);
+    }
+
+    @Override
+    public Map<String, Object> getVertex(String graphName, String label, String uid) {
+        if (!isConnected()) {
+            throw new CoreException("NebulaGraph连接未建立");
+        }
+
+        try {
+            String tags = label != null && !label.isEmpty() ? quoteName(label) : "*";
+            String query = "FETCH PROP ON " + tags + " " + formatValue(uid) + " YIELD vertex AS v;";
+            ResultSet result = executeInSpace(graphName, query);
+            if (!result.isSucceeded()) {
+                throw new CoreException("获取节点失败: " + result.getErrorMessage());
+            }
+            if (result.rowsSize() == 0) {
+                return null;
+            }
+            return vertexToMap(convertNebulaVertexToVertex(result.rowValues(0).get(0).asNode()));
+        } catch (Exception e) {
+            throw new CoreException("获取Nebula节点失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 按边的主键（类型+起点+终点）直接获取边
+     */
+    @Override
+    public Map<String, Object> getEdge(String graphName, String uid) {
+        if (!isConnected()) {
+            throw new CoreException("NebulaGraph连接未建立");
+        }
+
+        try {
+            String[] key = parseEdgeUid(uid);
+            String query = "FETCH PROP ON " + quoteName(key[0]) + " " + formatValue(key[1]) + "->" + formatValue(key[2])
+                    + " YIELD edge AS e;";
+            ResultSet result = executeInSpace(graphName, query);
+            if (!result.isSucceeded()) {
+                throw new CoreException("获取边失败: " + result.getErrorMessage());
+            }
+            if (result.rowsSize() == 0) {
+                return null;
+            }
+            return edgeToMap(convertNebulaEdgeToEdge(result.rowValues(0).get(0).asRelationship()));
+        } catch (Exception e) {
+            throw new CoreException("获取Nebula边失败: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> queryEdges(String graphName, QueryCondition condition) {
+        if (!isConnected()) {
+            throw new CoreException("NebulaGraph连接未建立");
+        }
+
+        try {
+            QueryCondition page = condition == null ? new QueryCondition() : condition;
+            String label = page.getLabel();
+            String pattern = edgePattern(label);
+            List<String> predicates = filterPredicates(page, NebulaAdapter::edgeProperty);
+            String query = "MATCH " + pattern + whereClause(predicates) + " RETURN e"
+                    + orderClause(page, NebulaAdapter::edgeProperty) + pageClause(page) + ";";
+
+            ResultSet result = executeInSpace(graphName, query);
+            if (!result.isSucceeded()) {
+                throw new CoreException("查询边失败: " + result.getErrorMessage());
+            }
+
+            List<Map<String, Object>> edges = new ArrayList<>();
+            for (int i = 0; i < result.rowsSize(); i++) {
+                ValueWrapper edgeWrapper = result.rowValues(i).get(0);
+                if (edgeWrapper.isEdge()) {
+                    edges.add(edgeToMap(convertNebulaEdgeToEdge(edgeWrapper.asRelationship())));
                 }
             }
 
@@ -360,19 +833,151 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
     }
 
+    /**
+     * 边uid：NebulaGraph的边没有独立ID，以边的主键（类型、起点VID、终点VID，rank为0）作为uid，
+     * 格式为 edge_类型:起点->终点
+     */
+    private static String edgeUid(String edgeType, String sourceId, String targetId) {
+        return "edge_" + edgeType + ":" + sourceId + "->" + targetId;
+    }
+
+    /**
+     * 从边uid解析边的主键
+     * @return [边类型, 起点VID, 终点VID]
+     */
+    private static String[] parseEdgeUid(String uid) {
+        if (uid != null && uid.startsWith("edge_")) {
+            int typeEnd = uid.indexOf(':', 5);
+            int arrow = typeEnd > 0 ? uid.indexOf("->", typeEnd + 1) : -1;
+            if (arrow > 0) {
+                return new String[]{uid.substring(5, typeEnd), uid.substring(typeEnd + 1, arrow), uid.substring(arrow + 2)};
+            }
+        }
+        throw new CoreException("无效的边uid: " + uid);
+    }
+
+    /**
+     * MATCH的节点模式，指定标签时按该tag匹配
+     */
+    private static String vertexPattern(String label) {
+        return label != null && !label.isEmpty() ? "(v:" + quoteName(label) + ")" : "(v)";
+    }
+
+    /**
+     * MATCH的边模式，指定类型时按该edge type匹配
+     */
+    private static String edgePattern(String label) {
+        return label != null && !label.isEmpty() ? "()-[e:" + quoteName(label) + "]->()" : "()-[e]->()";
+    }
+
+    /**
+     * 节点属性引用：已知标签时为v.`tag`.`prop`，可命中该tag上的属性索引
+     */
+    private static String vertexProperty(String label, String property) {
+        if (label != null && !label.isEmpty()) {
+            return "v." + quoteName(label) + "." + quoteName(property);
+        }
+        return "properties(v)." + quoteName(property);
+    }
+
+    private static String edgeProperty(String property) {
+        return "e." + quoteName(property);
+    }
+
+    /**
+     * 将属性过滤编译为nGQL谓词，指定标签时由MATCH使用tag/edge索引过滤
+     */
+    private List<String> filterPredicates(QueryCondition page, Function<String, String> propertyRef) {
+        List<String> predicates = new ArrayList<>();
+        for (PropertyFilter filter : page.toFilters()) {
+            String property = propertyRef.apply(filter.getProperty());
+            Object value = filter.getValue();
+            predicates.add(switch (filter.getOperator()) {
+                case EQ -> property + " == " + formatValue(value);
+                case GT -> property + " > " + formatValue(value);
+                case GTE -> property + " >= " + formatValue(value);
+                case LT -> property + " < " + formatValue(value);
+                case LTE -> property + " <= " + formatValue(value);
+                case IN -> property + " IN [" + filter.getValues().stream().map(this::formatValue)
+                        .collect(Collectors.joining(", ")) + "]";
+                case PREFIX -> property + " STARTS WITH " + formatValue(String.valueOf(value));
+            });
+        }
+        return predicates;
+    }
+
+    private static String whereClause(List<String> predicates) {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    /**
+     * 排序子句，ORDER BY作用于RETURN的结果列，排序值作为额外列返回
+     */
+    private static String orderClause(QueryCondition page, Function<String, String> propertyRef) {
+        if (!page.hasSort()) {
+            return "";
+        }
+        return ", " + propertyRef.apply(page.getSortField()) + " AS sortKey ORDER BY sortKey"
+                + (page.isDescending() ? " DESC" : " ASC");
+    }
+
+    /**
+     * 分页子句，由存储层只返回当前页
+     */
+    private static String pageClause(QueryCondition page) {
+        int offset = page.getOffset();
+        return (offset > 0 ? " SKIP " + offset : "") + " LIMIT " + page.getLimit();
+    }
+
+    private static Map<String, Object> vertexToMap(Vertex vertex) {
+        Map<String, Object> vertexData = new HashMap<>();
+        vertexData.put("uid", vertex.getUid());
+        vertexData.put("label", vertex.getLabel());
+        vertexData.put("properties", vertex.getProperties());
+        return vertexData;
+    }
+
+    private static Map<String, Object> edgeToMap(Edge edge) {
+        Map<String, Object> edgeData = new HashMap<>();
+        edgeData.put("uid", edge.getUid());
+        edgeData.put("label", edge.getLabel());
+        edgeData.put("sourceUid", edge.getSourceUid());
+        edgeData.put("targetUid", edge.getTargetUid());
+        edgeData.put("properties", edge.getProperties());
+        return edgeData;
+    }
+
+    private static String vidOf(ValueWrapper vid) throws Exception {
+        return vid.isString() ? vid.asString() : vid.toString();
+    }
+
     // 辅助方法：格式化值用于nGQL查询
     private String formatValue(Object value) {
         if (value == null) {
             return "NULL";
         } else if (value instanceof String) {
-            return "\"" + value.toString() + "\"";
+            return "\"" + escape(value.toString()) + "\"";
         } else if (value instanceof Number) {
             return value.toString();
         } else if (value instanceof Boolean) {
             return value.toString();
         } else {
-            return "\"" + value.toString() + "\"";
+            return "\"" + escape(value.toString()) + "\"";
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * 用反引号引用space、tag、edge type及属性名称；nGQL的反引号标识符不支持转义，名称中含反引号时直接拒绝
+     */
+    private static String quoteName(String name) {
+        if (name.indexOf('`') >= 0) {
+            throw new CoreException("NebulaGraph名称不能包含反引号: " + name);
         }
+        return "`" + name + "`";
     }
 
     @Override
@@ -382,7 +987,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            ResultSet result = session.execute("SHOW SPACES");
+            ResultSet result = executeWithoutSpace("SHOW SPACES");
             if (!result.isSucceeded()) {
                 throw new CoreException("获取图空间列表失败: " + result.getErrorMessage());
             }
@@ -411,7 +1016,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             schema.setDatabaseType("NEBULA");
 
             // 获取标签列表
-            ResultSet tagResult = session.execute("SHOW TAGS");
+            ResultSet tagResult = executeInSpace(graphName, "SHOW TAGS");
             List<String> tags = new ArrayList<>();
             for (int i = 0; i < tagResult.rowsSize(); i++) {
                 tags.add(tagResult.rowValues(i).get(0).asString());
@@ -427,7 +1032,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             schema.setVertexLabels(vertexLabelTypes);
 
             // 获取边类型列表
-            ResultSet edgeResult = session.execute("SHOW EDGES");
+            ResultSet edgeResult = executeInSpace(graphName, "SHOW EDGES");
             List<String> edges = new ArrayList<>();
             for (int i = 0; i < edgeResult.rowsSize(); i++) {
                 edges.add(edgeResult.rowValues(i).get(0).asString());
@@ -456,15 +1061,12 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
         try {
             // 创建图空间
-            String createSpaceQuery = "CREATE SPACE IF NOT EXISTS `" + graphName + "`(partition_num=10, replica_factor=1);";
-            ResultSet result = session.execute(createSpaceQuery);
+            String createSpaceQuery = "CREATE SPACE IF NOT EXISTS " + quoteName(graphName) + "(partition_num=10, replica_factor=1);";
+            ResultSet result = executeWithoutSpace(createSpaceQuery);
             if (!result.isSucceeded()) {
                 throw new CoreException("创建图空间失败: " + result.getErrorMessage());
             }
 
-            // 使用新创建的图空间
-            session.execute("USE `" + graphName + "`");
-            currentGraph = graphName;
             System.out.println("创建Nebula图空间: " + graphName);
         } catch (Exception e) {
             throw new CoreException("创建Nebula图失败: " + e.getMessage(), e);
@@ -478,15 +1080,13 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            String dropSpaceQuery = "DROP SPACE IF EXISTS `" + graphName + "`;";
-            ResultSet result = session.execute(dropSpaceQuery);
+            String dropSpaceQuery = "DROP SPACE IF EXISTS " + quoteName(graphName) + ";";
+            ResultSet result = executeWithoutSpace(dropSpaceQuery);
             if (!result.isSucceeded()) {
                 throw new CoreException("删除图空间失败: " + result.getErrorMessage());
             }
 
-            if (currentGraph != null && currentGraph.equals(graphName)) {
-                currentGraph = null;
-            }
+            closeSpacePool(graphName);
             System.out.println("删除Nebula图空间: " + graphName);
         } catch (Exception e) {
             throw new CoreException("删除Nebula图失败: " + e.getMessage(), e);
@@ -501,8 +1101,8 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
         try {
             // 创建标签
-            String createTagQuery = "CREATE TAG IF NOT EXISTS `" + labelType.getName() + "`();";
-            ResultSet result = session.execute(createTagQuery);
+            String createTagQuery = "CREATE TAG IF NOT EXISTS " + quoteName(labelType.getName()) + "();";
+            ResultSet result = executeInSpace(graphName, createTagQuery);
             if (!result.isSucceeded()) {
                 throw new CoreException("创建标签失败: " + result.getErrorMessage());
             }
@@ -519,8 +1119,8 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            String dropTagQuery = "DROP TAG IF EXISTS `" + labelName + "`;";
-            ResultSet result = session.execute(dropTagQuery);
+            String dropTagQuery = "DROP TAG IF EXISTS " + quoteName(labelName) + ";";
+            ResultSet result = executeInSpace(graphName, dropTagQuery);
             if (!result.isSucceeded()) {
                 throw new CoreException("删除标签失败: " + result.getErrorMessage());
             }
@@ -538,8 +1138,8 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
         try {
             // 创建边类型
-            String createEdgeQuery = "CREATE EDGE IF NOT EXISTS `" + labelType.getName() + "`();";
-            ResultSet result = session.execute(createEdgeQuery);
+            String createEdgeQuery = "CREATE EDGE IF NOT EXISTS " + quoteName(labelType.getName()) + "();";
+            ResultSet result = executeInSpace(graphName, createEdgeQuery);
             if (!result.isSucceeded()) {
                 throw new CoreException("创建边类型失败: " + result.getErrorMessage());
             }
@@ -556,8 +1156,8 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            String dropEdgeQuery = "DROP EDGE IF EXISTS `" + labelName + "`;";
-            ResultSet result = session.execute(dropEdgeQuery);
+            String dropEdgeQuery = "DROP EDGE IF EXISTS " + quoteName(labelName) + ";";
+            ResultSet result = executeInSpace(graphName, dropEdgeQuery);
             if (!result.isSucceeded()) {
                 throw new CoreException("删除边类型失败: " + result.getErrorMessage());
             }
@@ -574,7 +1174,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            ResultSet result = session.execute("SHOW TAGS");
+            ResultSet result = executeInSpace(graphName, "SHOW TAGS");
             if (!result.isSucceeded()) {
                 throw new CoreException("获取标签列表失败: " + result.getErrorMessage());
             }
@@ -602,7 +1202,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            ResultSet result = session.execute("SHOW EDGES");
+            ResultSet result = executeInSpace(graphName, "SHOW EDGES");
             if (!result.isSucceeded()) {
                 throw new CoreException("获取边类型列表失败: " + result.getErrorMessage());
             }
@@ -676,13 +1276,19 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
     @Override
     public Map<String, Object> updateVertex(String graphName, String uid, Map<String, Object> properties) {
+        return updateVertex(graphName, null, uid, properties);
+    }
+
+    @Override
+    public Map<String, Object> updateVertex(String graphName, String label, String uid, Map<String, Object> properties) {
         if (!isConnected()) {
             throw new CoreException("NebulaGraph连接未建立");
         }
 
         try {
-            // 构建更新节点的nGQL查询
-            StringBuilder queryBuilder = new StringBuilder("UPDATE VERTEX \"" + uid + "\" SET ");
+            // 构建更新节点的nGQL查询，按VID直接定位，已知标签时指定更新的Tag
+            String target = label != null && !label.isEmpty() ? "ON " + quoteName(label) + " " + formatValue(uid) : formatValue(uid);
+            StringBuilder queryBuilder = new StringBuilder("UPDATE VERTEX " + target + " SET ");
 
             if (properties != null && !properties.isEmpty()) {
                 boolean first = true;
@@ -690,13 +1296,13 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
                     if (!first) {
                         queryBuilder.append(", ");
                     }
-                    queryBuilder.append(entry.getKey()).append(" = ").append(formatValue(entry.getValue()));
+                    queryBuilder.append(quoteName(entry.getKey())).append(" = ").append(formatValue(entry.getValue()));
                     first = false;
                 }
             }
             queryBuilder.append(";");
 
-            ResultSet result = session.execute(queryBuilder.toString());
+            ResultSet result = executeInSpace(graphName, queryBuilder.toString());
             if (!result.isSucceeded()) {
                 throw new CoreException("更新节点失败: " + result.getErrorMessage());
             }
@@ -719,9 +1325,10 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
 
         try {
-            // NebulaGraph边更新需要先查询边信息，这里简化实现
-            // 实际实现中需要更复杂的逻辑
-            StringBuilder queryBuilder = new StringBuilder("UPDATE EDGE SET ");
+            // 按边的主键（类型+起点+终点）直接定位边
+            String[] key = parseEdgeUid(uid);
+            StringBuilder queryBuilder = new StringBuilder(
+                    "UPDATE EDGE ON " + quoteName(key[0]) + " " + formatValue(key[1]) + "->" + formatValue(key[2]) + " SET ");
 
             if (properties != null && !properties.isEmpty()) {
                 boolean first = true;
@@ -729,15 +1336,13 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
                     if (!first) {
                         queryBuilder.append(", ");
                     }
-                    queryBuilder.append(entry.getKey()).append(" = ").append(formatValue(entry.getValue()));
+                    queryBuilder.append(quoteName(entry.getKey())).append(" = ").append(formatValue(entry.getValue()));
                     first = false;
                 }
             }
+            queryBuilder.append(";");
 
-            // 简化的查询，实际需要更精确的边定位
-            queryBuilder.append(" WHERE src() == \"" + uid + "\";");
-
-            ResultSet result = session.execute(queryBuilder.toString());
+            ResultSet result = executeInSpace(graphName, queryBuilder.toString());
             if (!result.isSucceeded()) {
                 throw new CoreException("更新边失败: " + result.getErrorMessage());
             }
@@ -745,6 +1350,9 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             // 构建返回的更新后边数据
             Map<String, Object> edge = new HashMap<>();
             edge.put("uid", uid);
+            edge.put("label", key[0]);
+            edge.put("sourceUid", key[1]);
+            edge.put("targetUid", key[2]);
             edge.put("properties", properties != null ? properties : new HashMap<>());
 
             return edge;
@@ -753,6 +1361,98 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         }
     }
 
+    @Override
+    public CompletionStage<GraphQueryResult> executeNativeQueryAsync(ConnectionConfig config, String graphName,
+                                                                     String queryLanguage, String queryStatement) {
+        return asyncExecutor.submit(() -> executeNativeQuery(config, graphName, queryLanguage, queryStatement));
+    }
+
+    @Override
+    public CompletionStage<List<Map<String, Object>>> queryVerticesAsync(String graphName, QueryCondition condition) {
+        return asyncExecutor.submit(() -> queryVertices(graphName, condition));
+    }
+
+    @Override
+    public CompletionStage<List<Map<String, Object>>> queryEdgesAsync(String graphName, QueryCondition condition) {
+        return asyncExecutor.submit(() -> queryEdges(graphName, condition));
+    }
+
+    /**
+     * 语句前附加带查询ID的注释用于定位，超时或取消时通过SHOW ALL QUERIES找到该查询并执行KILL QUERY终止；
+     * 查询在请求线程上执行，不额外占用执行器线程。到达截止时间后由定时任务终止查询，
+     * 查询尚未出现在列表中时按固定间隔重试，直到查询返回
+     */
+    @Override
+    public GraphQueryResult executeNativeQuery(ConnectionConfig config, String graphName, String queryLanguage,
+                                               String queryStatement, QueryContext context) throws CoreException {
+        String marker = "qid:" + context.getQueryId();
+        String taggedStatement = "/* " + marker + " */ " + queryStatement;
+        long timeoutMs = context.getRemainingMs();
+        long start = System.currentTimeMillis();
+        AtomicBoolean timedOut = new AtomicBoolean();
+        ScheduledFuture<?> killer = null;
+        context.onCancel(() -> killQueries(marker));
+        try {
+            if (timeoutMs > 0) {
+                killer = KILL_SCHEDULER.scheduleWithFixedDelay(() -> {
+                    timedOut.set(true);
+                    int killed = killQueries(marker);
+                    System.out.println("Nebula查询超时: queryId=" + context.getQueryId() + ", timeoutMs=" + timeoutMs
+                            + ", 已终止查询数=" + killed);
+                }, timeoutMs, KILL_RETRY_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            }
+            return executeNativeQuery(config, graphName, queryLanguage, taggedStatement);
+        } catch (RuntimeException e) {
+            if (timedOut.get()) {
+                return GraphQueryResult.timeout(timeoutMs);
+            }
+            if (context.isCancelled()) {
+                return GraphQueryResult.cancelled(System.currentTimeMillis() - start);
+            }
+            throw e;
+        } finally {
+            if (killer != null) {
+                killer.cancel(false);
+            }
+            context.onCancel(null);
+        }
+    }
+
+    /**
+     * 终止Query列包含指定标记的所有查询
+     * @return 终止的查询数
+     */
+    private int killQueries(String marker) {
+        int killed = 0;
+        try {
+            // SHOW QUERIES只列出当前会话的查询，目标查询运行在图空间会话池的其他会话上
+            ResultSet queries = executeWithoutSpace("SHOW ALL QUERIES");
+            if (!queries.isSucceeded()) {
+                System.out.println("查询Nebula运行中查询失败: " + queries.getErrorMessage());
+                return 0;
+            }
+            for (int i = 0; i < queries.rowsSize(); i++) {
+                ResultSet.Record row = queries.rowValues(i);
+                if (!row.get("Query").asString().contains(marker)) {
+                    continue;
+                }
+                long sessionId = row.get("SessionID").asLong();
+                long planId = row.get("ExecutionPlanID").asLong();
+                ResultSet kill = executeWithoutSpace(
+                        "KILL QUERY (session=" + sessionId + ", plan=" + planId + ")");
+                if (kill.isSucceeded()) {
+                    killed++;
+                } else {
+                    System.out.println("终止Nebula查询失败: session=" + sessionId + ", plan=" + planId
+                            + ", error=" + kill.getErrorMessage());
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("终止Nebula查询失败: " + e.getMessage());
+        }
+        return killed;
+    }
+
     @Override
     public GraphQueryResult executeNativeQuery(ConnectionConfig config, String graphName,
                                                String queryLanguage, String queryStatement) throws CoreException {
@@ -769,46 +1469,26 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
                 throw new CoreException("NebulaGraph只支持nGQL/GQL/NGQL查询语言");
             }
 
-            // 切换到指定图空间
-            if (graphName != null && !graphName.isEmpty()) {
-                session.execute("USE `" + graphName + "`");
-                currentGraph = graphName;
-            }
-
-            // 执行原生查询
-            ResultSet nebulaResult = session.execute(queryStatement);
+            // 在指定图空间的会话池上执行原生查询
+            ResultSet nebulaResult = executeInSpace(graphName, queryStatement);
 
             if (!nebulaResult.isSucceeded()) {
                 throw new CoreException("Nebula查询执行失败: " + nebulaResult.getErrorMessage());
             }
 
-            // 处理查询结果，提取节点和边
-            List<Vertex> vertices = new ArrayList<>();
-            List<Edge> edges = new ArrayList<>();
-
-            // 获取列名
-            List<String> columnNames = nebulaResult.getColumnNames();
-
-            for (int i = 0; i < nebulaResult.rowsSize(); i++) {
-                List<ValueWrapper> rowValues = nebulaResult.rowValues(i).values();
-
-                for (int j = 0; j < rowValues.size(); j++) {
-                    ValueWrapper value = rowValues.get(j);
-                    extractNebulaGraphElements(value, vertices, edges);
+            // 处理查询结果，提取节点和边，达到结果上限后不再转换剩余行
+            GraphQueryResultBuilder builder = new GraphQueryResultBuilder();
+            for (int i = 0; i < nebulaResult.rowsSize() && !builder.isTruncated(); i++) {
+                for (ValueWrapper value : nebulaResult.rowValues(i).values()) {
+                    if (!extractNebulaGraphElements(value, builder)) {
+                        break;
+                    }
                 }
             }
-
-            // 设置结果
-            result.setVertices(vertices);
-            result.setEdges(edges);
-
-            // 设置统计信息
-            GraphQueryResult.QueryStatistics stats = new GraphQueryResult.QueryStatistics();
-            stats.setResultRows(vertices.size() + edges.size());
-            stats.setStatus("SUCCESS");
-            result.setStatistics(stats);
-
-            return result;
+            if (builder.isTruncated()) {
+                System.out.println("Nebula原生查询结果超过上限，已截断: rows=" + nebulaResult.rowsSize());
+            }
+            return builder.build();
 
         } catch (Exception e) {
             // 设置错误信息
@@ -822,56 +1502,68 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
     }
 
     /**
-     * 从Nebula查询结果中提取图元素（节点和边）
+     * 从Nebula查询结果中提取图元素（节点和边），按uid去重
+     * @return 是否可以继续提取，达到结果上限时返回false
      */
-    private void extractNebulaGraphElements(ValueWrapper value, List<Vertex> vertices, List<Edge> edges) {
+    private boolean extractNebulaGraphElements(ValueWrapper value, GraphQueryResultBuilder builder) {
         try {
             if (value.isVertex()) {
                 // 处理节点
-                Node nebulaVertex = value.asNode();
-                com.graphdb.core.model.Vertex vertex = convertNebulaVertexToVertex(nebulaVertex);
-                if (!containsVertex(vertices, vertex.getUid())) {
-                    vertices.add(vertex);
-                }
+                return builder.addVertex(convertNebulaVertexToVertex(value.asNode()));
             } else if (value.isEdge()) {
                 // 处理边
-                Relationship nebulaEdge = value.asRelationship();
-                com.graphdb.core.model.Edge edge = convertNebulaEdgeToEdge(nebulaEdge);
-                if (!containsEdge(edges, edge.getUid())) {
-                    edges.add(edge);
-                }
+                return builder.addEdge(convertNebulaEdgeToEdge(value.asRelationship()));
             } else if (value.isPath()) {
                 // 处理路径，提取路径中的节点和边
-                PathWrapper path = value.asPath();
-                extractFromNebulaPath(path, vertices, edges);
+                return extractFromNebulaPath(value.asPath(), builder);
+            } else if (value.isList()) {
+                for (ValueWrapper item : value.asList()) {
+                    if (!extractNebulaGraphElements(item, builder)) {
+                        return false;
+                    }
+                }
+            } else if (value.isSet()) {
+                for (ValueWrapper item : value.asSet()) {
+                    if (!extractNebulaGraphElements(item, builder)) {
+                        return false;
+                    }
+                }
+            } else if (value.isMap()) {
+                for (ValueWrapper item : value.asMap().values()) {
+                    if (!extractNebulaGraphElements(item, builder)) {
+                        return false;
+                    }
+                }
             }
         } catch (Exception e) {
             // 忽略类型转换异常，继续处理其他值
         }
+        return !builder.isTruncated();
     }
 
     /**
-     * 从Nebula路径中提取节点和边
+     * 从Nebula路径中提取节点和边，路径间重复的节点和边只保留一份
+     * @return 是否可以继续提取
      */
-    private void extractFromNebulaPath(PathWrapper path,
-                                       List<Vertex> vertices, List<Edge> edges) {
+    private boolean extractFromNebulaPath(PathWrapper path, GraphQueryResultBuilder builder) {
         try {
             // 提取路径中的节点
-            List<Node> nodes = path.getNodes();
-            nodes.forEach(node -> {
-                Vertex vertex = convertNebulaVertexToVertex(node);
-                vertices.add(vertex);
-            });
+            for (Node node : path.getNodes()) {
+                if (!builder.addVertex(convertNebulaVertexToVertex(node))) {
+                    return false;
+                }
+            }
 
             // 提取路径中的边
-            List<Relationship> relationships = path.getRelationships();
-            relationships.forEach(relationship -> {
-                Edge edge = convertNebulaEdgeToEdge(relationship);
-                edges.add(edge);
-            });
+            for (Relationship relationship : path.getRelationships()) {
+                if (!builder.addEdge(convertNebulaEdgeToEdge(relationship))) {
+                    return false;
+                }
+            }
         } catch (Exception e) {
             // 忽略路径处理异常
         }
+        return !builder.isTruncated();
     }
 
     /**
@@ -911,15 +1603,14 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         com.graphdb.core.model.Edge edge = new com.graphdb.core.model.Edge();
 
         try {
-            // 设置边ID（使用源节点-类型-目标节点组合）
-            String edgeId = nebulaEdge.srcId().toString() + "_" +
-                    nebulaEdge.edgeName() + "_" +
-                    nebulaEdge.dstId().toString();
-            edge.setUid(edgeId);
+            // 设置边ID（使用类型+源节点+目标节点组合，与创建边时返回的uid一致）
+            String sourceId = vidOf(nebulaEdge.srcId());
+            String targetId = vidOf(nebulaEdge.dstId());
+            edge.setUid(edgeUid(nebulaEdge.edgeName(), sourceId, targetId));
 
             edge.setLabel(nebulaEdge.edgeName());
-            edge.setSourceUid(nebulaEdge.srcId().toString());
-            edge.setTargetUid(nebulaEdge.dstId().toString());
+            edge.setSourceUid(sourceId);
+            edge.setTargetUid(targetId);
 
             // 设置属性
             Map<String, ValueWrapper> p = nebulaEdge.properties();
@@ -937,20 +1628,6 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
         return edge;
     }
 
-    /**
-     * 检查节点是否已存在
-     */
-    private boolean containsVertex(List<Vertex> vertices, String uid) {
-        return vertices.stream().anyMatch(v -> uid.equals(v.getUid()));
-    }
-
-    /**
-     * 检查边是否已存在
-     */
-    private boolean containsEdge(List<Edge> edges, String uid) {
-        return edges.stream().anyMatch(e -> uid.equals(e.getUid()));
-    }
-
     @Override
     public Map<String, Object> executeNativeQuery(String graphName, String query, DatabaseTypeEnum dbType) {
         try {
@@ -961,7 +1638,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             if (query.contains("count")) {
                 // 节点数量统计
                 String vertexCountQuery = "MATCH (v) RETURN count(v) AS count";
-                ResultSet result = session.execute(vertexCountQuery);
+                ResultSet result = executeInSpace(graphName, vertexCountQuery);
                 long vertexCount = 0L;
                 if (result.isSucceeded() && result.rowsSize() > 0) {
                     try {
@@ -976,7 +1653,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             } else if (query.contains("degreeDistribution")) {
                 // 度分布统计
                 String degreeQuery = "MATCH (v) RETURN v.degree AS degree ORDER BY degree DESC LIMIT 100";
-                ResultSet result = session.execute(degreeQuery);
+                ResultSet result = executeInSpace(graphName, degreeQuery);
                 Map<String, Long> distribution = new HashMap<>();
                 if (result.isSucceeded() && result.rowsSize() > 0) {
                     for (int i = 0; i < result.rowsSize(); i++) {
@@ -997,7 +1674,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
             } else if (query.contains("edgeTypeDistribution")) {
                 // 边类型分布统计
                 String edgeTypeQuery = "MATCH ()-[r]->(r) RETURN type(r) AS edgeType, count(r) AS count ORDER BY count DESC";
-                ResultSet result = session.execute(edgeTypeQuery);
+                ResultSet result = executeInSpace(graphName, edgeTypeQuery);
                 Map<String, Long> distribution = new HashMap<>();
                 if (result.isSucceeded() && result.rowsSize() > 0) {
                     for (int i = 0; i < result.rowsSize(); i++) {
@@ -1017,7 +1694,7 @@ public class NebulaAdapter implements GraphAdapter, SchemaHandler, DataHandler {
 
             } else {
                 // 通用查询执行
-                ResultSet result = session.execute(query);
+                ResultSet result = executeInSpace(graphName, query);
                 List<Map<String, Object>> results = new ArrayList<>();
 
                 if (result.isSucceeded() && result.rowsSize() > 0) {
@@ -2,45 +2,156 @@ package com.graphdb.adapter.neo4j;
 
 import com.graphdb.core.constant.DatabaseTypeEnum;
 import com.graphdb.core.exception.CoreException;
+import com.graphdb.core.interfaces.AsyncDataHandler;
+import com.graphdb.core.interfaces.AsyncGraphAdapter;
+import com.graphdb.core.interfaces.BatchDataHandler;
 import com.graphdb.core.interfaces.DataHandler;
 import com.graphdb.core.interfaces.GraphAdapter;
 import com.graphdb.core.interfaces.SchemaHandler;
 import com.graphdb.core.model.ConnectionConfig;
 import com.graphdb.core.model.CsvImportConfig;
+import com.graphdb.core.model.CursorPage;
 import com.graphdb.core.model.Edge;
+import com.graphdb.core.model.GraphElement;
+import com.graphdb.core.model.GraphMutation;
 import com.graphdb.core.model.GraphQueryResult;
+import com.graphdb.core.model.GraphQueryResultBuilder;
 import com.graphdb.core.model.GraphSchema;
 import com.graphdb.core.model.LabelType;
+import com.graphdb.core.model.PoolStatus;
+import com.graphdb.core.model.PropertyFilter;
+import com.graphdb.core.model.QueryCondition;
+import com.graphdb.core.model.QueryContext;
 import com.graphdb.core.model.Vertex;
+import com.graphdb.core.util.ConnectionParams;
+import com.graphdb.core.util.LatencyRecorder;
+import com.graphdb.core.util.UidGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.BookmarkManager;
+import org.neo4j.driver.BookmarkManagerConfig;
+import org.neo4j.driver.BookmarkManagers;
+import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.Config;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.TransactionCallback;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.TransactionContext;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.exceptions.SessionExpiredException;
+import org.neo4j.driver.exceptions.TransientException;
 import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Path;
 import org.neo4j.driver.types.Relationship;
 import org.springframework.stereotype.Component;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
  * Neo4j适配器实现
  */
+@Slf4j
 @Component
-public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
+public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler, AsyncGraphAdapter, AsyncDataHandler,
+        BatchDataHandler {
 
-    private Driver driver;
-    private Session session;
-    private boolean connected = false;
+    /**
+     * 默认连接池参数，可通过ConnectionConfig.extraParams覆盖
+     */
+    private static final int DEFAULT_MAX_POOL_SIZE = 100;
+    private static final long DEFAULT_ACQUISITION_TIMEOUT_MS = 60_000L;
+    private static final long DEFAULT_MAX_CONNECTION_LIFETIME_MS = 3_600_000L;
+
+    /**
+     * 原生查询事务元数据中记录查询ID的键，用于取消时定位事务
+     */
+    private static final String QUERY_ID_METADATA = "graphdbQueryId";
+
+    /**
+     * 可能产生写入的Cypher子句及管理命令
+     */
+    private static final Pattern WRITE_CLAUSE = Pattern.compile(
+            "\\b(CREATE|MERGE|DELETE|DETACH|SET|REMOVE|DROP|FOREACH|LOAD|CALL|ALTER|RENAME|GRANT|REVOKE|DENY|START|STOP|TERMINATE)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final String SYSTEM_DATABASE = "system";
+    private static final long DATABASE_CACHE_TTL_MS = 60_000L;
+    private static final int ACQUISITION_SAMPLES_PER_INTERVAL = 64;
+
+    /**
+     * 图名称不在缓存的数据库列表中时，距上次加载超过该间隔才重新读取列表
+     */
+    private static final long DATABASE_MISS_REFRESH_MS = 1_000L;
+
+    private static final String DEFAULT_URI_SCHEME = "neo4j";
+    private static final Set<String> URI_SCHEMES = Set.of("neo4j", "neo4j+s", "neo4j+ssc", "bolt", "bolt+s", "bolt+ssc");
+
+    /**
+     * 驱动内部维护连接池且线程安全，会话按操作从驱动获取并在操作结束后关闭
+     */
+    private volatile Driver driver;
+    private volatile boolean connected = false;
+    private volatile int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+
+    /**
+     * 连接获取耗时样本：驱动只提供累计获取次数与累计耗时，每次汇总时按两次汇总之间的增量
+     * 计算该区间的平均获取耗时，并按区间内的获取次数（最多ACQUISITION_SAMPLES_PER_INTERVAL次）记入样本，
+     * 分位数反映各区间平均值的分布，区间内单次获取的差异会被平均
+     */
+    private final LatencyRecorder acquireLatency = new LatencyRecorder();
+    private final ReentrantLock acquisitionLock = new ReentrantLock();
+    private long lastAcquired;
+    private long lastAcquisitionTime;
+
+    /**
+     * 因果一致性书签管理器，驱动重建时随之重建
+     */
+    private volatile BookmarkManager bookmarkManager;
+
+    /**
+     * 服务端数据库列表缓存，用于将图名称解析为会话的目标数据库
+     */
+    private volatile DatabaseCatalog databaseCatalog;
+
+    /**
+     * 加载数据库列表时持有，加载过程包含驱动I/O，使用ReentrantLock避免虚拟线程阻塞时固定载体线程
+     */
+    private final ReentrantLock databaseCatalogLock = new ReentrantLock();
+
+    /**
+     * 已确保存在uid约束/索引的数据库+标签
+     */
+    private final Set<String> uidIndexes = ConcurrentHashMap.newKeySet();
 
     @Override
     public DatabaseTypeEnum getDatabaseType() {
@@ -62,33 +173,198 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
 
     @Override
     public void connect(ConnectionConfig config) throws CoreException {
+        Driver newDriver = null;
         try {
-            driver = createDriver(config);
-            session = driver.session();
+            newDriver = createDriver(config);
+            newDriver.verifyConnectivity();
+            bookmarkManager = BookmarkManagers.defaultManager(BookmarkManagerConfig.builder().build());
+            databaseCatalog = null;
+            uidIndexes.clear();
+            driver = newDriver;
             connected = true;
             System.out.println("成功连接到Neo4j: " + config.getHost() + ":" + config.getPort());
         } catch (Exception e) {
+            if (newDriver != null) {
+                newDriver.close();
+            }
             throw new CoreException("Neo4j连接失败: " + e.getMessage(), e);
         }
     }
 
     @Override
     public void disconnect() {
-        if (session != null) {
-            session.close();
-            session = null;
-        }
-        if (driver != null) {
-            driver.close();
-            driver = null;
-        }
         connected = false;
+        Driver current = driver;
+        driver = null;
+        if (current != null) {
+            current.close();
+        }
         System.out.println("已断开Neo4j连接");
     }
 
     @Override
     public boolean isConnected() {
-        return connected && driver != null && session != null;
+        return connected && driver != null;
+    }
+
+    @Override
+    public boolean ping() throws CoreException {
+        if (!isConnected()) {
+            return false;
+        }
+        try (Session session = openSession(null, AccessMode.READ)) {
+            session.run("RETURN 1").consume();
+            return true;
+        } catch (Exception e) {
+            throw new CoreException("Neo4j健康探测失败: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isUnavailableError(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof ServiceUnavailableException || t instanceof SessionExpiredException) {
+                return true;
+            }
+        }
+        return GraphAdapter.super.isUnavailableError(error);
+    }
+
+    /**
+     * 驱动标记为TransientException的错误（如集群主节点切换、死锁检测）可以安全重试
+     */
+    @Override
+    public boolean isTransientError(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof TransientException) {
+                return true;
+            }
+        }
+        return isUnavailableError(error);
+    }
+
+    /**
+     * 在默认数据库上打开一个短生命周期的写会话，调用方负责关闭
+     * Neo4j会话非线程安全，不能在请求线程之间共享
+     */
+    private Session openSession() {
+        return openSession(null, AccessMode.WRITE);
+    }
+
+    /**
+     * 在图对应的数据库上打开写会话
+     */
+    private Session openSession(String graphName) {
+        return openSession(graphName, AccessMode.WRITE);
+    }
+
+    /**
+     * 在图对应的数据库上按访问模式打开会话：所有数据库共享同一个驱动及连接池，
+     * 集群路由模式下读会话路由到从节点/只读副本，写会话路由到主节点
+     */
+    private Session openSession(String graphName, AccessMode mode) {
+        Driver current = driver;
+        if (current == null) {
+            throw new CoreException("Neo4j连接未建立");
+        }
+        return current.session(sessionConfig(resolveDatabase(graphName), mode));
+    }
+
+    /**
+     * 在system数据库上打开会话，用于SHOW/CREATE/DROP DATABASE等管理命令
+     */
+    private Session openSystemSession() {
+        Driver current = driver;
+        if (current == null) {
+            throw new CoreException("Neo4j连接未建立");
+        }
+        return current.session(sessionConfig(SYSTEM_DATABASE, AccessMode.WRITE));
+    }
+
+    /**
+     * 会话配置，同一连接的所有会话共享书签管理器，读会话等待本连接已提交的写入在目标节点可见后再执行
+     * @param database 数据库名称，null表示用户的默认数据库
+     */
+    private SessionConfig sessionConfig(String database, AccessMode mode) {
+        SessionConfig.Builder builder = SessionConfig.builder().withDefaultAccessMode(mode);
+        if (database != null) {
+            builder.withDatabase(database);
+        }
+        BookmarkManager current = bookmarkManager;
+        if (current != null) {
+            builder.withBookmarkManager(current);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 将图名称解析为数据库名称，未指定图名称时使用用户的默认数据库
+     * 图名称不在缓存的数据库列表中时重新读取列表（覆盖在本工具之外新建的数据库），
+     * 仍不存在时失败，不会把读写落到默认数据库上
+     */
+    private String resolveDatabase(String graphName) {
+        if (graphName == null || graphName.isEmpty()) {
+            return null;
+        }
+        if (getDatabases(DATABASE_CACHE_TTL_MS).contains(graphName)
+                || getDatabases(DATABASE_MISS_REFRESH_MS).contains(graphName)) {
+            return graphName;
+        }
+        throw new CoreException("Neo4j数据库不存在: " + graphName);
+    }
+
+    /**
+     * 服务端数据库列表，多个数据库的请求共享同一份缓存
+     * 读取失败时不缓存，直接抛出CoreException
+     * @param maxAgeMs 缓存的最大有效时间，超过后重新读取
+     */
+    private Set<String> getDatabases(long maxAgeMs) {
+        DatabaseCatalog catalog = databaseCatalog;
+        if (catalog != null && System.currentTimeMillis() - catalog.loadedAt < maxAgeMs) {
+            return catalog.names;
+        }
+        databaseCatalogLock.lock();
+        try {
+            catalog = databaseCatalog;
+            if (catalog != null && System.currentTimeMillis() - catalog.loadedAt < maxAgeMs) {
+                return catalog.names;
+            }
+            Set<String> names;
+            try (Session session = openSystemSession()) {
+                names = Set.copyOf(session.run("SHOW DATABASES YIELD name RETURN DISTINCT name")
+                        .list(record -> record.get("name").asString()));
+            } catch (Exception e) {
+                throw new CoreException("读取Neo4j数据库列表失败: " + e.getMessage(), e);
+            }
+            databaseCatalog = new DatabaseCatalog(names);
+            return names;
+        } finally {
+            databaseCatalogLock.unlock();
+        }
+    }
+
+    /**
+     * 数据库列表缓存
+     */
+    private static class DatabaseCatalog {
+
+        private final Set<String> names;
+        private final long loadedAt = System.currentTimeMillis();
+
+        DatabaseCatalog(Set<String> names) {
+            this.names = names;
+        }
+    }
+
+    /**
+     * 判断原生Cypher语句的访问模式：不含任何可能写入的关键字时按只读处理，
+     * 无法确定时（包括CALL过程调用）按写处理路由到主节点
+     */
+    private static AccessMode accessModeOf(String statement) {
+        if (statement == null || WRITE_CLAUSE.matcher(statement).find()) {
+            return AccessMode.WRITE;
+        }
+        return AccessMode.READ;
     }
 
     private Driver createDriver(ConnectionConfig config) {
@@ -100,9 +376,105 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
                     "如果您使用的是Neo4j社区版，默认Bolt端口为7687，HTTP端口为7474。");
         }
 
-        String uri = "neo4j://" + config.getHost() + ":" + config.getPort();
+        // neo4j://为路由模式，可按访问模式将读写分发到集群不同成员；单机部署可通过uriScheme指定bolt://
+        String scheme = ConnectionParams.of(config).getString("uriScheme", DEFAULT_URI_SCHEME);
+        if (!URI_SCHEMES.contains(scheme)) {
+            throw new CoreException("不支持的Neo4j URI协议: " + scheme + "，可选值: " + URI_SCHEMES);
+        }
+        String uri = scheme + "://" + config.getHost() + ":" + config.getPort();
         AuthToken auth = AuthTokens.basic(config.getUsername(), config.getPassword());
-        return GraphDatabase.driver(uri, auth);
+        return GraphDatabase.driver(uri, auth, buildDriverConfig(config));
+    }
+
+    /**
+     * 根据extraParams构建驱动配置
+     * 支持参数：maxConnectionPoolSize、connectionAcquisitionTimeoutMs、maxConnectionLifetimeMs（URI协议由uriScheme指定）
+     */
+    private Config buildDriverConfig(ConnectionConfig config) {
+        ConnectionParams params = ConnectionParams.of(config);
+        int poolSize = params.getInt("maxConnectionPoolSize", DEFAULT_MAX_POOL_SIZE);
+        maxPoolSize = poolSize;
+        return Config.builder()
+                .withMaxConnectionPoolSize(poolSize)
+                .withConnectionAcquisitionTimeout(
+                        params.getLong("connectionAcquisitionTimeoutMs", DEFAULT_ACQUISITION_TIMEOUT_MS), TimeUnit.MILLISECONDS)
+                .withMaxConnectionLifetime(
+                        params.getLong("maxConnectionLifetimeMs", DEFAULT_MAX_CONNECTION_LIFETIME_MS), TimeUnit.MILLISECONDS)
+                .withDriverMetrics()
+                .build();
+    }
+
+    /**
+     * 汇总驱动连接池指标，集群模式下驱动为每个服务器维护一个连接池
+     * 获取耗时分位数由累计指标的区间增量估算，与其他适配器输出相同的p50/p95/p99字段
+     */
+    @Override
+    public PoolStatus getPoolStatus() {
+        Driver current = driver;
+        if (current == null) {
+            return null;
+        }
+        PoolStatus status = new PoolStatus();
+        status.setDatabaseType(getDatabaseType().name());
+        status.setMaxSize(maxPoolSize);
+        status.setTimestamp(System.currentTimeMillis());
+        if (!current.isMetricsEnabled()) {
+            return status;
+        }
+
+        int inUse = 0;
+        int idle = 0;
+        int pending = 0;
+        long acquired = 0;
+        long timedOut = 0;
+        long totalAcquisitionTime = 0;
+        List<String> servers = new ArrayList<>();
+        for (ConnectionPoolMetrics metrics : current.metrics().connectionPoolMetrics()) {
+            inUse += metrics.inUse();
+            idle += metrics.idle();
+            pending += metrics.acquiring();
+            acquired += metrics.acquired();
+            timedOut += metrics.timedOutToAcquire();
+            totalAcquisitionTime += metrics.totalAcquisitionTime();
+            servers.add(metrics.id());
+        }
+        status.setInUse(inUse);
+        status.setIdle(idle);
+        status.setPending(pending);
+        status.setAcquired(acquired);
+        status.setAcquisitionTimeouts(timedOut);
+        status.setAvgAcquisitionMs(acquired == 0 ? null : (double) totalAcquisitionTime / acquired);
+        recordAcquisitions(acquired, totalAcquisitionTime);
+        long[] percentiles = acquireLatency.percentiles(50, 95, 99);
+        if (percentiles != null) {
+            status.setP50AcquisitionMs(percentiles[0]);
+            status.setP95AcquisitionMs(percentiles[1]);
+            status.setP99AcquisitionMs(percentiles[2]);
+        }
+        status.getDetails().put("servers", servers);
+        return status;
+    }
+
+    /**
+     * 将距上次汇总新增的连接获取按区间平均耗时记入样本，驱动重建后累计值归零时重新建立基线
+     */
+    private void recordAcquisitions(long acquired, long totalAcquisitionTime) {
+        acquisitionLock.lock();
+        try {
+            long count = acquired - lastAcquired;
+            long time = totalAcquisitionTime - lastAcquisitionTime;
+            lastAcquired = acquired;
+            lastAcquisitionTime = totalAcquisitionTime;
+            if (count <= 0 || time < 0) {
+                return;
+            }
+            long average = Math.round((double) time / count);
+            for (long i = Math.min(count, ACQUISITION_SAMPLES_PER_INTERVAL); i > 0; i--) {
+                acquireLatency.record(average);
+            }
+        } finally {
+            acquisitionLock.unlock();
+        }
     }
 
     @Override
@@ -112,9 +484,11 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
         }
 
         try {
-            // Neo4j默认只有一个数据库，返回当前数据库名称
-            String databaseName = config.getDatabaseName() != null ? config.getDatabaseName() : "neo4j";
-            return List.of(databaseName);
+            // 只返回SHOW DATABASES列出的用户数据库（社区版即唯一的默认数据库），与resolveDatabase接受的名称一致
+            return getDatabases(DATABASE_CACHE_TTL_MS).stream()
+                    .filter(name -> !SYSTEM_DATABASE.equals(name))
+                    .sorted()
+                    .collect(Collectors.toList());
         } catch (Exception e) {
             throw new CoreException("获取Neo4j图列表失败: " + e.getMessage(), e);
         }
@@ -126,7 +500,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        try {
+        try (Session session = openSession(graphName, AccessMode.READ)) {
             GraphSchema schema = new GraphSchema();
             schema.setGraphName(graphName);
             schema.setDatabaseType("NEO4J");
@@ -171,7 +545,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        try {
+        try (Session session = openSystemSession()) {
             // Neo4j 企业版支持多数据库，社区版只有一个默认数据库
             // 检查数据库是否存在
             String checkDbQuery = "SHOW DATABASES";
@@ -186,21 +560,23 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             }
 
             if (!exists) {
-                // 如果数据库不存在，则尝试创建（仅企业版支持）
+                // 如果数据库不存在，则尝试创建（仅企业版支持）；社区版创建失败时直接报错，
+                // 不把该图名称落到默认数据库上，否则后续读写会被resolveDatabase拒绝
                 try {
                     String createDbQuery = "CREATE DATABASE $name";
                     session.run(createDbQuery, Values.parameters("name", graphName));
+                    databaseCatalog = null;
                     System.out.println("创建Neo4j数据库: " + graphName);
                 } catch (Exception e) {
-                    // 社区版不支持多数据库，记录警告信息
-                    System.out.println("Neo4j社区版不支持多数据库，使用默认数据库: " + graphName);
+                    throw new CoreException("创建Neo4j数据库失败（社区版不支持多数据库）: " + e.getMessage(), e);
                 }
             } else {
                 System.out.println("Neo4j数据库已存在: " + graphName);
             }
+        } catch (CoreException e) {
+            throw e;
         } catch (Exception e) {
-            // 如果 SHOW DATABASES 命令不可用，可能是较老版本
-            System.out.println("使用Neo4j默认数据库: " + graphName);
+            throw new CoreException("创建Neo4j数据库失败: " + e.getMessage(), e);
         }
     }
 
@@ -210,7 +586,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        try {
+        try (Session session = openSystemSession()) {
             // 检查数据库是否存在
             String checkDbQuery = "SHOW DATABASES";
             Result result = session.run(checkDbQuery);
@@ -227,6 +603,8 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
                 // 只删除自定义数据库，不删除系统数据库
                 String dropDbQuery = "DROP DATABASE $name";
                 session.run(dropDbQuery, Values.parameters("name", graphName));
+                databaseCatalog = null;
+                uidIndexes.clear();
                 System.out.println("删除Neo4j数据库: " + graphName);
             } else if ("neo4j".equals(graphName) || "system".equals(graphName)) {
                 System.out.println("不能删除系统数据库: " + graphName);
@@ -245,7 +623,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        try {
+        try (Session session = openSession(graphName)) {
             // Neo4j中节点标签是隐式创建的，只需执行一个简单查询来确认可以使用该标签
             String testQuery = "CALL db.labels() YIELD label WHERE label = $labelName RETURN label LIMIT 1";
             Result result = session.run(testQuery, Values.parameters("labelName", labelType.getName()));
@@ -260,6 +638,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             }
 
             System.out.println("确认Neo4j节点类型: " + labelType.getName());
+            ensureUidIndex(graphName, labelType.getName(), false);
         } catch (Exception e) {
             throw new CoreException("创建Neo4j点类型失败: " + e.getMessage(), e);
         }
@@ -271,7 +650,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        try {
+        try (Session session = openSession(graphName)) {
             // 删除所有带有该标签的节点
             String deleteNodesQuery = "MATCH (n:$label) DELETE n";
             session.run(deleteNodesQuery, Values.parameters("label", labelName));
@@ -287,7 +666,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        try {
+        try (Session session = openSession(graphName)) {
             // Neo4j中关系类型是隐式创建的，只需执行一个简单查询来确认可以使用该类型
             String testQuery = "CALL db.relationshipTypes() YIELD relationshipType WHERE relationshipType = $relTypeName RETURN relationshipType LIMIT 1";
             Result result = session.run(testQuery, Values.parameters("relTypeName", labelType.getName()));
@@ -302,6 +681,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             }
 
             System.out.println("确认Neo4j边类型: " + labelType.getName());
+            ensureUidIndex(graphName, labelType.getName(), true);
         } catch (Exception e) {
             throw new CoreException("创建Neo4j边类型失败: " + e.getMessage(), e);
         }
@@ -313,7 +693,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        try {
+        try (Session session = openSession(graphName)) {
             // 删除所有带有该类型的关系
             String deleteEdgesQuery = "MATCH ()-[r:$type]->() DELETE r";
             session.run(deleteEdgesQuery, Values.parameters("type", labelName));
@@ -329,7 +709,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        try {
+        try (Session session = openSession(graphName, AccessMode.READ)) {
             String query = "CALL db.labels() YIELD label RETURN label";
             Result result = session.run(query);
 
@@ -355,7 +735,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        try {
+        try (Session session = openSession(graphName, AccessMode.READ)) {
             String query = "CALL db.relationshipTypes() YIELD relationshipType RETURN relationshipType";
             Result result = session.run(query);
 
@@ -379,221 +759,426 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
 
     @Override
     public Map<String, Object> createVertex(String graphName, String label, Map<String, Object> properties) {
-        if (!isConnected()) {
-            throw new CoreException("Neo4j连接未建立");
-        }
+        ensureUidIndex(graphName, label, false);
+        return executeWrite(graphName, tx -> createVertex(tx, label, properties), "创建Neo4j节点失败");
+    }
 
-        try {
-            // 生成唯一ID
-            String uid = "vertex_" + System.currentTimeMillis();
+    @Override
+    public Map<String, Object> createEdge(String graphName, String label,
+                                          String sourceUid, String targetUid,
+                                          Map<String, Object> properties) {
+        return createEdge(graphName, label, null, sourceUid, null, targetUid, properties);
+    }
 
-            // 构建创建节点的Cypher查询
-            StringBuilder queryBuilder = new StringBuilder("CREATE (n:" + label + " {uid: $uid");
+    @Override
+    public Map<String, Object> createEdge(String graphName, String label,
+                                          String sourceLabel, String sourceUid,
+                                          String targetLabel, String targetUid,
+                                          Map<String, Object> properties) {
+        ensureUidIndex(graphName, label, true);
+        return executeWrite(graphName,
+                tx -> createEdge(tx, label, sourceLabel, sourceUid, targetLabel, targetUid, properties),
+                "创建Neo4j边失败");
+    }
 
-            if (properties != null && !properties.isEmpty()) {
-                for (String key : properties.keySet()) {
-                    queryBuilder.append(", ").append(key).append(": $prop_").append(key);
-                }
-            }
-            queryBuilder.append("}) RETURN n");
+    @Override
+    public void deleteVertex(String graphName, String uid) {
+        deleteVertex(graphName, null, uid);
+    }
 
-            // 构建参数
-            Map<String, Object> params = new HashMap<>();
-            params.put("uid", uid);
-            if (properties != null) {
-                for (Map.Entry<String, Object> entry : properties.entrySet()) {
-                    params.put("prop_" + entry.getKey(), entry.getValue());
-                }
-            }
+    @Override
+    public void deleteVertex(String graphName, String label, String uid) {
+        ensureUidIndex(graphName, label, false);
+        executeWrite(graphName, tx -> deleteVertex(tx, label, uid), "删除Neo4j节点失败");
+    }
+
+    @Override
+    public void deleteEdge(String graphName, String uid) {
+        deleteEdge(graphName, null, uid);
+    }
 
-            Result result = session.run(queryBuilder.toString(), params);
-            Record record = result.single();
-            Node node = record.get("n").asNode();
+    @Override
+    public void deleteEdge(String graphName, String label, String uid) {
+        ensureUidIndex(graphName, label, true);
+        executeWrite(graphName, tx -> deleteEdge(tx, label, uid), "删除Neo4j边失败");
+    }
 
-            // 构建返回的节点数据
-            Map<String, Object> vertex = new HashMap<>();
-            vertex.put("uid", uid);
-            vertex.put("label", label);
-            vertex.put("properties", node.asMap());
+    @Override
+    public List<Map<String, Object>> queryVertices(String graphName, QueryCondition condition) {
+        if (!isConnected()) {
+            throw new CoreException("Neo4j连接未建立");
+        }
 
-            return vertex;
+        try (Session session = openSession(graphName, AccessMode.READ)) {
+            Map<String, Object> params = new HashMap<>();
+            String query = buildVertexQuery(condition, params, true);
+            Result result = session.run(query, params);
+            List<Map<String, Object>> vertices = new ArrayList<>();
+            for (Record record : result.list()) {
+                vertices.add(recordToVertexMap(record));
+            }
+            return vertices;
         } catch (Exception e) {
-            throw new CoreException("创建Neo4j节点失败: " + e.getMessage(), e);
+            throw new CoreException("查询Neo4j节点失败: " + e.getMessage(), e);
         }
     }
 
     @Override
-    public Map<String, Object> createEdge(String graphName, String label,
-                                          String sourceUid, String targetUid,
-                                          Map<String, Object> properties) {
+    public List<Map<String, Object>> queryEdges(String graphName, QueryCondition condition) {
         if (!isConnected()) {
             throw new CoreException("Neo4j连接未建立");
         }
 
-        try {
-            // 生成唯一ID
-            String uid = "edge_" + System.currentTimeMillis();
+        try (Session session = openSession(graphName, AccessMode.READ)) {
+            Map<String, Object> params = new HashMap<>();
+            String query = buildEdgeQuery(condition, params, true);
+            Result result = session.run(query, params);
+            List<Map<String, Object>> edges = new ArrayList<>();
+            for (Record record : result.list()) {
+                edges.add(recordToEdgeMap(record));
+            }
+            return edges;
+        } catch (Exception e) {
+            throw new CoreException("查询Neo4j边失败: " + e.getMessage(), e);
+        }
+    }
 
-            // 构建创建边的Cypher查询
-            StringBuilder queryBuilder = new StringBuilder("MATCH (a), (b) WHERE a.uid = $sourceUid AND b.uid = $targetUid ");
-            queryBuilder.append("CREATE (a)-[r:").append(label).append(" {uid: $uid");
+    /**
+     * 键集分页：指定标签时按uid翻页（WHERE n.uid > $after ORDER BY n.uid LIMIT $limit），
+     * 由ensureUidIndex创建的uid唯一约束按序读取，只覆盖带uid属性的节点；
+     * 未指定标签时没有可用的属性索引，按elementId翻页，覆盖所有节点，每页仍需扫描并取前pageSize条（Top）。
+     * 游标的含义由是否指定标签决定，切换标签时需从第一页重新开始
+     */
+    @Override
+    public CursorPage<Map<String, Object>> scrollVertices(String graphName, QueryCondition condition) {
+        QueryCondition page = condition == null ? new QueryCondition() : condition;
+        String key = keysetKey("n", page);
+        String query = "MATCH (n" + labelClause(page.getLabel()) + ")" + keysetPredicate("n", key, page)
+                + " RETURN n, elementId(n) as id, " + key + " as key ORDER BY key LIMIT $limit";
+        return scroll(graphName, query, page, "n", this::recordToVertexMap, "查询Neo4j节点失败");
+    }
 
-            if (properties != null && !properties.isEmpty()) {
-                for (String key : properties.keySet()) {
-                    queryBuilder.append(", ").append(key).append(": $prop_").append(key);
-                }
-            }
-            queryBuilder.append("}]->(b) RETURN r");
+    /**
+     * 键集分页，约定同scrollVertices，指定关系类型时按uid范围索引翻页
+     */
+    @Override
+    public CursorPage<Map<String, Object>> scrollEdges(String graphName, QueryCondition condition) {
+        QueryCondition page = condition == null ? new QueryCondition() : condition;
+        String key = keysetKey("r", page);
+        String query = "MATCH ()-[r" + labelClause(page.getLabel()) + "]->()" + keysetPredicate("r", key, page)
+                + " RETURN r, elementId(r) as id, startNode(r) as source, endNode(r) as target, " + key
+                + " as key ORDER BY key LIMIT $limit";
+        return scroll(graphName, query, page, "r", this::recordToEdgeMap, "查询Neo4j边失败");
+    }
 
-            // 构建参数
-            Map<String, Object> params = new HashMap<>();
-            params.put("uid", uid);
-            params.put("sourceUid", sourceUid);
-            params.put("targetUid", targetUid);
-            if (properties != null) {
-                for (Map.Entry<String, Object> entry : properties.entrySet()) {
-                    params.put("prop_" + entry.getKey(), entry.getValue());
-                }
-            }
+    /**
+     * 键集分页的排序键：指定标签时为uid属性，否则为elementId
+     */
+    private static String keysetKey(String variable, QueryCondition page) {
+        String label = page.getLabel();
+        return label != null && !label.isEmpty() ? variable + ".uid" : "elementId(" + variable + ")";
+    }
 
-            Result result = session.run(queryBuilder.toString(), params);
-            Record record = result.single();
-            Relationship relationship = record.get("r").asRelationship();
+    /**
+     * 键集条件与属性过滤条件组成的WHERE子句，属性过滤参数在scroll中按相同顺序绑定；
+     * 按uid翻页时排除没有uid的元素，否则它们排在最后且无法作为游标
+     */
+    private static String keysetPredicate(String variable, String key, QueryCondition page) {
+        List<String> predicates = filterPredicates(variable, page.toFilters(), null);
+        if (page.getAfterKey() != null) {
+            predicates.add(0, key + " > $after");
+        } else if (key.endsWith(".uid")) {
+            predicates.add(0, key + " IS NOT NULL");
+        }
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
 
-            // 构建返回的边数据
-            Map<String, Object> edge = new HashMap<>();
-            edge.put("uid", uid);
-            edge.put("label", label);
-            edge.put("sourceUid", sourceUid);
-            edge.put("targetUid", targetUid);
-            edge.put("properties", relationship.asMap());
+    private CursorPage<Map<String, Object>> scroll(String graphName, String query, QueryCondition page, String variable,
+                                                   Function<Record, Map<String, Object>> mapper, String errorMessage) {
+        if (!isConnected()) {
+            throw new CoreException("Neo4j连接未建立");
+        }
 
-            return edge;
+        Map<String, Object> params = new HashMap<>();
+        params.put("limit", (long) page.getLimit());
+        if (page.getAfterKey() != null) {
+            params.put("after", page.getAfterKey());
+        }
+        filterPredicates(variable, page.toFilters(), params);
+        try (Session session = openSession(graphName, AccessMode.READ)) {
+            List<Record> records = session.run(query, params).list();
+            List<Map<String, Object>> items = new ArrayList<>(records.size());
+            for (Record record : records) {
+                items.add(mapper.apply(record));
+            }
+            String nextKey = records.size() < page.getLimit() ? null
+                    : records.get(records.size() - 1).get("key").asString();
+            return new CursorPage<>(items, nextKey);
         } catch (Exception e) {
-            throw new CoreException("创建Neo4j边失败: " + e.getMessage(), e);
+            throw new CoreException(errorMessage + ": " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 直接迭代驱动结果游标，记录按fetchSize分批从服务端拉取，会话在流关闭时关闭
+     */
     @Override
-    public void deleteVertex(String graphName, String uid) {
+    public Stream<Map<String, Object>> streamVertices(String graphName, QueryCondition condition) {
+        Map<String, Object> params = new HashMap<>();
+        String query = buildVertexQuery(condition, params, false);
+        return stream(graphName, query, params, "查询Neo4j节点失败").map(this::recordToVertexMap);
+    }
+
+    @Override
+    public Stream<Map<String, Object>> streamEdges(String graphName, QueryCondition condition) {
+        Map<String, Object> params = new HashMap<>();
+        String query = buildEdgeQuery(condition, params, false);
+        return stream(graphName, query, params, "查询Neo4j边失败").map(this::recordToEdgeMap);
+    }
+
+    private Stream<Record> stream(String graphName, String query, Map<String, Object> params, String errorMessage) {
         if (!isConnected()) {
             throw new CoreException("Neo4j连接未建立");
         }
 
+        Session session = openSession(graphName, AccessMode.READ);
         try {
-            // 删除节点及其所有关系
-            String query = "MATCH (n {uid: $uid}) DETACH DELETE n";
-            session.run(query, Values.parameters("uid", uid));
+            return session.run(query, params).stream().onClose(session::close);
         } catch (Exception e) {
-            throw new CoreException("删除Neo4j节点失败: " + e.getMessage(), e);
+            session.close();
+            throw new CoreException(errorMessage + ": " + e.getMessage(), e);
         }
     }
 
     @Override
-    public void deleteEdge(String graphName, String uid) {
+    public Map<String, Object> getVertex(String graphName, String uid) {
+        return getVertex(graphName, null, uid);
+    }
+
+    /**
+     * 按elementId或uid属性获取节点：先按elementId直接定位，未命中时再按uid属性查找，
+     * uid属性在已知标签时走uid约束索引，未知标签时需要扫描全部节点
+     */
+    @Override
+    public Map<String, Object> getVertex(String graphName, String label, String uid) {
         if (!isConnected()) {
             throw new CoreException("Neo4j连接未建立");
         }
 
-        try {
-            // 删除边
-            String query = "MATCH ()-[r {uid: $uid}]->() DELETE r";
-            session.run(query, Values.parameters("uid", uid));
+        Value params = Values.parameters("uid", uid);
+        try (Session session = openSession(graphName, AccessMode.READ)) {
+            List<Record> records = session.run(
+                    "MATCH (n) WHERE elementId(n) = $uid RETURN n, elementId(n) as id", params).list();
+            if (records.isEmpty()) {
+                records = session.run("MATCH (n" + labelClause(label) + " {uid: $uid}) RETURN n, elementId(n) as id LIMIT 1",
+                        params).list();
+            }
+            return records.isEmpty() ? null : recordToVertexMap(records.get(0));
         } catch (Exception e) {
-            throw new CoreException("删除Neo4j边失败: " + e.getMessage(), e);
+            throw new CoreException("获取Neo4j节点失败: " + e.getMessage(), e);
         }
     }
 
     @Override
-    public List<Map<String, Object>> queryVertices(String graphName, String label) {
+    public Map<String, Object> getEdge(String graphName, String uid) {
+        return getEdge(graphName, null, uid);
+    }
+
+    /**
+     * 按elementId或uid属性获取边：先按elementId直接定位，未命中时再按uid属性查找，
+     * uid属性在已知类型时走uid索引
+     */
+    @Override
+    public Map<String, Object> getEdge(String graphName, String label, String uid) {
         if (!isConnected()) {
             throw new CoreException("Neo4j连接未建立");
         }
 
-        try {
-            String query;
-            if (label != null && !label.isEmpty()) {
-                query = "MATCH (n:" + label + ") RETURN n, elementId(n) as id";
-            } else {
-                query = "MATCH (n) RETURN n, elementId(n) as id";
+        String returnClause = " RETURN r, elementId(r) as id, startNode(r) as source, endNode(r) as target";
+        Value params = Values.parameters("uid", uid);
+        try (Session session = openSession(graphName, AccessMode.READ)) {
+            List<Record> records = session.run("MATCH ()-[r]->() WHERE elementId(r) = $uid" + returnClause, params).list();
+            if (records.isEmpty()) {
+                records = session.run("MATCH ()-[r" + labelClause(label) + " {uid: $uid}]->()" + returnClause + " LIMIT 1",
+                        params).list();
             }
+            return records.isEmpty() ? null : recordToEdgeMap(records.get(0));
+        } catch (Exception e) {
+            throw new CoreException("获取Neo4j边失败: " + e.getMessage(), e);
+        }
+    }
 
-            Result result = session.run(query);
-            List<Map<String, Object>> vertices = new ArrayList<>();
+    @Override
+    public CompletionStage<List<Map<String, Object>>> queryVerticesAsync(String graphName, QueryCondition condition) {
+        Map<String, Object> params = new HashMap<>();
+        String query = buildVertexQuery(condition, params, true);
+        return runAsync(graphName, query, params, AccessMode.READ, this::recordToVertexMap, "查询Neo4j节点失败");
+    }
 
-            for (Record record : result.list()) {
-                Node node = record.get("n").asNode();
-                String elementId = record.get("id").asString(); // 使用elementId作为唯一标识
+    @Override
+    public CompletionStage<List<Map<String, Object>>> queryEdgesAsync(String graphName, QueryCondition condition) {
+        Map<String, Object> params = new HashMap<>();
+        String query = buildEdgeQuery(condition, params, true);
+        return runAsync(graphName, query, params, AccessMode.READ, this::recordToEdgeMap, "查询Neo4j边失败");
+    }
 
-                Map<String, Object> vertex = new HashMap<>();
+    private <T> CompletionStage<List<T>> runAsync(String graphName, String query, AccessMode mode,
+                                                  Function<Record, T> mapper, String errorMessage) {
+        return runAsync(graphName, query, Map.of(), mode, mapper, errorMessage);
+    }
 
-                // 获取节点标签
-                List<String> labels = StreamSupport.stream(node.labels().spliterator(), false).collect(Collectors.toList());
-                String primaryLabel = labels.isEmpty() ? "Unknown" : labels.get(0);
+    /**
+     * 在异步会话上执行查询并逐条转换结果记录，会话在查询完成后关闭
+     * 记录转换在驱动的IO线程上执行，转换逻辑不能阻塞
+     */
+    private <T> CompletionStage<List<T>> runAsync(String graphName, String query, Map<String, Object> params,
+                                                  AccessMode mode, Function<Record, T> mapper, String errorMessage) {
+        Driver current = driver;
+        if (current == null) {
+            return CompletableFuture.failedFuture(new CoreException("Neo4j连接未建立"));
+        }
+        String database;
+        try {
+            database = resolveDatabase(graphName);
+        } catch (CoreException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        AsyncSession session = current.session(AsyncSession.class, sessionConfig(database, mode));
+        return session.runAsync(query, params)
+                .thenCompose(cursor -> cursor.listAsync(mapper))
+                .handle((rows, error) -> session.closeAsync().handle((ignored, closeError) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        throw new CoreException(errorMessage + ": " + cause.getMessage(), cause);
+                    }
+                    return rows;
+                }))
+                .thenCompose(Function.identity());
+    }
 
-                // 使用elementId作为uid，这是Neo4j中更可靠的唯一标识
-                vertex.put("uid", elementId);
-                vertex.put("label", primaryLabel);
+    /**
+     * 构建节点查询，属性过滤、排序及SKIP/LIMIT均在数据库端执行，过滤值以参数传入
+     * @param params 查询参数，由本方法填充
+     * @param paged 是否分页，流式查询时不分页
+     */
+    private String buildVertexQuery(QueryCondition condition, Map<String, Object> params, boolean paged) {
+        QueryCondition page = condition == null ? new QueryCondition() : condition;
+        return "MATCH (n" + labelClause(page.getLabel()) + ")" + whereClause("n", page, params)
+                + " RETURN n, elementId(n) as id" + orderClause("n", page) + (paged ? pageClause(page, params) : "");
+    }
 
-                // 提取属性
-                Map<String, Object> properties = new HashMap<>();
-                for (String key : node.keys()) {
-                    properties.put(key, node.get(key).asObject());
-                }
-                vertex.put("properties", properties);
+    /**
+     * 构建边查询，属性过滤、排序及SKIP/LIMIT均在数据库端执行，过滤值以参数传入
+     * @param params 查询参数，由本方法填充
+     * @param paged 是否分页，流式查询时不分页
+     */
+    private String buildEdgeQuery(QueryCondition condition, Map<String, Object> params, boolean paged) {
+        QueryCondition page = condition == null ? new QueryCondition() : condition;
+        return "MATCH ()-[r" + labelClause(page.getLabel()) + "]->()" + whereClause("r", page, params)
+                + " RETURN r, elementId(r) as id, startNode(r) as source, endNode(r) as target"
+                + orderClause("r", page) + (paged ? pageClause(page, params) : "");
+    }
 
-                vertices.add(vertex);
-            }
+    private static String whereClause(String variable, QueryCondition page, Map<String, Object> params) {
+        List<String> predicates = filterPredicates(variable, page.toFilters(), params);
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
 
-            return vertices;
-        } catch (Exception e) {
-            throw new CoreException("查询Neo4j节点失败: " + e.getMessage(), e);
+    /**
+     * 将属性过滤编译为Cypher谓词，第i个条件的值绑定为参数$fi；params为null时只生成谓词
+     */
+    private static List<String> filterPredicates(String variable, List<PropertyFilter> filters, Map<String, Object> params) {
+        List<String> predicates = new ArrayList<>();
+        for (int i = 0; i < filters.size(); i++) {
+            PropertyFilter filter = filters.get(i);
+            String property = variable + "." + quoteName(filter.getProperty());
+            String param = "$f" + i;
+            Object value = filter.getValue();
+            String predicate = switch (filter.getOperator()) {
+                case EQ -> property + " = " + param;
+                case GT -> property + " > " + param;
+                case GTE -> property + " >= " + param;
+                case LT -> property + " < " + param;
+                case LTE -> property + " <= " + param;
+                case IN -> {
+                    value = filter.getValues();
+                    yield property + " IN " + param;
+                }
+                case PREFIX -> {
+                    value = String.valueOf(value);
+                    yield property + " STARTS WITH " + param;
+                }
+            };
+            predicates.add(predicate);
+            if (params != null) {
+                params.put("f" + i, value);
+            }
         }
+        return predicates;
     }
 
-    @Override
-    public List<Map<String, Object>> queryEdges(String graphName, String label) {
-        if (!isConnected()) {
-            throw new CoreException("Neo4j连接未建立");
+    private static String orderClause(String variable, QueryCondition page) {
+        if (!page.hasSort()) {
+            return "";
         }
+        return " ORDER BY " + variable + "." + quoteName(page.getSortField()) + (page.isDescending() ? " DESC" : " ASC");
+    }
 
-        try {
-            String query;
-            if (label != null && !label.isEmpty()) {
-                query = "MATCH ()-[r:" + label + "]->() RETURN r, elementId(r) as id, startNode(r) as source, endNode(r) as target";
-            } else {
-                query = "MATCH ()-[r]->() RETURN r, elementId(r) as id, startNode(r) as source, endNode(r) as target";
-            }
+    private static String pageClause(QueryCondition page, Map<String, Object> params) {
+        params.put("skip", (long) page.getOffset());
+        params.put("limit", (long) page.getLimit());
+        return " SKIP $skip LIMIT $limit";
+    }
 
-            Result result = session.run(query);
-            List<Map<String, Object>> edges = new ArrayList<>();
+    /**
+     * 将节点查询记录转换为节点Map，使用elementId作为uid
+     */
+    private Map<String, Object> recordToVertexMap(Record record) {
+        Node node = record.get("n").asNode();
+        String elementId = record.get("id").asString(); // 使用elementId作为唯一标识
 
-            for (Record record : result.list()) {
-                Relationship relationship = record.get("r").asRelationship();
-                String elementId = record.get("id").asString(); // 使用elementId作为唯一标识
-                Node source = record.get("source").asNode();
-                Node target = record.get("target").asNode();
-
-                Map<String, Object> edge = new HashMap<>();
-                edge.put("uid", elementId); // 使用elementId作为uid
-                edge.put("label", relationship.type());
-                edge.put("sourceUid", source.elementId()); // 使用elementId
-                edge.put("targetUid", target.elementId()); // 使用elementId
-
-                // 提取属性
-                Map<String, Object> properties = new HashMap<>();
-                for (String key : relationship.keys()) {
-                    properties.put(key, relationship.get(key).asObject());
-                }
-                edge.put("properties", properties);
+        Map<String, Object> vertex = new HashMap<>();
 
-                edges.add(edge);
-            }
+        // 获取节点标签
+        List<String> labels = StreamSupport.stream(node.labels().spliterator(), false).collect(Collectors.toList());
+        String primaryLabel = labels.isEmpty() ? "Unknown" : labels.get(0);
 
-            return edges;
-        } catch (Exception e) {
-            throw new CoreException("查询Neo4j边失败: " + e.getMessage(), e);
+        // 使用elementId作为uid，这是Neo4j中更可靠的唯一标识
+        vertex.put("uid", elementId);
+        vertex.put("label", primaryLabel);
+
+        // 提取属性
+        Map<String, Object> properties = new HashMap<>();
+        for (String key : node.keys()) {
+            properties.put(key, node.get(key).asObject());
         }
+        vertex.put("properties", properties);
+        return vertex;
+    }
+
+    /**
+     * 将边查询记录转换为边Map，使用elementId作为uid
+     */
+    private Map<String, Object> recordToEdgeMap(Record record) {
+        Relationship relationship = record.get("r").asRelationship();
+        String elementId = record.get("id").asString(); // 使用elementId作为唯一标识
+        Node source = record.get("source").asNode();
+        Node target = record.get("target").asNode();
+
+        Map<String, Object> edge = new HashMap<>();
+        edge.put("uid", elementId); // 使用elementId作为uid
+        edge.put("label", relationship.type());
+        edge.put("sourceUid", source.elementId()); // 使用elementId
+        edge.put("targetUid", target.elementId()); // 使用elementId
+
+        // 提取属性
+        Map<String, Object> properties = new HashMap<>();
+        for (String key : relationship.keys()) {
+            properties.put(key, relationship.get(key).asObject());
+        }
+        edge.put("properties", properties);
+        return edge;
     }
 
     @Override
@@ -629,7 +1214,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             throw new CoreException("Neo4j连接未建立");
         }
 
-        try {
+        try (Session session = openSession(graphName, AccessMode.READ)) {
             Map<String, Map<String, Object>> nodeTypes = new HashMap<>();
 
             // 获取所有节点标签
@@ -653,7 +1238,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             throw new CoreException("Neo4j连接未建立");
         }
 
-        try {
+        try (Session session = openSession(graphName, AccessMode.READ)) {
             Map<String, Map<String, Object>> edgeTypes = new HashMap<>();
 
             // 获取所有关系类型
@@ -677,7 +1262,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             throw new CoreException("Neo4j连接未建立");
         }
 
-        try {
+        try (Session session = openSession(graphName)) {
             // Neo4j中节点标签是隐式创建的，只需执行一个简单查询来确认可以使用该标签
             String testQuery = "CALL db.labels() YIELD label WHERE label = $typeName RETURN label LIMIT 1";
             Result result = session.run(testQuery, Values.parameters("typeName", typeName));
@@ -692,6 +1277,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             }
 
             System.out.println("确认Neo4j节点类型: " + typeName);
+            ensureUidIndex(graphName, typeName, false);
         } catch (Exception e) {
             throw new CoreException("创建Neo4j节点类型失败: " + e.getMessage(), e);
         }
@@ -703,7 +1289,7 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             throw new CoreException("Neo4j连接未建立");
         }
 
-        try {
+        try (Session session = openSession(graphName)) {
             // 删除所有带有该标签的节点
             String deleteNodesQuery = "MATCH (n:$" + typeName + ") DELETE n";
             session.run(deleteNodesQuery);
@@ -718,108 +1304,272 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
 
     @Override
     public Map<String, Object> updateVertex(String graphName, String uid, Map<String, Object> properties) {
-        if (!isConnected()) {
-            throw new CoreException("Neo4j连接未建立");
-        }
-
-        try {
-            // 构建更新节点的Cypher查询
-            StringBuilder queryBuilder = new StringBuilder("MATCH (n {uid: $uid}) SET ");
-
-            if (properties != null && !properties.isEmpty()) {
-                int i = 0;
-                for (String key : properties.keySet()) {
-                    if (i > 0) {
-                        queryBuilder.append(", ");
-                    }
-                    queryBuilder.append("n.").append(key).append(" = $prop_").append(key);
-                    i++;
-                }
-            }
-
-            queryBuilder.append(" RETURN n");
+        return updateVertex(graphName, null, uid, properties);
+    }
 
-            // 构建参数
-            Map<String, Object> params = new HashMap<>();
-            params.put("uid", uid);
-            if (properties != null) {
-                for (Map.Entry<String, Object> entry : properties.entrySet()) {
-                    params.put("prop_" + entry.getKey(), entry.getValue());
-                }
-            }
+    @Override
+    public Map<String, Object> updateVertex(String graphName, String label, String uid, Map<String, Object> properties) {
+        ensureUidIndex(graphName, label, false);
+        return executeWrite(graphName, tx -> updateVertex(tx, label, uid, properties), "更新Neo4j节点失败");
+    }
 
-            Result result = session.run(queryBuilder.toString(), params);
-            Record record = result.single();
-            Node node = record.get("n").asNode();
+    @Override
+    public Map<String, Object> updateEdge(String graphName, String uid, Map<String, Object> properties) {
+        return updateEdge(graphName, null, uid, properties);
+    }
 
-            // 构建返回的更新后节点数据
-            Map<String, Object> vertex = new HashMap<>();
-            vertex.put("uid", uid);
+    @Override
+    public Map<String, Object> updateEdge(String graphName, String label, String uid, Map<String, Object> properties) {
+        ensureUidIndex(graphName, label, true);
+        return executeWrite(graphName, tx -> updateEdge(tx, label, uid, properties), "更新Neo4j边失败");
+    }
 
-            // 获取节点标签
-            List<String> labels = StreamSupport.stream(node.labels().spliterator(), false).collect(Collectors.toList());
-            String primaryLabel = labels.isEmpty() ? "Unknown" : labels.get(0);
-            vertex.put("label", primaryLabel);
-            vertex.put("properties", node.asMap());
+    /**
+     * 在单个托管事务中依次执行全部变更，事务函数遇到瞬时故障时由驱动整体重试
+     */
+    @Override
+    public List<Map<String, Object>> executeMutations(String graphName, List<GraphMutation> mutations) {
+        if (mutations == null || mutations.isEmpty()) {
+            return List.of();
+        }
+        // 约束与索引不能和数据写入在同一事务中创建，先在事务外补齐
+        for (GraphMutation mutation : mutations) {
+            boolean edge = mutation.getType() == GraphMutation.Type.CREATE_EDGE
+                    || mutation.getType() == GraphMutation.Type.UPDATE_EDGE
+                    || mutation.getType() == GraphMutation.Type.DELETE_EDGE;
+            ensureUidIndex(graphName, mutation.getLabel(), edge);
+        }
+        return executeWrite(graphName, tx -> {
+            List<Map<String, Object>> results = new ArrayList<>(mutations.size());
+            for (GraphMutation mutation : mutations) {
+                results.add(applyMutation(tx, mutation));
+            }
+            return results;
+        }, "批量写入Neo4j失败");
+    }
 
-            return vertex;
-        } catch (Exception e) {
-            throw new CoreException("更新Neo4j节点失败: " + e.getMessage(), e);
+    private Map<String, Object> applyMutation(TransactionContext tx, GraphMutation mutation) {
+        switch (mutation.getType()) {
+            case CREATE_VERTEX:
+                return createVertex(tx, mutation.getLabel(), mutation.getProperties());
+            case CREATE_EDGE:
+                return createEdge(tx, mutation.getLabel(), mutation.getSourceLabel(), mutation.getSourceUid(),
+                        mutation.getTargetLabel(), mutation.getTargetUid(), mutation.getProperties());
+            case UPDATE_VERTEX:
+                return updateVertex(tx, mutation.getLabel(), mutation.getUid(), mutation.getProperties());
+            case UPDATE_EDGE:
+                return updateEdge(tx, mutation.getLabel(), mutation.getUid(), mutation.getProperties());
+            case DELETE_VERTEX:
+                return deleteVertex(tx, mutation.getLabel(), mutation.getUid());
+            case DELETE_EDGE:
+                return deleteEdge(tx, mutation.getLabel(), mutation.getUid());
+            default:
+                throw new CoreException("不支持的变更类型: " + mutation.getType());
         }
     }
 
-    @Override
-    public Map<String, Object> updateEdge(String graphName, String uid, Map<String, Object> properties) {
+    /**
+     * 在图对应数据库的写会话上以托管事务执行写操作
+     * executeWrite在主节点切换、死锁等瞬时故障时自动重试整个事务函数，因此事务函数内不能有外部副作用
+     */
+    private <T> T executeWrite(String graphName, TransactionCallback<T> work, String errorMessage) {
         if (!isConnected()) {
             throw new CoreException("Neo4j连接未建立");
         }
+        try (Session session = openSession(graphName)) {
+            return session.executeWrite(work);
+        } catch (Exception e) {
+            throw new CoreException(errorMessage + ": " + e.getMessage(), e);
+        }
+    }
 
-        try {
-            // 构建更新边的Cypher查询
-            StringBuilder queryBuilder = new StringBuilder("MATCH ()-[r {uid: $uid}]->() SET ");
-
-            if (properties != null && !properties.isEmpty()) {
-                int i = 0;
-                for (String key : properties.keySet()) {
-                    if (i > 0) {
-                        queryBuilder.append(", ");
-                    }
-                    queryBuilder.append("r.").append(key).append(" = $prop_").append(key);
-                    i++;
-                }
+    private Map<String, Object> createVertex(TransactionContext tx, String label, Map<String, Object> properties) {
+        // 生成唯一ID
+        String uid = UidGenerator.next("vertex_");
+
+        // 构建创建节点的Cypher查询
+        StringBuilder queryBuilder = new StringBuilder("CREATE (n:" + label + " {uid: $uid");
+        if (properties != null && !properties.isEmpty()) {
+            for (String key : properties.keySet()) {
+                queryBuilder.append(", ").append(key).append(": $prop_").append(key);
             }
+        }
+        queryBuilder.append("}) RETURN n");
 
-            queryBuilder.append(" RETURN r, startNode(r) as source, endNode(r) as target");
+        Map<String, Object> params = propertyParams(properties);
+        params.put("uid", uid);
 
-            // 构建参数
-            Map<String, Object> params = new HashMap<>();
-            params.put("uid", uid);
-            if (properties != null) {
-                for (Map.Entry<String, Object> entry : properties.entrySet()) {
-                    params.put("prop_" + entry.getKey(), entry.getValue());
-                }
+        Node node = tx.run(queryBuilder.toString(), params).single().get("n").asNode();
+
+        // 构建返回的节点数据
+        Map<String, Object> vertex = new HashMap<>();
+        vertex.put("uid", uid);
+        vertex.put("label", label);
+        vertex.put("properties", node.asMap());
+        return vertex;
+    }
+
+    private Map<String, Object> createEdge(TransactionContext tx, String label,
+                                           String sourceLabel, String sourceUid,
+                                           String targetLabel, String targetUid,
+                                           Map<String, Object> properties) {
+        // 生成唯一ID
+        String uid = UidGenerator.next("edge_");
+
+        // 构建创建边的Cypher查询，已知两端标签时按标签+uid定位节点
+        StringBuilder queryBuilder = new StringBuilder("MATCH (a" + labelClause(sourceLabel) + " {uid: $sourceUid}), ");
+        queryBuilder.append("(b").append(labelClause(targetLabel)).append(" {uid: $targetUid}) ");
+        queryBuilder.append("CREATE (a)-[r:").append(label).append(" {uid: $uid");
+        if (properties != null && !properties.isEmpty()) {
+            for (String key : properties.keySet()) {
+                queryBuilder.append(", ").append(key).append(": $prop_").append(key);
             }
+        }
+        queryBuilder.append("}]->(b) RETURN r");
+
+        Map<String, Object> params = propertyParams(properties);
+        params.put("uid", uid);
+        params.put("sourceUid", sourceUid);
+        params.put("targetUid", targetUid);
+
+        Relationship relationship = tx.run(queryBuilder.toString(), params).single().get("r").asRelationship();
+
+        // 构建返回的边数据
+        Map<String, Object> edge = new HashMap<>();
+        edge.put("uid", uid);
+        edge.put("label", label);
+        edge.put("sourceUid", sourceUid);
+        edge.put("targetUid", targetUid);
+        edge.put("properties", relationship.asMap());
+        return edge;
+    }
+
+    private Map<String, Object> updateVertex(TransactionContext tx, String label, String uid,
+                                             Map<String, Object> properties) {
+        // 构建更新节点的Cypher查询
+        StringBuilder queryBuilder = new StringBuilder("MATCH (n" + labelClause(label) + " {uid: $uid}) SET ");
+        appendSetClause(queryBuilder, "n", properties);
+        queryBuilder.append(" RETURN n");
+
+        Map<String, Object> params = propertyParams(properties);
+        params.put("uid", uid);
 
-            Result result = session.run(queryBuilder.toString(), params);
-            Record record = result.single();
-            Relationship relationship = record.get("r").asRelationship();
-            Node source = record.get("source").asNode();
-            Node target = record.get("target").asNode();
+        Node node = tx.run(queryBuilder.toString(), params).single().get("n").asNode();
 
-            // 构建返回的更新后边数据
-            Map<String, Object> edge = new HashMap<>();
-            edge.put("uid", uid);
-            edge.put("label", relationship.type());
-            edge.put("sourceUid", source.get("uid").asString());
-            edge.put("targetUid", target.get("uid").asString());
-            edge.put("properties", relationship.asMap());
+        // 构建返回的更新后节点数据
+        Map<String, Object> vertex = new HashMap<>();
+        vertex.put("uid", uid);
+
+        // 获取节点标签
+        List<String> labels = StreamSupport.stream(node.labels().spliterator(), false).collect(Collectors.toList());
+        String primaryLabel = labels.isEmpty() ? "Unknown" : labels.get(0);
+        vertex.put("label", primaryLabel);
+        vertex.put("properties", node.asMap());
+        return vertex;
+    }
 
-            return edge;
+    private Map<String, Object> updateEdge(TransactionContext tx, String label, String uid,
+                                           Map<String, Object> properties) {
+        // 构建更新边的Cypher查询
+        StringBuilder queryBuilder = new StringBuilder("MATCH ()-[r" + labelClause(label) + " {uid: $uid}]->() SET ");
+        appendSetClause(queryBuilder, "r", properties);
+        queryBuilder.append(" RETURN r, startNode(r) as source, endNode(r) as target");
+
+        Map<String, Object> params = propertyParams(properties);
+        params.put("uid", uid);
+
+        Record record = tx.run(queryBuilder.toString(), params).single();
+        Relationship relationship = record.get("r").asRelationship();
+        Node source = record.get("source").asNode();
+        Node target = record.get("target").asNode();
+
+        // 构建返回的更新后边数据
+        Map<String, Object> edge = new HashMap<>();
+        edge.put("uid", uid);
+        edge.put("label", relationship.type());
+        edge.put("sourceUid", source.get("uid").asString());
+        edge.put("targetUid", target.get("uid").asString());
+        edge.put("properties", relationship.asMap());
+        return edge;
+    }
+
+    private Map<String, Object> deleteVertex(TransactionContext tx, String label, String uid) {
+        // 删除节点及其所有关系
+        tx.run("MATCH (n" + labelClause(label) + " {uid: $uid}) DETACH DELETE n",
+                Values.parameters("uid", uid)).consume();
+        return Map.of("uid", uid);
+    }
+
+    private Map<String, Object> deleteEdge(TransactionContext tx, String label, String uid) {
+        tx.run("MATCH ()-[r" + labelClause(label) + " {uid: $uid}]->() DELETE r",
+                Values.parameters("uid", uid)).consume();
+        return Map.of("uid", uid);
+    }
+
+    /**
+     * 标签匹配子句，标签未知时为空（此时无法使用uid索引，退化为全图扫描）
+     */
+    private static String labelClause(String label) {
+        return label == null || label.isEmpty() ? "" : ":" + quoteName(label);
+    }
+
+    private static String quoteName(String name) {
+        return "`" + name.replace("`", "``") + "`";
+    }
+
+    /**
+     * 确保标签上存在uid索引：节点标签创建uid唯一约束（自带索引），关系类型创建uid范围索引。
+     * Neo4j的属性索引必须指定标签，按uid定位时需带上标签才能走索引。
+     * 每个数据库+标签创建成功后不再重复执行；创建失败（如已有重复uid）仅记录日志，不影响写入，下次写入时重试
+     * @param graphName 图名称
+     * @param label 节点标签或关系类型，为空时忽略
+     * @param relationship 是否为关系类型
+     */
+    private void ensureUidIndex(String graphName, String label, boolean relationship) {
+        if (label == null || label.isEmpty() || !isConnected()) {
+            return;
+        }
+        String database = resolveDatabase(graphName);
+        String key = database + "|" + (relationship ? "r:" : "n:") + label;
+        if (uidIndexes.contains(key)) {
+            return;
+        }
+        String statement = relationship
+                ? "CREATE INDEX " + quoteName("graphdb_uid_rel_" + label) + " IF NOT EXISTS FOR ()-[r"
+                        + labelClause(label) + "]-() ON (r.uid)"
+                : "CREATE CONSTRAINT " + quoteName("graphdb_uid_node_" + label) + " IF NOT EXISTS FOR (n"
+                        + labelClause(label) + ") REQUIRE n.uid IS UNIQUE";
+        try (Session session = openSession(graphName)) {
+            session.run(statement).consume();
+            uidIndexes.add(key);
         } catch (Exception e) {
-            throw new CoreException("更新Neo4j边失败: " + e.getMessage(), e);
+            log.warn("创建Neo4j uid索引失败: {}", key, e);
+        }
+    }
+
+    private void appendSetClause(StringBuilder queryBuilder, String variable, Map<String, Object> properties) {
+        if (properties != null && !properties.isEmpty()) {
+            int i = 0;
+            for (String key : properties.keySet()) {
+                if (i > 0) {
+                    queryBuilder.append(", ");
+                }
+                queryBuilder.append(variable).append(".").append(key).append(" = $prop_").append(key);
+                i++;
+            }
         }
     }
 
+    private Map<String, Object> propertyParams(Map<String, Object> properties) {
+        Map<String, Object> params = new HashMap<>();
+        if (properties != null) {
+            for (Map.Entry<String, Object> entry : properties.entrySet()) {
+                params.put("prop_" + entry.getKey(), entry.getValue());
+            }
+        }
+        return params;
+    }
+
     @Override
     public GraphQueryResult executeNativeQuery(ConnectionConfig config, String graphName,
                                                String queryLanguage, String queryStatement) throws CoreException {
@@ -827,82 +1577,215 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
             connect(config);
         }
 
-        GraphQueryResult result = new GraphQueryResult();
-
-        try {
+        try (Session session = openSession(graphName, accessModeOf(queryStatement))) {
             // 验证查询语言
-            if (!"Cypher".equalsIgnoreCase(queryLanguage) && !"CYPHER".equalsIgnoreCase(queryLanguage)) {
-                throw new CoreException("Neo4j只支持Cypher查询语言");
-            }
+            validateQueryLanguage(queryLanguage);
 
             // 执行原生查询
             Result neo4jResult = session.run(queryStatement);
+            return buildQueryResult(neo4jResult);
+        } catch (Exception e) {
+            throw new CoreException("执行Neo4j原生查询失败: " + e.getMessage(), e);
+        }
+    }
 
-            // 处理查询结果，提取节点和边
-            List<Vertex> vertices = new ArrayList<>();
-            List<Edge> edges = new ArrayList<>();
+    /**
+     * 边读取驱动游标边返回图元素，只记录已返回元素的uid用于去重，不保留元素本身
+     */
+    @Override
+    public Stream<GraphElement> streamNativeQuery(ConnectionConfig config, String graphName,
+                                                  String queryLanguage, String queryStatement) throws CoreException {
+        if (!isConnected()) {
+            connect(config);
+        }
+        validateQueryLanguage(queryLanguage);
 
-            for (Record record : neo4jResult.list()) {
-                for (String key : record.keys()) {
-                    Object value = record.get(key).asObject();
-                    extractGraphElements(value, vertices, edges);
-                }
+        Session session = openSession(graphName, accessModeOf(queryStatement));
+        try {
+            Set<String> seenVertices = new HashSet<>();
+            Set<String> seenEdges = new HashSet<>();
+            return session.run(queryStatement).stream()
+                    .flatMap(record -> {
+                        // 单条记录内按uid去重且不设上限，跨记录的去重由seen集合完成
+                        GraphQueryResultBuilder builder = new GraphQueryResultBuilder(0, 0);
+                        for (String key : record.keys()) {
+                            extractGraphElements(record.get(key).asObject(), builder);
+                        }
+                        GraphQueryResult rows = builder.build();
+                        return Stream.concat(
+                                rows.getVertices().stream().filter(v -> seenVertices.add(v.getUid())).map(GraphElement::of),
+                                rows.getEdges().stream().filter(e -> seenEdges.add(e.getUid())).map(GraphElement::of));
+                    })
+                    .onClose(session::close);
+        } catch (Exception e) {
+            session.close();
+            throw new CoreException("执行Neo4j原生查询失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 剩余时间作为事务超时传给服务端，超时后由Neo4j终止事务并释放资源；
+     * 查询ID写入事务元数据，取消时据此查找事务并执行TERMINATE TRANSACTIONS
+     */
+    @Override
+    public GraphQueryResult executeNativeQuery(ConnectionConfig config, String graphName, String queryLanguage,
+                                               String queryStatement, QueryContext context) throws CoreException {
+        if (!isConnected()) {
+            connect(config);
+        }
+        validateQueryLanguage(queryLanguage);
+
+        long timeoutMs = context.getRemainingMs();
+        long start = System.currentTimeMillis();
+        TransactionConfig.Builder txConfig = TransactionConfig.builder()
+                .withMetadata(Map.of(QUERY_ID_METADATA, context.getQueryId()));
+        if (timeoutMs > 0) {
+            txConfig.withTimeout(Duration.ofMillis(timeoutMs));
+        }
+        context.onCancel(() -> terminateTransactions(context.getQueryId()));
+        try (Session session = openSession(graphName, accessModeOf(queryStatement))) {
+            if (context.isCancelled()) {
+                return GraphQueryResult.cancelled(System.currentTimeMillis() - start);
+            }
+            Result neo4jResult = session.run(queryStatement, txConfig.build());
+            // 取消发生在事务出现在SHOW TRANSACTIONS之前时，终止动作找不到事务，run返回后事务已可见，此处补发
+            if (context.isCancelled()) {
+                terminateTransactions(context.getQueryId());
+                return GraphQueryResult.cancelled(System.currentTimeMillis() - start);
             }
+            return buildQueryResult(neo4jResult);
+        } catch (Neo4jException e) {
+            if (context.isCancelled()) {
+                return GraphQueryResult.cancelled(System.currentTimeMillis() - start);
+            }
+            if (isTransactionTimeout(e)) {
+                System.out.println("Neo4j查询超时已终止: queryId=" + context.getQueryId() + ", timeoutMs=" + timeoutMs);
+                return GraphQueryResult.timeout(timeoutMs);
+            }
+            throw new CoreException("执行Neo4j原生查询失败: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new CoreException("执行Neo4j原生查询失败: " + e.getMessage(), e);
+        } finally {
+            context.onCancel(null);
+        }
+    }
 
-            // 设置结果
-            result.setVertices(vertices);
-            result.setEdges(edges);
+    /**
+     * 服务端因事务超时终止查询时的错误码：
+     * Neo.ClientError.Transaction.TransactionTimedOut / TransactionTimedOutClientConfiguration
+     */
+    private boolean isTransactionTimeout(Neo4jException e) {
+        return e.code() != null && e.code().contains("TransactionTimedOut");
+    }
 
-            // 设置统计信息
-            GraphQueryResult.QueryStatistics stats = new GraphQueryResult.QueryStatistics();
-            stats.setResultRows(vertices.size() + edges.size());
-            stats.setStatus("SUCCESS");
-            result.setStatistics(stats);
+    /**
+     * 终止元数据中带有指定查询ID的事务，被终止的查询所在会话随即收到错误并归还连接
+     * SHOW TRANSACTIONS只列出当前服务器上的事务，集群模式下取消在主节点上执行，
+     * 路由到从节点的只读查询仍由事务超时兜底
+     */
+    private void terminateTransactions(String queryId) {
+        try (Session session = openSession()) {
+            List<String> transactionIds = session.run(
+                            "SHOW TRANSACTIONS YIELD transactionId, metaData "
+                                    + "WHERE metaData." + QUERY_ID_METADATA + " = $queryId RETURN transactionId",
+                            Values.parameters("queryId", queryId))
+                    .list(record -> record.get("transactionId").asString());
+            if (!transactionIds.isEmpty()) {
+                session.run("TERMINATE TRANSACTIONS $ids", Values.parameters("ids", transactionIds)).consume();
+            }
+            System.out.println("终止Neo4j查询: queryId=" + queryId + ", transactions=" + transactionIds);
+        } catch (Exception e) {
+            System.out.println("终止Neo4j查询失败: queryId=" + queryId + ", error=" + e.getMessage());
+        }
+    }
 
-            return result;
+    @Override
+    public CompletionStage<GraphQueryResult> executeNativeQueryAsync(ConnectionConfig config, String graphName,
+                                                                     String queryLanguage, String queryStatement) {
+        try {
+            if (!isConnected()) {
+                connect(config);
+            }
+            validateQueryLanguage(queryLanguage);
+        } catch (CoreException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return runAsync(graphName, queryStatement, accessModeOf(queryStatement), Function.identity(), "执行Neo4j原生查询失败")
+                .thenApply(records -> buildQueryResult(records.iterator()));
+    }
 
-        } catch (Exception e) {
-            // 设置错误信息
-            GraphQueryResult.QueryStatistics stats = new GraphQueryResult.QueryStatistics();
-            stats.setStatus("ERROR");
-            stats.setErrorMessage(e.getMessage());
-            result.setStatistics(stats);
+    private void validateQueryLanguage(String queryLanguage) {
+        if (!"Cypher".equalsIgnoreCase(queryLanguage) && !"CYPHER".equalsIgnoreCase(queryLanguage)) {
+            throw new CoreException("Neo4j只支持Cypher查询语言");
+        }
+    }
 
-            throw new CoreException("执行Neo4j原生查询失败: " + e.getMessage(), e);
+    /**
+     * 处理查询结果，提取节点和边
+     * 按记录逐条读取，达到结果上限后不再拉取剩余记录，结果标记为truncated
+     */
+    private GraphQueryResult buildQueryResult(Iterator<Record> records) {
+        GraphQueryResultBuilder builder = new GraphQueryResultBuilder();
+        while (records.hasNext() && !builder.isTruncated()) {
+            Record record = records.next();
+            for (String key : record.keys()) {
+                if (!extractGraphElements(record.get(key).asObject(), builder)) {
+                    break;
+                }
+            }
+        }
+        if (builder.isTruncated()) {
+            System.out.println("Neo4j原生查询结果超过上限，已截断");
         }
+        return builder.build();
     }
 
     /**
-     * 从查询结果中提取图元素（节点和边）
+     * 从查询结果中提取图元素（节点和边），已收录的uid不再转换
+     * @return 是否可以继续提取，达到结果上限时返回false
      */
-    private void extractGraphElements(Object value, List<Vertex> vertices, List<Edge> edges) {
+    private boolean extractGraphElements(Object value, GraphQueryResultBuilder builder) {
         if (value instanceof Node) {
             // 处理节点
             Node node = (Node) value;
-            Vertex vertex = convertNeo4jNodeToVertex(node);
-            if (!containsVertex(vertices, vertex.getUid())) {
-                vertices.add(vertex);
-            }
+            return builder.containsVertex(String.valueOf(node.id()))
+                    || builder.addVertex(convertNeo4jNodeToVertex(node));
         } else if (value instanceof Relationship) {
             // 处理边
             Relationship rel = (Relationship) value;
-            Edge edge = convertNeo4jRelationshipToEdge(rel);
-            if (!containsEdge(edges, edge.getUid())) {
-                edges.add(edge);
+            return builder.containsEdge(String.valueOf(rel.id()))
+                    || builder.addEdge(convertNeo4jRelationshipToEdge(rel));
+        } else if (value instanceof Path) {
+            // 处理路径，路径上的节点和边按出现顺序收录
+            Path path = (Path) value;
+            for (Node node : path.nodes()) {
+                if (!extractGraphElements(node, builder)) {
+                    return false;
+                }
+            }
+            for (Relationship rel : path.relationships()) {
+                if (!extractGraphElements(rel, builder)) {
+                    return false;
+                }
             }
         } else if (value instanceof Map) {
             // 处理Map结构
             Map<?, ?> map = (Map<?, ?>) value;
             for (Object nestedValue : map.values()) {
-                extractGraphElements(nestedValue, vertices, edges);
+                if (!extractGraphElements(nestedValue, builder)) {
+                    return false;
+                }
             }
         } else if (value instanceof List) {
             // 处理列表结构
             List<?> list = (List<?>) value;
             for (Object nestedValue : list) {
-                extractGraphElements(nestedValue, vertices, edges);
+                if (!extractGraphElements(nestedValue, builder)) {
+                    return false;
+                }
             }
         }
+        return true;
     }
 
     /**
@@ -945,23 +1828,9 @@ public class Neo4jAdapter implements GraphAdapter, DataHandler, SchemaHandler {
         return edge;
     }
 
-    /**
-     * 检查节点是否已存在
-     */
-    private boolean containsVertex(List<Vertex> vertices, String uid) {
-        return vertices.stream().anyMatch(v -> uid.equals(v.getUid()));
-    }
-
-    /**
-     * 检查边是否已存在
-     */
-    private boolean containsEdge(List<Edge> edges, String uid) {
-        return edges.stream().anyMatch(e -> uid.equals(e.getUid()));
-    }
-
     @Override
     public Map<String, Object> executeNativeQuery(String graphName, String query, DatabaseTypeEnum dbType) {
-        try {
+        try (Session session = openSession(graphName, accessModeOf(query))) {
             // Neo4j使用Cypher查询语言
             System.out.println("执行Cypher查询: " + query);
 
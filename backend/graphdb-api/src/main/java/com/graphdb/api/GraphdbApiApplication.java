@@ -3,12 +3,14 @@ package com.graphdb.api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * API模块启动类
  */
 @SpringBootApplication(scanBasePackages = "com.graphdb")
 @MapperScan("com.graphdb.storage.repository")
+@EnableScheduling
 public class GraphdbApiApplication {
     
     public static void main(String[] args) {
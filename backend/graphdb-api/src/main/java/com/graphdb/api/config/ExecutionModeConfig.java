@@ -0,0 +1,31 @@
+package com.graphdb.api.config;
+
+import com.graphdb.core.util.BlockingCallExecutor;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 执行模式配置
+ * spring.threads.virtual.enabled=true且运行在JDK 21及以上时，Tomcat请求处理及@Scheduled任务由Spring Boot切换到虚拟线程，
+ * 这里同步切换适配器异步接口的阻塞调用执行器；JDK版本不满足时保持平台线程模式
+ */
+@Slf4j
+@Configuration
+public class ExecutionModeConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @PostConstruct
+    public void init() {
+        int javaVersion = Runtime.version().feature();
+        if (virtualThreadsEnabled && javaVersion < 21) {
+            log.warn("已配置spring.threads.virtual.enabled，但当前JDK版本为{}，虚拟线程需要JDK 21及以上，继续使用平台线程", javaVersion);
+            return;
+        }
+        BlockingCallExecutor.setVirtualThreadsEnabled(virtualThreadsEnabled);
+        log.info("执行模式: {}", virtualThreadsEnabled ? "虚拟线程" : "平台线程");
+    }
+}
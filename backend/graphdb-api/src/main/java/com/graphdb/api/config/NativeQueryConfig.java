@@ -0,0 +1,29 @@
+package com.graphdb.api.config;
+
+import com.graphdb.core.model.GraphQueryResultBuilder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 原生查询结果上限配置
+ * 原生查询结果组装时节点与边的总数或估算内存占用超过上限后停止读取，结果标记为truncated，
+ * 避免一次大查询占满堆内存；取值小于等于0表示不限制
+ */
+@Slf4j
+@Configuration
+public class NativeQueryConfig {
+
+    @Value("${graphdb.native-query.max-elements:" + GraphQueryResultBuilder.DEFAULT_MAX_ELEMENTS + "}")
+    private int maxElements;
+
+    @Value("${graphdb.native-query.max-bytes:" + GraphQueryResultBuilder.DEFAULT_MAX_BYTES + "}")
+    private long maxBytes;
+
+    @PostConstruct
+    public void init() {
+        GraphQueryResultBuilder.configure(maxElements, maxBytes);
+        log.info("原生查询结果上限: maxElements={}, maxBytes={}", maxElements, maxBytes);
+    }
+}
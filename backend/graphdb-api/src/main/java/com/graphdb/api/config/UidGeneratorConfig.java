@@ -0,0 +1,31 @@
+package com.graphdb.api.config;
+
+import com.graphdb.core.util.UidGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * uid生成器配置
+ * 多个API节点写同一个图时，每个节点需通过graphdb.uid.worker-id配置不同的工作节点ID（0-1023），
+ * 未配置时按主机名及进程号推导
+ */
+@Slf4j
+@Configuration
+public class UidGeneratorConfig {
+
+    @Value("${graphdb.uid.worker-id:-1}")
+    private long workerId;
+
+    @PostConstruct
+    public void init() {
+        if (workerId < 0) {
+            log.warn("未配置graphdb.uid.worker-id，使用推导的工作节点ID: {}，多节点部署时请显式配置",
+                    UidGenerator.getInstance().getWorkerId());
+            return;
+        }
+        UidGenerator.configure(workerId);
+        log.info("uid生成器工作节点ID: {}", workerId);
+    }
+}
@@ -5,16 +5,32 @@ import com.graphdb.api.dto.Result;
 import com.graphdb.service.GraphService;
 import com.graphdb.core.model.Vertex;
 import com.graphdb.core.model.Edge;
+import com.graphdb.core.model.GraphMutation;
+import com.graphdb.core.model.PropertyFilter;
 import com.graphdb.core.model.QueryCondition;
 import com.graphdb.core.model.CsvImportConfig;
+import com.graphdb.core.model.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * 数据操作控制器
@@ -26,9 +42,14 @@ import java.util.Map;
 @CrossOrigin
 public class DataOperationController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    
     @Autowired
     private GraphService graphService;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     /**
      * 创建节点
      */
@@ -53,28 +74,88 @@ public class DataOperationController {
      */
     @Operation(summary = "查询节点", description = "查询指定图中的节点")
     @GetMapping("/vertices")
-    public Result<List<Vertex>> queryVertices(
+    public CompletableFuture<Result<List<Vertex>>> queryVertices(
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
             @Parameter(description = "图名称", required = true) @PathVariable String graphName,
             @Parameter(description = "节点类型筛选") @RequestParam(required = false, name = "label") String label,
-            @Parameter(description = "关键词搜索") @RequestParam(required = false, name = "keyword") String keyword,
+            @Parameter(description = "关键词，按name属性前缀匹配") @RequestParam(required = false, name = "keyword") String keyword,
+            @Parameter(description = "属性过滤，格式为 属性:操作符:值，操作符为eq/gt/gte/lt/lte/in/prefix，in的值以逗号分隔，可重复传入") @RequestParam(required = false, name = "filter") List<String> filters,
             @Parameter(description = "页码", example = "1") @RequestParam(required = false, name = "pageNum") Integer pageNum,
             @Parameter(description = "每页大小", example = "20") @RequestParam(required = false, name = "pageSize") Integer pageSize,
             @Parameter(description = "排序字段") @RequestParam(required = false, name = "sortBy") String sortBy,
             @Parameter(description = "排序方向", example = "DESC") @RequestParam(required = false, name = "sortOrder") String sortOrder) {
+        QueryCondition condition = new QueryCondition();
+        condition.setLabel(label);
+        condition.setKeyword(keyword);
+        if (pageNum != null) {
+            condition.setPageNum(pageNum);
+        }
+        if (pageSize != null) {
+            condition.setPageSize(pageSize);
+        }
+        if (sortBy != null && !sortBy.isEmpty()) {
+            condition.setSort(sortBy, sortOrder != null ? sortOrder : "ASC");
+        }
         try {
-            QueryCondition condition = new QueryCondition();
-            condition.setLabel(label);
-            if (pageNum != null && pageSize != null) {
-                condition.setPagination(pageNum, pageSize);
+            addFilters(condition, filters);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(Result.error(e.getMessage()));
+        }
+        return graphService.queryVerticesAsync(connectionId, graphName, condition)
+                .thenApply(Result::success)
+                .exceptionally(e -> Result.error(causeOf(e).getMessage()));
+    }
+    
+    /**
+     * 游标分页查询节点
+     */
+    @Operation(summary = "游标分页查询节点", description = "按uid或元素ID顺序逐页浏览节点，无需跳过前面的页，适合大标签的深度翻页；JanusGraph不支持")
+    @GetMapping("/vertices/scroll")
+    public Result<CursorPage<Vertex>> scrollVertices(
+            @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
+            @Parameter(description = "图名称", required = true) @PathVariable String graphName,
+            @Parameter(description = "节点类型筛选") @RequestParam(required = false, name = "label") String label,
+            @Parameter(description = "上一页返回的nextCursor，为空时从第一页开始") @RequestParam(required = false, name = "cursor") String cursor,
+            @Parameter(description = "关键词，按name属性前缀匹配") @RequestParam(required = false, name = "keyword") String keyword,
+            @Parameter(description = "属性过滤，格式为 属性:操作符:值，操作符为eq/gt/gte/lt/lte/in/prefix，in的值以逗号分隔，可重复传入") @RequestParam(required = false, name = "filter") List<String> filters,
+            @Parameter(description = "每页大小", example = "20") @RequestParam(required = false, name = "pageSize") Integer pageSize) {
+        try {
+            QueryCondition condition = new QueryCondition(label);
+            condition.setKeyword(keyword);
+            if (pageSize != null) {
+                condition.setPageSize(pageSize);
             }
-            List<Vertex> vertices = graphService.queryVertices(connectionId, graphName, condition);
-            return Result.success(vertices);
+            addFilters(condition, filters);
+            return Result.success(graphService.scrollVertices(connectionId, graphName, condition, cursor));
         } catch (Exception e) {
             return Result.error(e.getMessage());
         }
     }
     
+    /**
+     * 流式导出节点
+     */
+    @Operation(summary = "流式导出节点", description = "以NDJSON（每行一个JSON对象）逐条返回全部匹配的节点，不分页，服务端内存占用与结果规模无关；出错时最后一行为错误结果")
+    @GetMapping(value = "/vertices/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamVertices(
+            @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
+            @Parameter(description = "图名称", required = true) @PathVariable String graphName,
+            @Parameter(description = "节点类型筛选") @RequestParam(required = false, name = "label") String label,
+            @Parameter(description = "关键词，按name属性前缀匹配") @RequestParam(required = false, name = "keyword") String keyword,
+            @Parameter(description = "属性过滤，格式为 属性:操作符:值，操作符为eq/gt/gte/lt/lte/in/prefix，in的值以逗号分隔，可重复传入") @RequestParam(required = false, name = "filter") List<String> filters,
+            @Parameter(description = "排序字段") @RequestParam(required = false, name = "sortBy") String sortBy,
+            @Parameter(description = "排序方向", example = "DESC") @RequestParam(required = false, name = "sortOrder") String sortOrder) {
+        return ndjson(() -> {
+            QueryCondition condition = new QueryCondition(label);
+            condition.setKeyword(keyword);
+            if (sortBy != null && !sortBy.isEmpty()) {
+                condition.setSort(sortBy, sortOrder != null ? sortOrder : "ASC");
+            }
+            addFilters(condition, filters);
+            return graphService.streamVertices(connectionId, graphName, condition);
+        });
+    }
+    
     /**
      * 获取单个节点
      */
@@ -83,15 +164,10 @@ public class DataOperationController {
     public Result<Vertex> getVertex(
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
             @Parameter(description = "图名称", required = true) @PathVariable String graphName,
-            @Parameter(description = "节点UID", required = true) @PathVariable String uid) {
+            @Parameter(description = "节点UID", required = true) @PathVariable String uid,
+            @Parameter(description = "节点标签，填写后按标签+uid走索引定位") @RequestParam(required = false, name = "label") String label) {
         try {
-            // 目前通过查询所有节点然后过滤，后续可以优化为直接查询单个节点
-            QueryCondition condition = new QueryCondition();
-            List<Vertex> vertices = graphService.queryVertices(connectionId, graphName, condition);
-            Vertex target = vertices.stream()
-                    .filter(v -> uid.equals(v.getUid()))
-                    .findFirst()
-                    .orElse(null);
+            Vertex target = graphService.getVertex(connectionId, graphName, label, uid);
             if (target == null) {
                 return Result.error("节点不存在");
             }
@@ -110,9 +186,10 @@ public class DataOperationController {
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
             @Parameter(description = "图名称", required = true) @PathVariable String graphName,
             @Parameter(description = "节点UID", required = true) @PathVariable String uid,
+            @Parameter(description = "节点标签，填写后按标签+uid走索引定位") @RequestParam(required = false, name = "label") String label,
             @RequestBody Map<String, Object> properties) {
         try {
-            Vertex vertex = graphService.updateVertex(connectionId, graphName, uid, properties);
+            Vertex vertex = graphService.updateVertex(connectionId, graphName, label, uid, properties);
             return Result.success(vertex);
         } catch (Exception e) {
             return Result.error(e.getMessage());
@@ -127,9 +204,10 @@ public class DataOperationController {
     public Result<Void> deleteVertex(
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
             @Parameter(description = "图名称", required = true) @PathVariable String graphName,
-            @Parameter(description = "节点UID", required = true) @PathVariable String uid) {
+            @Parameter(description = "节点UID", required = true) @PathVariable String uid,
+            @Parameter(description = "节点标签，填写后按标签+uid走索引定位") @RequestParam(required = false, name = "label") String label) {
         try {
-            graphService.deleteVertex(connectionId, graphName, uid);
+            graphService.deleteVertex(connectionId, graphName, label, uid);
             return Result.success(null);
         } catch (Exception e) {
             return Result.error(e.getMessage());
@@ -150,10 +228,11 @@ public class DataOperationController {
             List<String> uids = (List<String>) request.get("uids");
             Boolean cascadeDelete = (Boolean) request.getOrDefault("cascadeDelete", true);
             
-            // 循环删除单个节点
-            for (String uid : uids) {
-                graphService.deleteVertex(connectionId, graphName, uid);
-            }
+            // 所有删除在一个批次中执行
+            List<GraphMutation> mutations = uids.stream()
+                    .map(uid -> GraphMutation.delete(GraphMutation.Type.DELETE_VERTEX, null, uid))
+                    .toList();
+            graphService.executeMutations(connectionId, graphName, mutations);
             return Result.success(null);
         } catch (Exception e) {
             return Result.error(e.getMessage());
@@ -173,8 +252,12 @@ public class DataOperationController {
             String label = (String) request.get("label");
             String sourceUid = (String) request.get("sourceUid");
             String targetUid = (String) request.get("targetUid");
+            // 两端节点标签可选，填写后按标签+uid走索引定位
+            String sourceLabel = (String) request.get("sourceLabel");
+            String targetLabel = (String) request.get("targetLabel");
             Map<String, Object> properties = (Map<String, Object>) request.get("properties");
-            Edge edge = graphService.createEdge(connectionId, graphName, label, sourceUid, targetUid, properties);
+            Edge edge = graphService.createEdge(connectionId, graphName, label,
+                    sourceLabel, sourceUid, targetLabel, targetUid, properties);
             return Result.success(edge);
         } catch (Exception e) {
             return Result.error(e.getMessage());
@@ -186,30 +269,90 @@ public class DataOperationController {
      */
     @Operation(summary = "查询边", description = "查询指定图中的边")
     @GetMapping("/edges")
-    public Result<List<Edge>> queryEdges(
+    public CompletableFuture<Result<List<Edge>>> queryEdges(
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
             @Parameter(description = "图名称", required = true) @PathVariable String graphName,
             @Parameter(description = "边类型筛选") @RequestParam(required = false, name = "label") String label,
             @Parameter(description = "起始节点UID") @RequestParam(required = false, name = "sourceUid") String sourceUid,
             @Parameter(description = "目标节点UID") @RequestParam(required = false, name = "targetUid") String targetUid,
-            @Parameter(description = "关键词搜索") @RequestParam(required = false, name = "keyword") String keyword,
+            @Parameter(description = "关键词，按name属性前缀匹配") @RequestParam(required = false, name = "keyword") String keyword,
+            @Parameter(description = "属性过滤，格式为 属性:操作符:值，操作符为eq/gt/gte/lt/lte/in/prefix，in的值以逗号分隔，可重复传入") @RequestParam(required = false, name = "filter") List<String> filters,
             @Parameter(description = "页码", example = "1") @RequestParam(required = false, name = "pageNum") Integer pageNum,
             @Parameter(description = "每页大小", example = "20") @RequestParam(required = false, name = "pageSize") Integer pageSize,
             @Parameter(description = "排序字段") @RequestParam(required = false, name = "sortBy") String sortBy,
             @Parameter(description = "排序方向", example = "DESC") @RequestParam(required = false, name = "sortOrder") String sortOrder) {
+        QueryCondition condition = new QueryCondition();
+        condition.setLabel(label);
+        condition.setKeyword(keyword);
+        if (pageNum != null) {
+            condition.setPageNum(pageNum);
+        }
+        if (pageSize != null) {
+            condition.setPageSize(pageSize);
+        }
+        if (sortBy != null && !sortBy.isEmpty()) {
+            condition.setSort(sortBy, sortOrder != null ? sortOrder : "ASC");
+        }
+        try {
+            addFilters(condition, filters);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(Result.error(e.getMessage()));
+        }
+        return graphService.queryEdgesAsync(connectionId, graphName, condition)
+                .thenApply(Result::success)
+                .exceptionally(e -> Result.error(causeOf(e).getMessage()));
+    }
+    
+    /**
+     * 游标分页查询边
+     */
+    @Operation(summary = "游标分页查询边", description = "按uid或元素ID顺序逐页浏览边，无需跳过前面的页，适合大标签的深度翻页；JanusGraph不支持")
+    @GetMapping("/edges/scroll")
+    public Result<CursorPage<Edge>> scrollEdges(
+            @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
+            @Parameter(description = "图名称", required = true) @PathVariable String graphName,
+            @Parameter(description = "边类型筛选") @RequestParam(required = false, name = "label") String label,
+            @Parameter(description = "上一页返回的nextCursor，为空时从第一页开始") @RequestParam(required = false, name = "cursor") String cursor,
+            @Parameter(description = "关键词，按name属性前缀匹配") @RequestParam(required = false, name = "keyword") String keyword,
+            @Parameter(description = "属性过滤，格式为 属性:操作符:值，操作符为eq/gt/gte/lt/lte/in/prefix，in的值以逗号分隔，可重复传入") @RequestParam(required = false, name = "filter") List<String> filters,
+            @Parameter(description = "每页大小", example = "20") @RequestParam(required = false, name = "pageSize") Integer pageSize) {
         try {
-            QueryCondition condition = new QueryCondition();
-            condition.setLabel(label);
-            if (pageNum != null && pageSize != null) {
-                condition.setPagination(pageNum, pageSize);
+            QueryCondition condition = new QueryCondition(label);
+            condition.setKeyword(keyword);
+            if (pageSize != null) {
+                condition.setPageSize(pageSize);
             }
-            List<Edge> edges = graphService.queryEdges(connectionId, graphName, condition);
-            return Result.success(edges);
+            addFilters(condition, filters);
+            return Result.success(graphService.scrollEdges(connectionId, graphName, condition, cursor));
         } catch (Exception e) {
             return Result.error(e.getMessage());
         }
     }
     
+    /**
+     * 流式导出边
+     */
+    @Operation(summary = "流式导出边", description = "以NDJSON（每行一个JSON对象）逐条返回全部匹配的边，不分页，服务端内存占用与结果规模无关；出错时最后一行为错误结果")
+    @GetMapping(value = "/edges/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamEdges(
+            @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
+            @Parameter(description = "图名称", required = true) @PathVariable String graphName,
+            @Parameter(description = "边类型筛选") @RequestParam(required = false, name = "label") String label,
+            @Parameter(description = "关键词，按name属性前缀匹配") @RequestParam(required = false, name = "keyword") String keyword,
+            @Parameter(description = "属性过滤，格式为 属性:操作符:值，操作符为eq/gt/gte/lt/lte/in/prefix，in的值以逗号分隔，可重复传入") @RequestParam(required = false, name = "filter") List<String> filters,
+            @Parameter(description = "排序字段") @RequestParam(required = false, name = "sortBy") String sortBy,
+            @Parameter(description = "排序方向", example = "DESC") @RequestParam(required = false, name = "sortOrder") String sortOrder) {
+        return ndjson(() -> {
+            QueryCondition condition = new QueryCondition(label);
+            condition.setKeyword(keyword);
+            if (sortBy != null && !sortBy.isEmpty()) {
+                condition.setSort(sortBy, sortOrder != null ? sortOrder : "ASC");
+            }
+            addFilters(condition, filters);
+            return graphService.streamEdges(connectionId, graphName, condition);
+        });
+    }
+    
     /**
      * 获取单个边
      */
@@ -218,14 +361,10 @@ public class DataOperationController {
     public Result<Edge> getEdge(
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
             @Parameter(description = "图名称", required = true) @PathVariable String graphName,
-            @Parameter(description = "边UID", required = true) @PathVariable String uid) {
+            @Parameter(description = "边UID", required = true) @PathVariable String uid,
+            @Parameter(description = "边类型，填写后按类型+uid走索引定位") @RequestParam(required = false, name = "label") String label) {
         try {
-            QueryCondition condition = new QueryCondition();
-            List<Edge> edges = graphService.queryEdges(connectionId, graphName, condition);
-            Edge target = edges.stream()
-                    .filter(e -> uid.equals(e.getUid()))
-                    .findFirst()
-                    .orElse(null);
+            Edge target = graphService.getEdge(connectionId, graphName, label, uid);
             if (target == null) {
                 return Result.error("边不存在");
             }
@@ -244,9 +383,10 @@ public class DataOperationController {
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
             @Parameter(description = "图名称", required = true) @PathVariable String graphName,
             @Parameter(description = "边UID", required = true) @PathVariable String uid,
+            @Parameter(description = "边类型，填写后按类型+uid走索引定位") @RequestParam(required = false, name = "label") String label,
             @RequestBody Map<String, Object> properties) {
         try {
-            Edge edge = graphService.updateEdge(connectionId, graphName, uid, properties);
+            Edge edge = graphService.updateEdge(connectionId, graphName, label, uid, properties);
             return Result.success(edge);
         } catch (Exception e) {
             return Result.error(e.getMessage());
@@ -261,9 +401,10 @@ public class DataOperationController {
     public Result<Void> deleteEdge(
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
             @Parameter(description = "图名称", required = true) @PathVariable String graphName,
-            @Parameter(description = "边UID", required = true) @PathVariable String uid) {
+            @Parameter(description = "边UID", required = true) @PathVariable String uid,
+            @Parameter(description = "边类型，填写后按类型+uid走索引定位") @RequestParam(required = false, name = "label") String label) {
         try {
-            graphService.deleteEdge(connectionId, graphName, uid);
+            graphService.deleteEdge(connectionId, graphName, label, uid);
             return Result.success(null);
         } catch (Exception e) {
             return Result.error(e.getMessage());
@@ -289,24 +430,57 @@ public class DataOperationController {
     }
     
     /**
-     * 执行原生查询
+     * 批量写入
      */
-    @Operation(summary = "执行原生查询", description = "执行原生图查询语句")
-    @PostMapping("/native-query")
-    public Result<Object> executeNativeQuery(
+    @Operation(summary = "批量写入", description = "在一个事务中执行一组节点和边的创建、更新、删除，全部成功或全部回滚")
+    @PostMapping("/batch")
+    public Result<List<Map<String, Object>>> executeMutations(
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
             @Parameter(description = "图名称", required = true) @PathVariable String graphName,
-            @RequestBody Map<String, String> request) {
+            @RequestBody Map<String, Object> request) {
         try {
-            String queryLanguage = request.get("queryLanguage");
-            String queryStatement = request.get("queryStatement");
-            Object result = graphService.executeNativeQuery(connectionId, graphName, queryLanguage, queryStatement);
-            return Result.success(result);
+            Object items = request.get("mutations");
+            if (!(items instanceof List) || ((List<?>) items).isEmpty()) {
+                return Result.error("mutations不能为空");
+            }
+            List<GraphMutation> mutations = ((List<?>) items).stream()
+                    .map(item -> objectMapper.convertValue(item, GraphMutation.class))
+                    .toList();
+            return Result.success(graphService.executeMutations(connectionId, graphName, mutations));
         } catch (Exception e) {
             return Result.error(e.getMessage());
         }
     }
     
+    /**
+     * 执行原生查询
+     */
+    @Operation(summary = "执行原生查询", description = "执行原生图查询语句")
+    @PostMapping("/native-query")
+    public CompletableFuture<Result<Object>> executeNativeQuery(
+            @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
+            @Parameter(description = "图名称", required = true) @PathVariable String graphName,
+            @RequestBody Map<String, String> request) {
+        String queryLanguage = request.get("queryLanguage");
+        String queryStatement = request.get("queryStatement");
+        return graphService.executeNativeQueryAsync(connectionId, graphName, queryLanguage, queryStatement)
+                .thenApply(Result::success)
+                .exceptionally(e -> Result.error(causeOf(e).getMessage()));
+    }
+    
+    /**
+     * 流式执行原生查询
+     */
+    @Operation(summary = "流式执行原生查询", description = "以NDJSON逐条返回查询结果中的节点和边（type为vertex或edge），读取驱动结果时即写出；出错时最后一行为错误结果")
+    @PostMapping(value = "/native-query/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamNativeQuery(
+            @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
+            @Parameter(description = "图名称", required = true) @PathVariable String graphName,
+            @RequestBody Map<String, String> request) {
+        return ndjson(() -> graphService.streamNativeQuery(connectionId, graphName,
+                request.get("queryLanguage"), request.get("queryStatement")));
+    }
+    
     /**
      * 导入CSV文件数据
      */
@@ -323,7 +497,6 @@ public class DataOperationController {
             }
             
             // 解析JSON配置
-            ObjectMapper objectMapper = new ObjectMapper();
             CsvImportConfig config = objectMapper.readValue(configJson, CsvImportConfig.class);
             
             String result = graphService.importFromCsv(connectionId, graphName, config, file.getInputStream());
@@ -332,4 +505,79 @@ public class DataOperationController {
             return Result.error("CSV导入失败: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 解析 属性:操作符:值 形式的过滤参数，值按数字、布尔解析，双引号包裹时按字符串处理
+     */
+    private void addFilters(QueryCondition condition, List<String> filters) {
+        if (filters == null) {
+            return;
+        }
+        // 同一属性的多个条件（如范围的上下界）合并为 操作符 -> 值
+        Map<String, Map<String, Object>> operatorsByProperty = new LinkedHashMap<>();
+        for (String filter : filters) {
+            String[] parts = filter.split(":", 3);
+            if (parts.length < 3 || parts[0].isEmpty()) {
+                throw new IllegalArgumentException("过滤参数格式应为 属性:操作符:值: " + filter);
+            }
+            PropertyFilter.Operator operator = PropertyFilter.Operator.of(parts[1]);
+            Object value = operator == PropertyFilter.Operator.IN
+                    ? Arrays.stream(parts[2].split(",")).map(this::parseFilterValue).toList()
+                    : parseFilterValue(parts[2]);
+            operatorsByProperty.computeIfAbsent(parts[0], key -> new LinkedHashMap<>()).put(operator.name(), value);
+        }
+        operatorsByProperty.forEach(condition::addFilter);
+    }
+
+    private Object parseFilterValue(String text) {
+        if (text.length() >= 2 && text.startsWith("\"") && text.endsWith("\"")) {
+            return text.substring(1, text.length() - 1);
+        }
+        if ("true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text)) {
+            return Boolean.parseBoolean(text);
+        }
+        try {
+            return text.contains(".") ? Double.parseDouble(text) : Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return text;
+        }
+    }
+
+    /**
+     * 将流逐行写为NDJSON，写完或出错后关闭流（释放数据库会话）。
+     * 打开流失败或迭代中出错时写出一行Result.error，客户端断开时直接停止
+     */
+    private ResponseEntity<StreamingResponseBody> ndjson(Supplier<Stream<?>> source) {
+        Stream<?> opened;
+        try {
+            opened = source.get();
+        } catch (Exception e) {
+            return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON))
+                    .body(out -> writeLine(out, Result.error(e.getMessage())));
+        }
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(out -> {
+            try (Stream<?> elements = opened) {
+                Iterator<?> iterator = elements.iterator();
+                while (iterator.hasNext()) {
+                    writeLine(out, iterator.next());
+                }
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                writeLine(out, Result.error(e.getMessage()));
+            }
+        });
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
+
+    /**
+     * 解开异步调用包装的CompletionException
+     */
+    private Throwable causeOf(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
@@ -25,7 +25,8 @@ public class NativeQueryController {
     /**
      * 执行原生查询
      */
-    @Operation(summary = "执行原生查询", description = "执行原生图查询语句")
+    @Operation(summary = "执行原生查询", description = "执行原生图查询语句，超过timeout秒未完成时取消后端查询并返回TIMEOUT状态；"
+            + "可传入queryId以便执行期间通过取消接口终止查询")
     @PostMapping
     public Result<Map<String, Object>> executeQuery(
             @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
@@ -33,18 +34,55 @@ public class NativeQueryController {
             @RequestBody Map<String, Object> request) {
         try {
             String query = (String) request.get("query");
+            String queryId = (String) request.get("queryId");
             Integer timeout = (Integer) request.getOrDefault("timeout", 60);
             Integer limit = (Integer) request.getOrDefault("limit", 1000);
             Boolean explain = (Boolean) request.getOrDefault("explain", false);
+            // 超时时间（秒）从收到请求时开始计算，作为截止时间向下传递
+            long deadline = System.currentTimeMillis() + timeout * 1000L;
             
             Map<String, Object> result = nativeQueryService.executeQuery(
-                    connectionId, graphName, query, timeout, limit, explain);
+                    connectionId, graphName, queryId, query, deadline, limit, explain);
             return Result.success(result);
         } catch (Exception e) {
             return Result.error("查询执行失败: " + e.getMessage());
         }
     }
     
+    /**
+     * 列出运行中的查询
+     */
+    @Operation(summary = "列出运行中的查询", description = "列出该连接上正在执行的原生查询及已运行时间")
+    @GetMapping("/running")
+    public Result<List<Map<String, Object>>> getRunningQueries(
+            @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
+            @Parameter(description = "图名称", required = true) @PathVariable String graphName) {
+        try {
+            return Result.success(nativeQueryService.getRunningQueries(connectionId));
+        } catch (Exception e) {
+            return Result.error("获取运行中的查询失败: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 取消运行中的查询
+     */
+    @Operation(summary = "取消查询", description = "终止正在执行的原生查询并释放后端会话")
+    @DeleteMapping("/running/{queryId}")
+    public Result<Void> cancelQuery(
+            @Parameter(description = "连接ID", required = true) @PathVariable Long connectionId,
+            @Parameter(description = "图名称", required = true) @PathVariable String graphName,
+            @Parameter(description = "查询ID", required = true) @PathVariable String queryId) {
+        try {
+            if (!nativeQueryService.cancelQuery(connectionId, queryId)) {
+                return Result.error("查询不存在或已结束: " + queryId);
+            }
+            return Result.success(null);
+        } catch (Exception e) {
+            return Result.error("取消查询失败: " + e.getMessage());
+        }
+    }
+    
     /**
      * 查询执行计划
      */
@@ -116,6 +116,76 @@ public class SystemController {
         }
     }
     
+    /**
+     * 获取连接解析缓存统计
+     */
+    @Operation(summary = "获取连接缓存统计", description = "获取连接解析缓存的命中、未命中及淘汰次数")
+    @GetMapping("/cache/connections")
+    public Result<Map<String, Object>> getConnectionCacheStats() {
+        try {
+            Map<String, Object> stats = systemService.getConnectionCacheStats();
+            return Result.success(stats);
+        } catch (Exception e) {
+            return Result.error("获取连接缓存统计失败: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 获取连接预热状态
+     */
+    @Operation(summary = "获取连接预热状态", description = "获取启动时连接预热的整体状态及各连接的建连、schema预取耗时")
+    @GetMapping("/warmup")
+    public Result<Map<String, Object>> getWarmupStatus() {
+        try {
+            Map<String, Object> status = systemService.getWarmupStatus();
+            return Result.success(status);
+        } catch (Exception e) {
+            return Result.error("获取连接预热状态失败: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 获取连接健康状态
+     */
+    @Operation(summary = "获取连接健康状态", description = "获取后台健康探测结果及各连接的熔断状态")
+    @GetMapping("/health/connections")
+    public Result<Map<String, Object>> getConnectionHealth() {
+        try {
+            Map<String, Object> health = systemService.getConnectionHealth();
+            return Result.success(health);
+        } catch (Exception e) {
+            return Result.error("获取连接健康状态失败: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 获取连接舱壁统计
+     */
+    @Operation(summary = "获取连接舱壁统计", description = "获取各连接的执行中请求数、排队深度及拒绝次数")
+    @GetMapping("/bulkheads")
+    public Result<Map<String, Object>> getBulkheadStats() {
+        try {
+            Map<String, Object> stats = systemService.getBulkheadStats();
+            return Result.success(stats);
+        } catch (Exception e) {
+            return Result.error("获取连接舱壁统计失败: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 获取重试统计
+     */
+    @Operation(summary = "获取重试统计", description = "获取各连接瞬时故障的重试次数、重试后成功次数及重试预算")
+    @GetMapping("/retries")
+    public Result<Map<String, Object>> getRetryStats() {
+        try {
+            Map<String, Object> stats = systemService.getRetryStats();
+            return Result.success(stats);
+        } catch (Exception e) {
+            return Result.error("获取重试统计失败: " + e.getMessage());
+        }
+    }
+    
     /**
      * 备份系统数据
      */
@@ -175,6 +245,7 @@ public class SystemController {
     /**
      * 获取连接池状态
      */
+    @Operation(summary = "获取连接池状态", description = "获取各连接的使用中、空闲、等待获取数及获取耗时分位数（定期采集的快照）")
     @GetMapping("/connection-pool")
     public Result<Map<String, Object>> getConnectionPoolStatus() {
         try {
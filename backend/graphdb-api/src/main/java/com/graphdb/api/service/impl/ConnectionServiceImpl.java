@@ -4,7 +4,12 @@ import com.graphdb.api.service.ConnectionService;
 import com.graphdb.api.dto.ConnectionConfigDTO;
 import com.graphdb.storage.entity.ConnectionEntity;
 import com.graphdb.storage.repository.ConnectionMapper;
+import com.graphdb.service.ConnectionAdapterRegistry;
+import com.graphdb.service.ConnectionBulkhead;
+import com.graphdb.service.ConnectionCircuitBreaker;
+import com.graphdb.service.ConnectionRetryPolicy;
 import com.graphdb.service.GraphService;
+import com.graphdb.service.ResolvedConnectionCache;
 import com.graphdb.core.constant.DatabaseTypeEnum;
 import com.graphdb.core.model.ConnectionConfig;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +33,21 @@ public class ConnectionServiceImpl implements ConnectionService {
     @Autowired
     private GraphService graphService;
     
+    @Autowired
+    private ConnectionAdapterRegistry adapterRegistry;
+    
+    @Autowired
+    private ResolvedConnectionCache connectionCache;
+    
+    @Autowired
+    private ConnectionCircuitBreaker circuitBreaker;
+    
+    @Autowired
+    private ConnectionBulkhead bulkhead;
+    
+    @Autowired
+    private ConnectionRetryPolicy retryPolicy;
+    
     @Override
     public List<ConnectionConfigDTO> list() {
         List<ConnectionEntity> entities = connectionMapper.selectList(null);
@@ -91,6 +111,7 @@ public class ConnectionServiceImpl implements ConnectionService {
         }
         
         connectionMapper.insert(entity);
+        connectionCache.invalidate(entity.getId());
         
         // 设置ID返回
         configDTO.setId(entity.getId());
@@ -138,6 +159,13 @@ public class ConnectionServiceImpl implements ConnectionService {
         
         connectionMapper.updateById(entity);
         
+        // 配置已变更，清除缓存并释放旧的适配器实例，下次使用时按新配置重建
+        connectionCache.invalidate(id);
+        adapterRegistry.evict(id);
+        circuitBreaker.reset(id);
+        bulkhead.reset(id);
+        retryPolicy.reset(id);
+        
         return convertToDTO(entity);
     }
     
@@ -153,6 +181,13 @@ public class ConnectionServiceImpl implements ConnectionService {
         entity.setDeleted(1);
         entity.setUpdatedAt(LocalDateTime.now());
         connectionMapper.updateById(entity);
+        
+        // 清除缓存并释放该连接的适配器实例及其连接池
+        connectionCache.invalidate(id);
+        adapterRegistry.evict(id);
+        circuitBreaker.reset(id);
+        bulkhead.reset(id);
+        retryPolicy.reset(id);
     }
     
     @Override
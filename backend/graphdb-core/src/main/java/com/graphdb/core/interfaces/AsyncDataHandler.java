@@ -0,0 +1,30 @@
+package com.graphdb.core.interfaces;
+
+import com.graphdb.core.model.QueryCondition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 数据处理器异步接口
+ * 返回的CompletionStage在查询完成时完成，失败时以CoreException异常完成
+ */
+public interface AsyncDataHandler {
+    
+    /**
+     * 异步查询节点
+     * @param graphName 图名称
+     * @param condition 查询条件（标签、属性过滤、排序、分页）
+     * @return 当前页的节点列表
+     */
+    CompletionStage<List<Map<String, Object>>> queryVerticesAsync(String graphName, QueryCondition condition);
+    
+    /**
+     * 异步查询边
+     * @param graphName 图名称
+     * @param condition 查询条件（标签、属性过滤、排序、分页）
+     * @return 当前页的边列表
+     */
+    CompletionStage<List<Map<String, Object>>> queryEdgesAsync(String graphName, QueryCondition condition);
+}
@@ -0,0 +1,24 @@
+package com.graphdb.core.interfaces;
+
+import com.graphdb.core.model.ConnectionConfig;
+import com.graphdb.core.model.GraphQueryResult;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 图数据库适配器异步接口
+ * 返回的CompletionStage在查询完成时完成，调用线程不会阻塞等待后端；
+ * 失败时以CoreException异常完成
+ */
+public interface AsyncGraphAdapter {
+    
+    /**
+     * 异步执行原生查询
+     * @param config 连接配置
+     * @param graphName 图名称
+     * @param queryLanguage 查询语言（如Cypher, Gremlin, nGQL）
+     * @param queryStatement 查询语句
+     * @return 查询结果
+     */
+    CompletionStage<GraphQueryResult> executeNativeQueryAsync(ConnectionConfig config, String graphName,
+                                                              String queryLanguage, String queryStatement);
+}
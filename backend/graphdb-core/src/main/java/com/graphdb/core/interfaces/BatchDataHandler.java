@@ -0,0 +1,21 @@
+package com.graphdb.core.interfaces;
+
+import com.graphdb.core.model.GraphMutation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量写入处理器
+ * 在单个事务中执行一组变更，全部提交或全部回滚
+ */
+public interface BatchDataHandler {
+
+    /**
+     * 在单个事务中执行变更
+     * @param graphName 图名称
+     * @param mutations 变更列表
+     * @return 与变更一一对应的结果：创建、更新返回节点或边数据，删除返回仅包含uid的Map
+     */
+    List<Map<String, Object>> executeMutations(String graphName, List<GraphMutation> mutations);
+}
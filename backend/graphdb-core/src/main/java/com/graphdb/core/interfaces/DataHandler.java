@@ -3,9 +3,13 @@ package com.graphdb.core.interfaces;
 import com.graphdb.core.constant.DatabaseTypeEnum;
 import com.graphdb.core.exception.CoreException;
 import com.graphdb.core.model.CsvImportConfig;
+import com.graphdb.core.model.CursorPage;
+import com.graphdb.core.model.QueryCondition;
+import com.graphdb.core.util.PagedStream;
 import java.io.InputStream;
 import java.util.Map;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 数据处理器接口
@@ -54,22 +58,115 @@ public interface DataHandler {
     void deleteEdge(String graphName, String uid);
     
     /**
-     * 查询节点
+     * 查询节点，标签、属性过滤、排序及分页下推到数据库执行
      * @param graphName 图名称
-     * @param label 节点标签（可选）
-     * @return 节点列表
+     * @param condition 查询条件（标签、属性过滤、排序、分页），为null时按默认分页查询
+     * @return 当前页的节点列表
+     * @throws CoreException 查询异常
+     */
+    List<Map<String, Object>> queryVertices(String graphName, QueryCondition condition);
+    
+    /**
+     * 查询边，标签、属性过滤、排序及分页下推到数据库执行
+     * @param graphName 图名称
+     * @param condition 查询条件（标签、属性过滤、排序、分页），为null时按默认分页查询
+     * @return 当前页的边列表
      * @throws CoreException 查询异常
      */
-    List<Map<String, Object>> queryVertices(String graphName, String label);
+    List<Map<String, Object>> queryEdges(String graphName, QueryCondition condition);
     
     /**
-     * 查询边
+     * 游标分页查询节点，按排序键升序返回condition.afterKey之后的一页，
+     * 每页代价与页码无关，用于深度翻页
+     * @param graphName 图名称
+     * @param condition 查询条件（标签、属性过滤、每页大小、afterKey），排序固定为排序键升序
+     * @return 当前页节点，nextCursor为本页最后一条的排序键（未编码），没有更多数据时为null
+     * @throws CoreException 查询异常
+     */
+    CursorPage<Map<String, Object>> scrollVertices(String graphName, QueryCondition condition);
+
+    /**
+     * 游标分页查询边，按排序键升序返回condition.afterKey之后的一页
+     * @param graphName 图名称
+     * @param condition 查询条件（标签、属性过滤、每页大小、afterKey），排序固定为排序键升序
+     * @return 当前页边，nextCursor为本页最后一条的排序键（未编码），没有更多数据时为null
+     * @throws CoreException 查询异常
+     */
+    CursorPage<Map<String, Object>> scrollEdges(String graphName, QueryCondition condition);
+
+    /**
+     * 流式查询全部匹配的节点，不分页，元素在消费时才从数据库读取，内存占用与结果规模无关。
+     * 返回的流持有数据库会话或事务，使用方必须关闭（try-with-resources）。
+     * 默认实现按游标分批拉取（忽略排序），支持驱动游标的适配器可覆盖为直接迭代驱动结果
+     * @param graphName 图名称
+     * @param condition 查询条件（标签、属性过滤、排序），忽略分页参数
+     * @return 节点流
+     * @throws CoreException 查询异常
+     */
+    default Stream<Map<String, Object>> streamVertices(String graphName, QueryCondition condition) {
+        QueryCondition scan = condition == null ? new QueryCondition().scanCopy() : condition.scanCopy();
+        return PagedStream.of(afterKey -> {
+            scan.setAfterKey(afterKey);
+            return scrollVertices(graphName, scan);
+        });
+    }
+
+    /**
+     * 流式查询全部匹配的边，约定同streamVertices
+     * @param graphName 图名称
+     * @param condition 查询条件（标签、属性过滤、排序），忽略分页参数
+     * @return 边流，使用方必须关闭
+     * @throws CoreException 查询异常
+     */
+    default Stream<Map<String, Object>> streamEdges(String graphName, QueryCondition condition) {
+        QueryCondition scan = condition == null ? new QueryCondition().scanCopy() : condition.scanCopy();
+        return PagedStream.of(afterKey -> {
+            scan.setAfterKey(afterKey);
+            return scrollEdges(graphName, scan);
+        });
+    }
+
+    /**
+     * 按uid获取单个节点，通过元素ID或uid索引直接定位
+     * @param graphName 图名称
+     * @param uid 节点UID
+     * @return 节点，不存在时返回null
+     * @throws CoreException 查询异常
+     */
+    Map<String, Object> getVertex(String graphName, String uid);
+
+    /**
+     * 按uid获取单条边，通过元素ID或uid索引直接定位
+     * @param graphName 图名称
+     * @param uid 边UID
+     * @return 边，不存在时返回null
+     * @throws CoreException 查询异常
+     */
+    Map<String, Object> getEdge(String graphName, String uid);
+
+    /**
+     * 按标签+uid获取单个节点
+     * @param graphName 图名称
+     * @param label 节点标签（可选）
+     * @param uid 节点UID
+     * @return 节点，不存在时返回null
+     * @throws CoreException 查询异常
+     */
+    default Map<String, Object> getVertex(String graphName, String label, String uid) {
+        return getVertex(graphName, uid);
+    }
+
+    /**
+     * 按类型+uid获取单条边
      * @param graphName 图名称
      * @param label 边标签（可选）
-     * @return 边列表
+     * @param uid 边UID
+     * @return 边，不存在时返回null
      * @throws CoreException 查询异常
      */
-    List<Map<String, Object>> queryEdges(String graphName, String label);
+    default Map<String, Object> getEdge(String graphName, String label, String uid) {
+        return getEdge(graphName, uid);
+    }
     
     /**
      * 从CSV文件导入数据
@@ -101,6 +198,74 @@ public interface DataHandler {
      */
     Map<String, Object> updateEdge(String graphName, String uid, Map<String, Object> properties);
 
+    /**
+     * 创建边，已知两端节点标签时按标签+uid定位节点，可走uid索引
+     * 默认忽略标签，由支持标签定位的适配器覆盖
+     * @param graphName 图名称
+     * @param label 边标签
+     * @param sourceLabel 源节点标签（可选）
+     * @param sourceUid 源节点UID
+     * @param targetLabel 目标节点标签（可选）
+     * @param targetUid 目标节点UID
+     * @param properties 属性集合
+     * @return 创建的边（包含uid）
+     * @throws CoreException 创建异常
+     */
+    default Map<String, Object> createEdge(String graphName, String label,
+                                           String sourceLabel, String sourceUid,
+                                           String targetLabel, String targetUid,
+                                           Map<String, Object> properties) {
+        return createEdge(graphName, label, sourceUid, targetUid, properties);
+    }
+
+    /**
+     * 按标签+uid删除节点
+     * @param graphName 图名称
+     * @param label 节点标签（可选）
+     * @param uid 节点UID
+     * @throws CoreException 删除异常
+     */
+    default void deleteVertex(String graphName, String label, String uid) {
+        deleteVertex(graphName, uid);
+    }
+
+    /**
+     * 按类型+uid删除边
+     * @param graphName 图名称
+     * @param label 边标签（可选）
+     * @param uid 边UID
+     * @throws CoreException 删除异常
+     */
+    default void deleteEdge(String graphName, String label, String uid) {
+        deleteEdge(graphName, uid);
+    }
+
+    /**
+     * 按标签+uid更新节点
+     * @param graphName 图名称
+     * @param label 节点标签（可选）
+     * @param uid 节点UID
+     * @param properties 更新后的属性集合
+     * @return 更新后的节点信息
+     * @throws CoreException 更新异常
+     */
+    default Map<String, Object> updateVertex(String graphName, String label, String uid, Map<String, Object> properties) {
+        return updateVertex(graphName, uid, properties);
+    }
+
+    /**
+     * 按类型+uid更新边
+     * @param graphName 图名称
+     * @param label 边标签（可选）
+     * @param uid 边UID
+     * @param properties 更新后的属性集合
+     * @return 更新后的边信息
+     * @throws CoreException 更新异常
+     */
+    default Map<String, Object> updateEdge(String graphName, String label, String uid, Map<String, Object> properties) {
+        return updateEdge(graphName, uid, properties);
+    }
+
     /**
      * 执行原生查询
      * @param graphName 图名称
@@ -2,11 +2,16 @@ package com.graphdb.core.interfaces;
 
 import com.graphdb.core.constant.DatabaseTypeEnum;
 import com.graphdb.core.model.ConnectionConfig;
+import com.graphdb.core.model.GraphElement;
 import com.graphdb.core.model.GraphSchema;
 import com.graphdb.core.model.LabelType;
 import com.graphdb.core.model.GraphQueryResult;
+import com.graphdb.core.model.PoolStatus;
+import com.graphdb.core.model.QueryContext;
 import com.graphdb.core.exception.CoreException;
+import java.io.IOException;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 图数据库适配器统一接口
@@ -46,6 +51,43 @@ public interface GraphAdapter {
      */
     boolean isConnected();
     
+    /**
+     * 健康探测：在已建立的连接上执行一次轻量查询
+     * @return 后端是否可用
+     * @throws CoreException 探测异常
+     */
+    boolean ping() throws CoreException;
+    
+    /**
+     * 获取连接池状态，直接读取驱动自身维护的计数器，调用开销很小
+     * @return 连接池状态，未连接时返回null
+     */
+    PoolStatus getPoolStatus();
+    
+    /**
+     * 判断异常是否表示后端不可用（网络中断、服务下线等），用于熔断判定
+     * @param error 操作抛出的异常
+     * @return 是否为后端不可用
+     */
+    default boolean isUnavailableError(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 判断异常是否为可重试的瞬时故障（主从切换、会话过期、后端暂时不可用等），用于幂等操作的自动重试
+     * 默认与isUnavailableError一致
+     * @param error 操作抛出的异常
+     * @return 是否可重试
+     */
+    default boolean isTransientError(Throwable error) {
+        return isUnavailableError(error);
+    }
+    
     /**
      * 获取图列表
      * @param config 连接配置
@@ -144,4 +186,39 @@ public interface GraphAdapter {
      */
     GraphQueryResult executeNativeQuery(ConnectionConfig config, String graphName, 
                              String queryLanguage, String queryStatement) throws CoreException;
+    
+    /**
+     * 流式执行原生查询，结果中的节点和边在消费时逐个返回，同一元素只返回一次。
+     * 返回的流持有数据库会话，使用方必须关闭（try-with-resources）。
+     * 默认实现先完整执行查询再逐个返回，支持驱动游标的适配器可覆盖为边读取边返回
+     * @param config 连接配置
+     * @param graphName 图名称
+     * @param queryLanguage 查询语言（如Cypher, Gremlin, nGQL）
+     * @param queryStatement 查询语句
+     * @return 图元素流
+     * @throws CoreException 查询异常
+     */
+    default Stream<GraphElement> streamNativeQuery(ConnectionConfig config, String graphName,
+                                                   String queryLanguage, String queryStatement) throws CoreException {
+        GraphQueryResult result = executeNativeQuery(config, graphName, queryLanguage, queryStatement);
+        return Stream.concat(result.getVertices().stream().map(GraphElement::of),
+                result.getEdges().stream().map(GraphElement::of));
+    }
+    
+    /**
+     * 在查询上下文中执行原生查询：剩余时间作为超时，超时或被取消时终止后端上的执行
+     * 超时、取消不抛出异常，分别返回统计状态为TIMEOUT、CANCELLED的结果；默认实现不支持超时与取消，直接执行
+     * @param config 连接配置
+     * @param graphName 图名称
+     * @param queryLanguage 查询语言（如Cypher, Gremlin, nGQL）
+     * @param queryStatement 查询语句
+     * @param context 查询上下文（查询ID、截止时间及取消句柄）
+     * @return 查询结果
+     * @throws CoreException 查询异常
+     */
+    default GraphQueryResult executeNativeQuery(ConnectionConfig config, String graphName,
+                                                String queryLanguage, String queryStatement,
+                                                QueryContext context) throws CoreException {
+        return executeNativeQuery(config, graphName, queryLanguage, queryStatement);
+    }
 }
@@ -0,0 +1,30 @@
+package com.graphdb.core.model;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 游标分页结果
+ * 按排序键升序返回一页数据，nextCursor用于请求下一页，为null表示已到末尾
+ */
+@Data
+public class CursorPage<T> {
+
+    /**
+     * 当前页数据
+     */
+    private List<T> items = new ArrayList<>();
+
+    /**
+     * 下一页游标，为null表示没有更多数据
+     */
+    private String nextCursor;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,43 @@
+package com.graphdb.core.model;
+
+import lombok.Data;
+
+/**
+ * 图元素
+ * 流式返回原生查询结果时的单个元素，为节点或边之一
+ */
+@Data
+public class GraphElement {
+
+    public static final String TYPE_VERTEX = "vertex";
+    public static final String TYPE_EDGE = "edge";
+
+    /**
+     * 元素类型：vertex / edge
+     */
+    private String type;
+
+    /**
+     * 节点（type为vertex时）
+     */
+    private Vertex vertex;
+
+    /**
+     * 边（type为edge时）
+     */
+    private Edge edge;
+
+    public static GraphElement of(Vertex vertex) {
+        GraphElement element = new GraphElement();
+        element.setType(TYPE_VERTEX);
+        element.setVertex(vertex);
+        return element;
+    }
+
+    public static GraphElement of(Edge edge) {
+        GraphElement element = new GraphElement();
+        element.setType(TYPE_EDGE);
+        element.setEdge(edge);
+        return element;
+    }
+}
@@ -0,0 +1,101 @@
+package com.graphdb.core.model;
+
+import lombok.Data;
+import java.util.Map;
+
+/**
+ * 图数据变更
+ * 表示一次节点或边的创建、更新、删除，用于批量写入
+ */
+@Data
+public class GraphMutation {
+
+    /**
+     * 变更类型
+     */
+    public enum Type {
+        CREATE_VERTEX, CREATE_EDGE, UPDATE_VERTEX, UPDATE_EDGE, DELETE_VERTEX, DELETE_EDGE
+    }
+
+    /**
+     * 变更类型
+     */
+    private Type type;
+
+    /**
+     * 节点标签或边类型（创建时必填，更新、删除时可选，填写后按标签+uid走索引定位）
+     */
+    private String label;
+
+    /**
+     * 节点或边的唯一标识（更新、删除时必填）
+     */
+    private String uid;
+
+    /**
+     * 边的源节点uid（创建边时必填）
+     */
+    private String sourceUid;
+
+    /**
+     * 边的目标节点uid（创建边时必填）
+     */
+    private String targetUid;
+
+    /**
+     * 边的源节点标签（创建边时可选）
+     */
+    private String sourceLabel;
+
+    /**
+     * 边的目标节点标签（创建边时可选）
+     */
+    private String targetLabel;
+
+    /**
+     * 属性（创建、更新时使用）
+     */
+    private Map<String, Object> properties;
+
+    public static GraphMutation createVertex(String label, Map<String, Object> properties) {
+        GraphMutation mutation = new GraphMutation();
+        mutation.setType(Type.CREATE_VERTEX);
+        mutation.setLabel(label);
+        mutation.setProperties(properties);
+        return mutation;
+    }
+
+    public static GraphMutation createEdge(String label, String sourceUid, String targetUid, Map<String, Object> properties) {
+        return createEdge(label, null, sourceUid, null, targetUid, properties);
+    }
+
+    public static GraphMutation createEdge(String label, String sourceLabel, String sourceUid,
+                                           String targetLabel, String targetUid, Map<String, Object> properties) {
+        GraphMutation mutation = new GraphMutation();
+        mutation.setType(Type.CREATE_EDGE);
+        mutation.setLabel(label);
+        mutation.setSourceLabel(sourceLabel);
+        mutation.setSourceUid(sourceUid);
+        mutation.setTargetLabel(targetLabel);
+        mutation.setTargetUid(targetUid);
+        mutation.setProperties(properties);
+        return mutation;
+    }
+
+    public static GraphMutation update(Type type, String label, String uid, Map<String, Object> properties) {
+        GraphMutation mutation = new GraphMutation();
+        mutation.setType(type);
+        mutation.setLabel(label);
+        mutation.setUid(uid);
+        mutation.setProperties(properties);
+        return mutation;
+    }
+
+    public static GraphMutation delete(Type type, String label, String uid) {
+        GraphMutation mutation = new GraphMutation();
+        mutation.setType(type);
+        mutation.setLabel(label);
+        mutation.setUid(uid);
+        return mutation;
+    }
+}
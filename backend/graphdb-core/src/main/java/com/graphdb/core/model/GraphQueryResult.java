@@ -53,6 +53,32 @@ public class GraphQueryResult {
         }
     }
     
+    /**
+     * 创建超时结果
+     * @param timeoutMs 超时时间（毫秒）
+     * @return 统计状态为TIMEOUT的空结果
+     */
+    public static GraphQueryResult timeout(long timeoutMs) {
+        GraphQueryResult result = new GraphQueryResult();
+        result.getStatistics().setStatus(QueryStatistics.STATUS_TIMEOUT);
+        result.getStatistics().setExecutionTimeMs(timeoutMs);
+        result.getStatistics().setErrorMessage("查询执行超过" + timeoutMs + "ms，已取消");
+        return result;
+    }
+    
+    /**
+     * 创建已取消结果
+     * @param elapsedMs 取消前已执行的时间（毫秒）
+     * @return 统计状态为CANCELLED的空结果
+     */
+    public static GraphQueryResult cancelled(long elapsedMs) {
+        GraphQueryResult result = new GraphQueryResult();
+        result.getStatistics().setStatus(QueryStatistics.STATUS_CANCELLED);
+        result.getStatistics().setExecutionTimeMs(elapsedMs);
+        result.getStatistics().setErrorMessage("查询已被取消");
+        return result;
+    }
+    
     /**
      * 添加节点
      */
@@ -98,6 +124,11 @@ public class GraphQueryResult {
     @Data
     public static class QueryStatistics {
         
+        public static final String STATUS_SUCCESS = "SUCCESS";
+        public static final String STATUS_ERROR = "ERROR";
+        public static final String STATUS_TIMEOUT = "TIMEOUT";
+        public static final String STATUS_CANCELLED = "CANCELLED";
+        
         /**
          * 查询执行时间（毫秒）
          */
@@ -128,8 +159,14 @@ public class GraphQueryResult {
          */
         private String errorMessage;
         
+        /**
+         * 结果是否因超过元素数或内存上限被截断
+         */
+        private Boolean truncated;
+        
         public QueryStatistics() {
-            this.status = "SUCCESS";
+            this.status = STATUS_SUCCESS;
+            this.truncated = false;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.graphdb.core.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 原生查询结果组装器
+ * 按uid哈希去重（路径等结果中重复出现的元素只保留第一次），保持元素首次出现的顺序；
+ * 元素数或估算字节数达到上限后不再接收新元素，并在统计信息中标记truncated，
+ * 适配器可据此提前停止读取后端结果
+ */
+public class GraphQueryResultBuilder {
+
+    public static final int DEFAULT_MAX_ELEMENTS = 100_000;
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * 每个元素对象本身的估算开销（对象头、uid、标签、属性Map）
+     */
+    private static final int ELEMENT_OVERHEAD_BYTES = 128;
+
+    private static volatile int defaultMaxElements = DEFAULT_MAX_ELEMENTS;
+    private static volatile long defaultMaxBytes = DEFAULT_MAX_BYTES;
+
+    private final int maxElements;
+    private final long maxBytes;
+    private final Map<String, Vertex> vertices = new LinkedHashMap<>();
+    private final Map<String, Edge> edges = new LinkedHashMap<>();
+    private long estimatedBytes;
+    private boolean truncated;
+
+    /**
+     * 使用全局默认上限
+     */
+    public GraphQueryResultBuilder() {
+        this(defaultMaxElements, defaultMaxBytes);
+    }
+
+    /**
+     * @param maxElements 节点与边的总数上限，小于等于0表示不限制
+     * @param maxBytes 估算内存占用上限，小于等于0表示不限制
+     */
+    public GraphQueryResultBuilder(int maxElements, long maxBytes) {
+        this.maxElements = maxElements;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 设置全局默认上限，应在启动时调用
+     * @param maxElements 节点与边的总数上限，小于等于0表示不限制
+     * @param maxBytes 估算内存占用上限，小于等于0表示不限制
+     */
+    public static void configure(int maxElements, long maxBytes) {
+        defaultMaxElements = maxElements;
+        defaultMaxBytes = maxBytes;
+    }
+
+    /**
+     * 添加节点，uid已存在时忽略
+     * @return 是否还能继续接收元素，达到上限后返回false
+     */
+    public boolean addVertex(Vertex vertex) {
+        if (vertex == null || vertices.containsKey(vertex.getUid())) {
+            return !truncated;
+        }
+        if (!reserve(estimateSize(vertex.getUid(), vertex.getLabel(), vertex.getProperties()))) {
+            return false;
+        }
+        vertices.put(vertex.getUid(), vertex);
+        return true;
+    }
+
+    /**
+     * 添加边，uid已存在时忽略
+     * @return 是否还能继续接收元素，达到上限后返回false
+     */
+    public boolean addEdge(Edge edge) {
+        if (edge == null || edges.containsKey(edge.getUid())) {
+            return !truncated;
+        }
+        long size = estimateSize(edge.getUid(), edge.getLabel(), edge.getProperties())
+                + sizeOf(edge.getSourceUid()) + sizeOf(edge.getTargetUid());
+        if (!reserve(size)) {
+            return false;
+        }
+        edges.put(edge.getUid(), edge);
+        return true;
+    }
+
+    /**
+     * 节点uid是否已收录，可在转换元素前跳过重复元素
+     */
+    public boolean containsVertex(String uid) {
+        return vertices.containsKey(uid);
+    }
+
+    /**
+     * 边uid是否已收录
+     */
+    public boolean containsEdge(String uid) {
+        return edges.containsKey(uid);
+    }
+
+    /**
+     * 是否因达到上限而丢弃了元素
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * 生成查询结果，统计信息中包含结果行数及truncated标记
+     */
+    public GraphQueryResult build() {
+        GraphQueryResult result = new GraphQueryResult();
+        result.setVertices(new ArrayList<>(vertices.values()));
+        result.setEdges(new ArrayList<>(edges.values()));
+        GraphQueryResult.QueryStatistics stats = result.getStatistics();
+        stats.setResultRows(result.getTotalCount());
+        stats.setStatus(GraphQueryResult.QueryStatistics.STATUS_SUCCESS);
+        stats.setTruncated(truncated);
+        return result;
+    }
+
+    private boolean reserve(long size) {
+        if (truncated) {
+            return false;
+        }
+        boolean overCount = maxElements > 0 && vertices.size() + edges.size() >= maxElements;
+        boolean overBytes = maxBytes > 0 && estimatedBytes + size > maxBytes;
+        if (overCount || overBytes) {
+            truncated = true;
+            return false;
+        }
+        estimatedBytes += size;
+        return true;
+    }
+
+    private static long estimateSize(String uid, String label, Map<String, Object> properties) {
+        return ELEMENT_OVERHEAD_BYTES + sizeOf(uid) + sizeOf(label) + sizeOf(properties);
+    }
+
+    /**
+     * 粗略估算值的内存占用，字符串按每字符2字节计
+     */
+    private static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return 40 + 2L * text.length();
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = 48;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += 32 + sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = 40;
+            for (Object item : collection) {
+                size += 8 + sizeOf(item);
+            }
+            return size;
+        }
+        return 24;
+    }
+}
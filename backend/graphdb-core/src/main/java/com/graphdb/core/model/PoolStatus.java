@@ -0,0 +1,76 @@
+package com.graphdb.core.model;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 连接池状态
+ * 由各适配器根据驱动自身的连接池指标填充，不支持的指标保持为null
+ */
+@Data
+public class PoolStatus {
+
+    /**
+     * 连接ID
+     */
+    private Long connectionId;
+
+    /**
+     * 数据库类型
+     */
+    private String databaseType;
+
+    /**
+     * 使用中的连接/会话数
+     */
+    private Integer inUse;
+
+    /**
+     * 空闲的连接/会话数
+     */
+    private Integer idle;
+
+    /**
+     * 连接池最大容量
+     */
+    private Integer maxSize;
+
+    /**
+     * 正在等待获取连接的请求数
+     */
+    private Integer pending;
+
+    /**
+     * 累计成功获取次数
+     */
+    private Long acquired;
+
+    /**
+     * 累计获取超时/失败次数
+     */
+    private Long acquisitionTimeouts;
+
+    /**
+     * 平均获取耗时（毫秒）
+     */
+    private Double avgAcquisitionMs;
+
+    /**
+     * 获取耗时分位数（毫秒）
+     */
+    private Long p50AcquisitionMs;
+    private Long p95AcquisitionMs;
+    private Long p99AcquisitionMs;
+
+    /**
+     * 各数据库特有的指标
+     */
+    private Map<String, Object> details = new HashMap<>();
+
+    /**
+     * 采集时间
+     */
+    private Long timestamp;
+}
@@ -0,0 +1,81 @@
+package com.graphdb.core.model;
+
+import com.graphdb.core.exception.CoreException;
+import lombok.Data;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 属性过滤条件
+ * 由各适配器编译为对应查询语言的过滤子句，在数据库端执行以利用属性索引
+ */
+@Data
+public class PropertyFilter {
+
+    /**
+     * 过滤操作符
+     */
+    public enum Operator {
+        /** 等于 */
+        EQ,
+        /** 大于 */
+        GT,
+        /** 大于等于 */
+        GTE,
+        /** 小于 */
+        LT,
+        /** 小于等于 */
+        LTE,
+        /** 属于集合，值为集合 */
+        IN,
+        /** 字符串前缀匹配 */
+        PREFIX;
+
+        /**
+         * 按名称解析操作符，忽略大小写
+         * @throws CoreException 不支持的操作符
+         */
+        public static Operator of(String name) {
+            for (Operator operator : values()) {
+                if (operator.name().equalsIgnoreCase(name)) {
+                    return operator;
+                }
+            }
+            throw new CoreException("不支持的过滤操作符: " + name);
+        }
+    }
+
+    /**
+     * 属性名
+     */
+    private String property;
+
+    /**
+     * 操作符
+     */
+    private Operator operator;
+
+    /**
+     * 比较值，IN时为集合
+     */
+    private Object value;
+
+    public PropertyFilter() {}
+
+    public PropertyFilter(String property, Operator operator, Object value) {
+        this.property = property;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /**
+     * IN操作符的取值列表
+     */
+    public List<Object> getValues() {
+        if (value instanceof Collection<?> collection) {
+            return List.copyOf(collection);
+        }
+        return List.of(value);
+    }
+}
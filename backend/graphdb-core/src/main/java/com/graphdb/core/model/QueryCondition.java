@@ -1,6 +1,9 @@
 package com.graphdb.core.model;
 
 import lombok.Data;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -10,6 +13,21 @@ import java.util.HashMap;
  */
 @Data
 public class QueryCondition {
+
+    /**
+     * 默认每页大小
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * 单页最大条数，避免一次请求拉取整张图
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * 关键词搜索匹配的属性
+     */
+    public static final String KEYWORD_PROPERTY = "name";
     
     /**
      * 标签过滤（可选）
@@ -19,10 +37,16 @@ public class QueryCondition {
     /**
      * 属性过滤条件
      * key: 属性名
-     * value: 属性值或条件表达式
+     * value: 属性值（等值匹配）、集合（IN）、PropertyFilter，
+     *        或以操作符为key的Map，如 {"gte": 18, "lt": 60}、{"prefix": "张"}
      */
     private Map<String, Object> propertyFilters = new HashMap<>();
     
+    /**
+     * 关键词，按KEYWORD_PROPERTY属性前缀匹配（可选）
+     */
+    private String keyword;
+    
     /**
      * 分页参数 - 页码（从1开始）
      */
@@ -31,7 +55,7 @@ public class QueryCondition {
     /**
      * 分页参数 - 每页大小
      */
-    private Integer pageSize = 20;
+    private Integer pageSize = DEFAULT_PAGE_SIZE;
     
     /**
      * 排序字段（可选）
@@ -43,6 +67,12 @@ public class QueryCondition {
      */
     private String sortDirection = "ASC";
     
+    /**
+     * 游标分页：上一页最后一条记录的排序键，为null时从第一页开始。
+     * 仅用于游标分页查询，此时忽略pageNum，按排序键升序返回大于该键的记录
+     */
+    private String afterKey;
+    
     /**
      * 默认构造函数
      */
@@ -96,7 +126,19 @@ public class QueryCondition {
      * @return 偏移量
      */
     public Integer getOffset() {
-        return (pageNum - 1) * pageSize;
+        int page = pageNum == null || pageNum < 1 ? 1 : pageNum;
+        return (page - 1) * getLimit();
+    }
+
+    /**
+     * 获取单页条数（用于数据库查询），限制在[1, MAX_PAGE_SIZE]之间
+     * @return 单页条数
+     */
+    public int getLimit() {
+        if (pageSize == null || pageSize < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(pageSize, MAX_PAGE_SIZE);
     }
     
     /**
@@ -106,4 +148,60 @@ public class QueryCondition {
     public boolean hasPropertyFilters() {
         return propertyFilters != null && !propertyFilters.isEmpty();
     }
+    
+    /**
+     * 将属性过滤条件及关键词展开为过滤条件列表，多个条件之间为AND关系
+     * @return 过滤条件列表
+     */
+    public List<PropertyFilter> toFilters() {
+        List<PropertyFilter> filters = new ArrayList<>();
+        if (propertyFilters != null) {
+            for (Map.Entry<String, Object> entry : propertyFilters.entrySet()) {
+                String property = entry.getKey();
+                Object value = entry.getValue();
+                if (value instanceof PropertyFilter filter) {
+                    filters.add(filter);
+                } else if (value instanceof Map<?, ?> operators) {
+                    for (Map.Entry<?, ?> operator : operators.entrySet()) {
+                        filters.add(new PropertyFilter(property,
+                                PropertyFilter.Operator.of(String.valueOf(operator.getKey())), operator.getValue()));
+                    }
+                } else if (value instanceof Collection<?>) {
+                    filters.add(new PropertyFilter(property, PropertyFilter.Operator.IN, value));
+                } else {
+                    filters.add(new PropertyFilter(property, PropertyFilter.Operator.EQ, value));
+                }
+            }
+        }
+        if (keyword != null && !keyword.isEmpty()) {
+            filters.add(new PropertyFilter(KEYWORD_PROPERTY, PropertyFilter.Operator.PREFIX, keyword));
+        }
+        return filters;
+    }
+    
+    /**
+     * 复制标签、属性过滤及关键词，用于按游标分批扫描全部匹配记录，每批MAX_PAGE_SIZE条
+     * @return 新的查询条件
+     */
+    public QueryCondition scanCopy() {
+        QueryCondition copy = new QueryCondition(label);
+        copy.setPropertyFilters(propertyFilters == null ? new HashMap<>() : new HashMap<>(propertyFilters));
+        copy.setKeyword(keyword);
+        copy.setPageSize(MAX_PAGE_SIZE);
+        return copy;
+    }
+    
+    /**
+     * 是否按降序排序
+     */
+    public boolean isDescending() {
+        return "DESC".equalsIgnoreCase(sortDirection);
+    }
+    
+    /**
+     * 是否指定了排序字段
+     */
+    public boolean hasSort() {
+        return sortField != null && !sortField.isEmpty();
+    }
 }
\ No newline at end of file
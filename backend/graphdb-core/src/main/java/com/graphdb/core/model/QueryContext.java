@@ -0,0 +1,94 @@
+package com.graphdb.core.model;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 原生查询执行上下文
+ * 携带查询ID与截止时间，并作为取消句柄：适配器在查询开始执行后注册取消动作，
+ * 调用cancel()时执行该动作终止后端上的查询。取消动作通常包含后端I/O，只在锁内读写状态，
+ * 动作本身在锁外执行，不阻塞查询线程清除取消动作，也不会在虚拟线程上持锁阻塞
+ */
+public class QueryContext {
+
+    private final String queryId;
+
+    /**
+     * 截止时间（毫秒时间戳），小于等于0表示不限制
+     */
+    private final long deadline;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean cancelled;
+    private Runnable canceller;
+
+    public QueryContext(String queryId, long deadline) {
+        this.queryId = queryId;
+        this.deadline = deadline;
+    }
+
+    public String getQueryId() {
+        return queryId;
+    }
+
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * 距离截止时间的剩余毫秒数，未设置截止时间时返回0（表示不限制）
+     * @return 剩余时间，已过截止时间时返回负数
+     */
+    public long getRemainingMs() {
+        if (deadline <= 0) {
+            return 0;
+        }
+        long remaining = deadline - System.currentTimeMillis();
+        return remaining == 0 ? -1 : remaining;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 注册取消动作，传入null表示查询已结束、清除取消动作
+     * 查询已被取消时立即执行该动作
+     * @param action 取消动作
+     */
+    public void onCancel(Runnable action) {
+        boolean runNow;
+        lock.lock();
+        try {
+            this.canceller = action;
+            runNow = cancelled && action != null;
+        } finally {
+            lock.unlock();
+        }
+        if (runNow) {
+            action.run();
+        }
+    }
+
+    /**
+     * 取消查询
+     * 取消动作可能在查询线程清除之后才执行，动作自身需容忍查询已结束的情况
+     * @return 调用前是否尚未取消
+     */
+    public boolean cancel() {
+        Runnable action;
+        lock.lock();
+        try {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            action = canceller;
+        } finally {
+            lock.unlock();
+        }
+        if (action != null) {
+            action.run();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,185 @@
+package com.graphdb.core.util;
+
+import com.graphdb.core.exception.CoreException;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 阻塞调用执行器
+ * 为没有原生异步API的驱动提供异步接口：阻塞调用在独立的有界线程池上执行，
+ * 不占用请求线程；队列满时立即以CoreException失败，而不是无限堆积。
+ * 启用虚拟线程模式后每个调用使用一个虚拟线程，并发数与排队数仍受同样的上限约束
+ */
+public final class BlockingCallExecutor {
+
+    /**
+     * 全局执行模式，由应用启动时根据spring.threads.virtual.enabled设置
+     */
+    private static volatile boolean virtualThreadsEnabled;
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 虚拟线程模式下的并发上限与准入上限（并发数+排队数）
+     */
+    private final Semaphore concurrency;
+    private final Semaphore admission;
+    private volatile VirtualThreadTaskExecutor virtualExecutor;
+
+    /**
+     * @param name 线程名前缀
+     * @param threads 线程数
+     * @param queueCapacity 等待队列容量
+     */
+    public BlockingCallExecutor(String name, int threads, int queueCapacity) {
+        this.name = name;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.concurrency = new Semaphore(threads);
+        this.admission = new Semaphore(threads + queueCapacity);
+    }
+
+    /**
+     * 设置是否使用虚拟线程执行阻塞调用，需要JDK 21及以上
+     * @param enabled 是否启用
+     */
+    public static void setVirtualThreadsEnabled(boolean enabled) {
+        virtualThreadsEnabled = enabled;
+    }
+
+    public static boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * 提交阻塞调用
+     * @param task 阻塞调用
+     * @return 调用完成时完成的future
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (virtualThreadsEnabled) {
+            return submitVirtual(task);
+        }
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new CoreException(name + "异步执行队列已满", e));
+        }
+    }
+
+    /**
+     * 执行阻塞调用并最多等待timeoutMs，超时时抛出TimeoutException，调用本身继续在执行器线程上运行
+     * @param task 阻塞调用
+     * @param timeoutMs 等待时间（毫秒）
+     * @param interruptOnTimeout 超时时是否中断执行调用的线程（适用于响应中断的调用，如Gremlin遍历）
+     * @return 调用结果
+     * @throws TimeoutException 超时
+     */
+    public <T> T call(Supplier<T> task, long timeoutMs, boolean interruptOnTimeout) throws TimeoutException {
+        Worker worker = new Worker();
+        CompletableFuture<T> future = submit(() -> {
+            worker.attach();
+            try {
+                return task.get();
+            } finally {
+                worker.detach();
+            }
+        });
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (interruptOnTimeout) {
+                worker.interrupt();
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (interruptOnTimeout) {
+                worker.interrupt();
+            }
+            throw new CoreException(name + "等待执行结果被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CoreException(name + "执行失败: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 每个调用一个虚拟线程，超过并发上限的调用在虚拟线程内等待许可，不占用平台线程
+     */
+    private <T> CompletableFuture<T> submitVirtual(Supplier<T> task) {
+        if (!admission.tryAcquire()) {
+            return CompletableFuture.failedFuture(new CoreException(name + "异步执行队列已满"));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    concurrency.acquireUninterruptibly();
+                    try {
+                        return task.get();
+                    } finally {
+                        concurrency.release();
+                    }
+                } finally {
+                    admission.release();
+                }
+            }, virtualExecutor());
+        } catch (RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    private VirtualThreadTaskExecutor virtualExecutor() {
+        VirtualThreadTaskExecutor current = virtualExecutor;
+        if (current == null) {
+            current = new VirtualThreadTaskExecutor(name + "-vt-");
+            virtualExecutor = current;
+        }
+        return current;
+    }
+
+    /**
+     * 记录正在执行调用的线程，保证中断只作用于该调用，不会遗留到线程执行的下一个任务
+     */
+    private static final class Worker {
+
+        private Thread thread;
+
+        synchronized void attach() {
+            thread = Thread.currentThread();
+        }
+
+        synchronized void detach() {
+            thread = null;
+            // 清除调用结束前收到的中断标记
+            Thread.interrupted();
+        }
+
+        synchronized void interrupt() {
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.graphdb.core.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.graphdb.core.model.ConnectionConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 连接额外参数
+ * 解析ConnectionConfig.extraParams（为空时使用jsonParams）中的JSON参数，
+ * 供各适配器读取连接池等可调参数
+ */
+@Slf4j
+public final class ConnectionParams {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Map<String, Object> params;
+
+    private ConnectionParams(Map<String, Object> params) {
+        this.params = params;
+    }
+
+    /**
+     * 从连接配置解析额外参数，解析失败时返回空参数
+     * @param config 连接配置
+     * @return 额外参数
+     */
+    public static ConnectionParams of(ConnectionConfig config) {
+        if (config == null) {
+            return new ConnectionParams(Collections.emptyMap());
+        }
+        String json = config.getExtraParams();
+        if (json == null || json.isBlank()) {
+            json = config.getJsonParams();
+        }
+        if (json == null || json.isBlank()) {
+            return new ConnectionParams(Collections.emptyMap());
+        }
+        try {
+            Map<String, Object> parsed = OBJECT_MAPPER.readValue(json, new TypeReference<Map<String, Object>>() {});
+            return new ConnectionParams(parsed != null ? parsed : Collections.emptyMap());
+        } catch (Exception e) {
+            log.warn("解析连接额外参数失败，使用默认值: connectionId={}, error={}", config.getId(), e.getMessage());
+            return new ConnectionParams(Collections.emptyMap());
+        }
+    }
+
+    public boolean contains(String key) {
+        return params.get(key) != null;
+    }
+
+    public String getString(String key, String defaultValue) {
+        Object value = params.get(key);
+        return value != null ? String.valueOf(value) : defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Object value = params.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value != null) {
+            try {
+                return Integer.parseInt(String.valueOf(value).trim());
+            } catch (NumberFormatException e) {
+                log.warn("连接参数{}不是有效整数: {}", key, value);
+            }
+        }
+        return defaultValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        Object value = params.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value != null) {
+            try {
+                return Long.parseLong(String.valueOf(value).trim());
+            } catch (NumberFormatException e) {
+                log.warn("连接参数{}不是有效整数: {}", key, value);
+            }
+        }
+        return defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Object value = params.get(key);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value != null ? Boolean.parseBoolean(String.valueOf(value).trim()) : defaultValue;
+    }
+}
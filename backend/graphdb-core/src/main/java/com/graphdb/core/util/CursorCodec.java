@@ -0,0 +1,51 @@
+package com.graphdb.core.util;
+
+import com.graphdb.core.exception.CoreException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 游标编解码
+ * 游标对调用方不透明，内容为上一页最后一条记录的排序键，以URL安全的base64编码，可直接作为查询参数
+ */
+public final class CursorCodec {
+
+    private static final String VERSION = "1:";
+
+    private CursorCodec() {}
+
+    /**
+     * 将排序键编码为游标
+     * @param key 排序键，为null时返回null
+     * @return 游标
+     */
+    public static String encode(String key) {
+        if (key == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 将游标解码为排序键
+     * @param cursor 游标，为空时返回null（从第一页开始）
+     * @return 排序键
+     * @throws CoreException 游标格式无效
+     */
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(VERSION)) {
+                return decoded.substring(VERSION.length());
+            }
+        } catch (IllegalArgumentException ignored) {
+            // 落到下方统一抛出
+        }
+        throw new CoreException("无效的分页游标: " + cursor);
+    }
+}
@@ -0,0 +1,84 @@
+package com.graphdb.core.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 耗时记录器
+ * 使用固定大小的环形缓冲区无锁记录最近的耗时样本，按需计算分位数，
+ * 记录操作只有一次原子自增和一次数组写入，可在热路径上使用
+ */
+public final class LatencyRecorder {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final AtomicLongArray samples;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+
+    public LatencyRecorder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity 样本容量，向上取整为2的幂
+     */
+    public LatencyRecorder(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.samples = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 记录一次耗时
+     * @param millis 耗时（毫秒）
+     */
+    public void record(long millis) {
+        long index = cursor.getAndIncrement();
+        samples.set((int) (index & mask), millis);
+        count.increment();
+        total.add(millis);
+    }
+
+    /**
+     * 累计记录次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 累计平均耗时（毫秒），无样本时返回null
+     */
+    public Double getAverage() {
+        long n = count.sum();
+        return n == 0 ? null : (double) total.sum() / n;
+    }
+
+    /**
+     * 计算最近样本的分位数
+     * @param percentiles 分位（0-100）
+     * @return 与percentiles一一对应的耗时，无样本时返回null
+     */
+    public long[] percentiles(double... percentiles) {
+        int size = (int) Math.min(cursor.get(), samples.length());
+        if (size == 0) {
+            return null;
+        }
+        long[] snapshot = new long[size];
+        for (int i = 0; i < size; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        long[] result = new long[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            int rank = (int) Math.ceil(percentiles[i] / 100.0 * size) - 1;
+            result[i] = snapshot[Math.min(size - 1, Math.max(0, rank))];
+        }
+        return result;
+    }
+}
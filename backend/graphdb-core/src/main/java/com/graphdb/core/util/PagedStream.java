@@ -0,0 +1,55 @@
+package com.graphdb.core.util;
+
+import com.graphdb.core.model.CursorPage;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 基于游标分页的惰性流
+ * 消费完当前页后才按nextCursor拉取下一页，内存中最多保留一页数据
+ */
+public final class PagedStream {
+
+    private PagedStream() {}
+
+    /**
+     * @param fetcher 按游标拉取一页，参数为null时拉取第一页
+     * @return 依次返回各页元素的流
+     */
+    public static <T> Stream<T> of(Function<String, CursorPage<T>> fetcher) {
+        Iterator<T> iterator = new Iterator<>() {
+            private Iterator<T> current;
+            private String cursor;
+            private boolean last;
+
+            @Override
+            public boolean hasNext() {
+                while (current == null || !current.hasNext()) {
+                    if (last) {
+                        return false;
+                    }
+                    CursorPage<T> page = fetcher.apply(cursor);
+                    cursor = page.getNextCursor();
+                    last = cursor == null;
+                    current = page.getItems().iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+}
@@ -0,0 +1,127 @@
+package com.graphdb.core.util;
+
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 节点和边的uid生成器
+ * Snowflake结构的64位ID：41位毫秒时间戳（自2024-01-01起）+ 10位工作节点ID + 12位毫秒内序号，
+ * 单个工作节点每毫秒可生成4096个ID。时间戳与序号保存在同一个AtomicLong中，通过CAS无锁推进；
+ * 序号用尽或时钟回拨时沿用上一时间戳继续递增（借用后续毫秒），不等待、不重复。
+ * 字符串形式为固定13位的base32编码，字典序与生成时间顺序一致，可直接用于按uid的游标分页
+ */
+public final class UidGenerator {
+
+    /**
+     * 起始时间 2024-01-01T00:00:00Z
+     */
+    private static final long EPOCH = 1704067200000L;
+
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789abcdefghjkmnpqrstvwxyz".toCharArray();
+
+    private static volatile UidGenerator instance = new UidGenerator(defaultWorkerId());
+
+    private final long workerId;
+
+    /**
+     * 高位为相对EPOCH的毫秒时间戳，低SEQUENCE_BITS位为序号
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * @param workerId 工作节点ID，取值范围[0, 1023]，同一集群内的每个API节点必须不同
+     */
+    public UidGenerator(long workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId必须在0到" + MAX_WORKER_ID + "之间: " + workerId);
+        }
+        this.workerId = workerId;
+    }
+
+    /**
+     * 设置全局生成器的工作节点ID，应在启动时调用
+     * @param workerId 工作节点ID
+     */
+    public static void configure(long workerId) {
+        instance = new UidGenerator(workerId);
+    }
+
+    /**
+     * 全局生成器
+     */
+    public static UidGenerator getInstance() {
+        return instance;
+    }
+
+    /**
+     * 使用全局生成器生成带前缀的uid
+     * @param prefix 前缀，如vertex_、edge_
+     * @return uid
+     */
+    public static String next(String prefix) {
+        return instance.nextUid(prefix);
+    }
+
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * 生成64位ID
+     */
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long now = System.currentTimeMillis() - EPOCH;
+            // 时钟前进时从新毫秒的0号开始；否则序号加1，序号溢出时自然进位到下一毫秒
+            long next = now > (current >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : current + 1;
+            if (state.compareAndSet(current, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (timestamp << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /**
+     * 生成带前缀的uid
+     * @param prefix 前缀
+     * @return 前缀 + 13位base32编码的ID
+     */
+    public String nextUid(String prefix) {
+        char[] chars = new char[ENCODED_LENGTH];
+        long id = nextId();
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return prefix == null ? new String(chars) : prefix + new String(chars);
+    }
+
+    /**
+     * 从ID中解析生成时间
+     * @param id nextId生成的ID
+     * @return 毫秒时间戳
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    /**
+     * 未配置时按主机名及进程号推导工作节点ID，多节点部署时可能冲突，应显式配置
+     */
+    private static long defaultWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "localhost";
+        }
+        return ((host + ":" + ProcessHandle.current().pid()).hashCode() & 0x7fffffff) % (MAX_WORKER_ID + 1);
+    }
+}
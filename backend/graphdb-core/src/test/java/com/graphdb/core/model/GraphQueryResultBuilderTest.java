@@ -0,0 +1,67 @@
+package com.graphdb.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphQueryResultBuilderTest {
+
+    @Test
+    void deduplicatesByUidAndKeepsFirstSeenOrder() {
+        GraphQueryResultBuilder builder = new GraphQueryResultBuilder(0, 0);
+        builder.addVertex(vertex("b"));
+        builder.addVertex(vertex("a"));
+        builder.addVertex(vertex("b"));
+        builder.addEdge(edge("e1", "b", "a"));
+        builder.addEdge(edge("e1", "b", "a"));
+
+        GraphQueryResult result = builder.build();
+        List<String> uids = result.getVertices().stream().map(Vertex::getUid).collect(Collectors.toList());
+        assertEquals(List.of("b", "a"), uids);
+        assertEquals(1, result.getEdges().size());
+        assertEquals(3, result.getStatistics().getResultRows());
+        assertFalse(result.getStatistics().getTruncated());
+    }
+
+    @Test
+    void stopsAcceptingAtElementLimit() {
+        GraphQueryResultBuilder builder = new GraphQueryResultBuilder(2, 0);
+        assertTrue(builder.addVertex(vertex("a")));
+        assertTrue(builder.addVertex(vertex("b")));
+        assertFalse(builder.addEdge(edge("e1", "a", "b")));
+        assertFalse(builder.addVertex(vertex("c")));
+
+        GraphQueryResult result = builder.build();
+        assertTrue(builder.isTruncated());
+        assertTrue(result.getStatistics().getTruncated());
+        assertEquals(2, result.getVertices().size());
+        assertTrue(result.getEdges().isEmpty());
+    }
+
+    @Test
+    void stopsAcceptingAtByteLimit() {
+        GraphQueryResultBuilder builder = new GraphQueryResultBuilder(0, 300);
+        assertTrue(builder.addVertex(vertex("a")));
+        assertFalse(builder.addVertex(vertex("b")));
+        assertTrue(builder.isTruncated());
+        assertEquals(1, builder.build().getVertices().size());
+    }
+
+    private static Vertex vertex(String uid) {
+        Vertex vertex = new Vertex();
+        vertex.setUid(uid);
+        vertex.setLabel("Person");
+        return vertex;
+    }
+
+    private static Edge edge(String uid, String source, String target) {
+        Edge edge = new Edge("KNOWS", source, target);
+        edge.setUid(uid);
+        return edge;
+    }
+}
@@ -0,0 +1,42 @@
+package com.graphdb.core.util;
+
+import com.graphdb.core.exception.CoreException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorCodecTest {
+
+    @Test
+    void roundTripsSortKeys() {
+        for (String key : new String[]{"vertex_0abc", "4:f1d2:17", "edge_knows:a->b", "节点/含中文?&=", ""}) {
+            String cursor = CursorCodec.encode(key);
+            assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="), "游标应可直接作为查询参数");
+            assertEquals(key, CursorCodec.decode(cursor));
+        }
+    }
+
+    @Test
+    void nullAndEmptyCursorStartFromFirstPage() {
+        assertNull(CursorCodec.encode(null));
+        assertNull(CursorCodec.decode(null));
+        assertNull(CursorCodec.decode(""));
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        String cursor = CursorCodec.encode("vertex_0abc");
+        // 改写首字符会破坏版本前缀
+        String tampered = (cursor.charAt(0) == 'A' ? 'B' : 'A') + cursor.substring(1);
+        assertThrows(CoreException.class, () -> CursorCodec.decode(tampered));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(CoreException.class, () -> CursorCodec.decode("not a cursor!"));
+        assertThrows(CoreException.class, () -> CursorCodec.decode("dmVydGV4XzBhYmM"));
+    }
+}
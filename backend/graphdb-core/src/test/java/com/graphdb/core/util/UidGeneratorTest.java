@@ -0,0 +1,76 @@
+package com.graphdb.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UidGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 20_000;
+
+    @Test
+    void idsAreMonotonicAndUniqueUnderContention() throws Exception {
+        UidGenerator generator = new UidGenerator(7);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    long[] ids = new long[IDS_PER_THREAD];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<Long> all = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get();
+                for (int i = 0; i < ids.length; i++) {
+                    assertTrue(all.add(ids[i]), "ID重复: " + ids[i]);
+                }
+                // 同一线程先后取得的ID严格递增
+                for (int i = 1; i < ids.length; i++) {
+                    assertTrue(ids[i] > ids[i - 1], "ID未单调递增: " + ids[i - 1] + " -> " + ids[i]);
+                }
+            }
+            assertEquals(THREADS * IDS_PER_THREAD, all.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void encodedUidsSortInGenerationOrder() {
+        UidGenerator generator = new UidGenerator(1);
+        String previous = generator.nextUid("vertex_");
+        for (int i = 0; i < 10_000; i++) {
+            String current = generator.nextUid("vertex_");
+            assertEquals(previous.length(), current.length());
+            assertTrue(current.compareTo(previous) > 0, "uid字典序应与生成顺序一致: " + previous + " -> " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void rejectsOutOfRangeWorkerId() {
+        assertThrows(IllegalArgumentException.class, () -> new UidGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new UidGenerator(UidGenerator.MAX_WORKER_ID + 1));
+    }
+}
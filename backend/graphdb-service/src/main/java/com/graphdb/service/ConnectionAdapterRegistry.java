@@ -0,0 +1,178 @@
+package com.graphdb.service;
+
+import com.graphdb.core.constant.DatabaseTypeEnum;
+import com.graphdb.core.exception.CoreException;
+import com.graphdb.core.interfaces.GraphAdapter;
+import com.graphdb.core.model.ConnectionConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 连接级适配器注册表
+ * 按连接ID维护独立的适配器实例，每个实例持有自己的驱动和连接池；
+ * 实例在首次使用时懒加载创建，连接配置更新或删除时销毁
+ */
+@Slf4j
+@Component
+public class ConnectionAdapterRegistry {
+
+    /**
+     * 各数据库类型的适配器原型（由Spring注入的单例，仅用于确定实现类）
+     */
+    private final Map<DatabaseTypeEnum, GraphAdapter> prototypes = new EnumMap<>(DatabaseTypeEnum.class);
+
+    /**
+     * 连接ID -> 适配器持有者
+     */
+    private final Map<Long, AdapterHolder> holders = new ConcurrentHashMap<>();
+
+    private final AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    public ConnectionAdapterRegistry(List<GraphAdapter> adapters, AutowireCapableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+        if (adapters != null) {
+            for (GraphAdapter adapter : adapters) {
+                prototypes.put(adapter.getDatabaseType(), adapter);
+            }
+        }
+    }
+
+    /**
+     * 获取连接专属的适配器实例，不存在时创建并建立连接
+     * @param config 连接配置（必须包含连接ID）
+     * @return 已连接的适配器实例
+     * @throws CoreException 适配器不存在或连接失败
+     */
+    public GraphAdapter getAdapter(ConnectionConfig config) {
+        if (config == null || config.getId() == null) {
+            throw new CoreException("连接ID不能为空");
+        }
+        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
+        while (true) {
+            AdapterHolder holder = holders.computeIfAbsent(config.getId(), id -> new AdapterHolder(id));
+            GraphAdapter adapter = holder.get(type, config);
+            if (adapter != null) {
+                return adapter;
+            }
+            // 持有者已被并发释放，移除后重新创建
+            holders.remove(config.getId(), holder);
+        }
+    }
+
+    /**
+     * 释放连接对应的适配器实例（断开驱动并关闭连接池）
+     * @param connectionId 连接ID
+     */
+    public void evict(Long connectionId) {
+        if (connectionId == null) {
+            return;
+        }
+        AdapterHolder holder = holders.remove(connectionId);
+        if (holder != null) {
+            holder.close();
+            log.info("已释放连接适配器: connectionId={}", connectionId);
+        }
+    }
+
+    /**
+     * 获取当前已打开的适配器快照
+     * @return 连接ID -> 适配器实例
+     */
+    public Map<Long, GraphAdapter> getOpenAdapters() {
+        Map<Long, GraphAdapter> snapshot = new HashMap<>();
+        holders.forEach((id, holder) -> {
+            GraphAdapter adapter = holder.adapter;
+            if (adapter != null && adapter.isConnected()) {
+                snapshot.put(id, adapter);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * 应用关闭时释放全部适配器
+     */
+    @PreDestroy
+    public void closeAll() {
+        for (Long connectionId : List.copyOf(holders.keySet())) {
+            evict(connectionId);
+        }
+    }
+
+    private GraphAdapter createAdapter(DatabaseTypeEnum type) {
+        GraphAdapter prototype = prototypes.get(type);
+        if (prototype == null) {
+            throw new CoreException("未找到对应数据库类型的适配器: " + type);
+        }
+        return beanFactory.createBean(prototype.getClass());
+    }
+
+    /**
+     * 单个连接的适配器持有者，保证同一连接只创建一个适配器实例
+     */
+    private class AdapterHolder {
+
+        private final Long connectionId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile GraphAdapter adapter;
+        private boolean closed;
+
+        AdapterHolder(Long connectionId) {
+            this.connectionId = connectionId;
+        }
+
+        /**
+         * 获取已连接的适配器，持有者已关闭时返回null
+         */
+        GraphAdapter get(DatabaseTypeEnum type, ConnectionConfig config) {
+            GraphAdapter current = adapter;
+            if (current != null && current.isConnected()) {
+                return current;
+            }
+            lock.lock();
+            try {
+                if (closed) {
+                    return null;
+                }
+                if (adapter == null) {
+                    adapter = createAdapter(type);
+                    log.info("创建连接适配器: connectionId={}, type={}", connectionId, type);
+                }
+                if (!adapter.isConnected()) {
+                    adapter.connect(config);
+                }
+                return adapter;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                if (adapter != null) {
+                    try {
+                        adapter.disconnect();
+                    } catch (Exception e) {
+                        log.warn("断开连接适配器失败: connectionId={}, error={}", connectionId, e.getMessage());
+                    }
+                    adapter = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
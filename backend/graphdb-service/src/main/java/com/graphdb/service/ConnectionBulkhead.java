@@ -0,0 +1,174 @@
+package com.graphdb.service;
+
+import com.graphdb.core.model.ConnectionConfig;
+import com.graphdb.core.util.ConnectionParams;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 连接级舱壁隔离
+ * 限制每个连接同时执行的适配器调用数，超出的调用进入有界等待队列，
+ * 队列已满或等待超时时直接拒绝，避免一个慢后端占满全部请求线程。
+ * 上限可通过连接extraParams覆盖：bulkheadMaxConcurrent、bulkheadMaxWaiting、bulkheadMaxWaitMs
+ */
+@Slf4j
+@Component
+public class ConnectionBulkhead {
+
+    private final Map<Long, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    @Value("${graphdb.bulkhead.max-concurrent:32}")
+    private int defaultMaxConcurrent;
+
+    @Value("${graphdb.bulkhead.max-waiting:64}")
+    private int defaultMaxWaiting;
+
+    @Value("${graphdb.bulkhead.max-wait-ms:2000}")
+    private long defaultMaxWaitMs;
+
+    /**
+     * 获取调用许可，必要时在等待队列中等待
+     * @param config 连接配置
+     * @return 调用许可，调用结束后必须释放
+     */
+    public Permit acquire(ConnectionConfig config) {
+        return bulkheadOf(config).acquire(true);
+    }
+
+    /**
+     * 非阻塞获取调用许可，没有空闲许可时立即拒绝（用于异步调用，不阻塞调用线程）
+     * @param config 连接配置
+     * @return 调用许可，调用结束后必须释放
+     */
+    public Permit tryAcquire(ConnectionConfig config) {
+        return bulkheadOf(config).acquire(false);
+    }
+
+    /**
+     * 移除连接的舱壁（连接更新或删除时调用，下次使用时按新配置创建）
+     * @param connectionId 连接ID
+     */
+    public void reset(Long connectionId) {
+        if (connectionId != null) {
+            bulkheads.remove(connectionId);
+        }
+    }
+
+    /**
+     * 获取各连接的舱壁指标
+     * @return 连接ID -> 指标（执行中、排队数、拒绝次数等）
+     */
+    public Map<Long, Map<String, Object>> getStats() {
+        Map<Long, Map<String, Object>> stats = new HashMap<>();
+        bulkheads.forEach((id, bulkhead) -> {
+            Map<String, Object> info = new HashMap<>();
+            info.put("maxConcurrent", bulkhead.maxConcurrent);
+            info.put("maxWaiting", bulkhead.maxWaiting);
+            info.put("maxWaitMs", bulkhead.maxWaitMs);
+            info.put("inFlight", bulkhead.maxConcurrent - bulkhead.permits.availablePermits());
+            info.put("queueDepth", bulkhead.waiting.get());
+            info.put("accepted", bulkhead.accepted.sum());
+            info.put("rejected", bulkhead.rejected.sum());
+            info.put("waitTimeouts", bulkhead.waitTimeouts.sum());
+            stats.put(id, info);
+        });
+        return stats;
+    }
+
+    private Bulkhead bulkheadOf(ConnectionConfig config) {
+        return bulkheads.computeIfAbsent(config.getId(), id -> {
+            ConnectionParams params = ConnectionParams.of(config);
+            return new Bulkhead(id,
+                    Math.max(1, params.getInt("bulkheadMaxConcurrent", defaultMaxConcurrent)),
+                    Math.max(0, params.getInt("bulkheadMaxWaiting", defaultMaxWaiting)),
+                    Math.max(0, params.getLong("bulkheadMaxWaitMs", defaultMaxWaitMs)));
+        });
+    }
+
+    /**
+     * 调用许可
+     */
+    public static final class Permit implements AutoCloseable {
+
+        private final Semaphore permits;
+        private boolean released;
+
+        private Permit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * 单个连接的舱壁
+     */
+    private static class Bulkhead {
+
+        private final Long connectionId;
+        private final int maxConcurrent;
+        private final int maxWaiting;
+        private final long maxWaitMs;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder waitTimeouts = new LongAdder();
+
+        Bulkhead(Long connectionId, int maxConcurrent, int maxWaiting, long maxWaitMs) {
+            this.connectionId = connectionId;
+            this.maxConcurrent = maxConcurrent;
+            this.maxWaiting = maxWaiting;
+            this.maxWaitMs = maxWaitMs;
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+
+        Permit acquire(boolean wait) {
+            if (permits.tryAcquire()) {
+                accepted.increment();
+                return new Permit(permits);
+            }
+            if (!wait) {
+                throw reject("并发请求已达上限" + maxConcurrent);
+            }
+            int depth = waiting.incrementAndGet();
+            try {
+                if (depth > maxWaiting) {
+                    throw reject("等待队列已满");
+                }
+                if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                    waitTimeouts.increment();
+                    throw reject("等待超过" + maxWaitMs + "ms");
+                }
+                accepted.increment();
+                return new Permit(permits);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject("等待被中断");
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private RuntimeException reject(String reason) {
+            rejected.increment();
+            log.warn("连接请求被舱壁拒绝: connectionId={}, reason={}", connectionId, reason);
+            return new RuntimeException("连接 " + connectionId + " 繁忙（" + reason + "），请稍后重试");
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.graphdb.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 连接级熔断器
+ * 连续失败达到阈值后熔断（OPEN），熔断期间请求直接失败；
+ * 熔断时间结束后进入半开（HALF_OPEN），只放行一次探测调用，成功则恢复，失败则重新熔断
+ */
+@Slf4j
+@Component
+public class ConnectionCircuitBreaker {
+
+    /**
+     * 熔断器状态
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final Map<Long, Breaker> breakers = new ConcurrentHashMap<>();
+
+    @Value("${graphdb.circuit-breaker.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${graphdb.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    /**
+     * 请求调用许可，熔断中时抛出异常
+     * @param connectionId 连接ID
+     */
+    public void acquirePermission(Long connectionId) {
+        Breaker breaker = breakers.get(connectionId);
+        if (breaker != null && !breaker.tryAcquire()) {
+            throw new RuntimeException("连接 " + connectionId + " 后端不可用，已熔断，请稍后重试");
+        }
+    }
+
+    /**
+     * 记录一次成功调用
+     * @param connectionId 连接ID
+     */
+    public void recordSuccess(Long connectionId) {
+        Breaker breaker = breakers.get(connectionId);
+        if (breaker != null) {
+            breaker.onSuccess();
+        }
+    }
+
+    /**
+     * 记录一次后端不可用导致的失败
+     * @param connectionId 连接ID
+     */
+    public void recordFailure(Long connectionId) {
+        breakers.computeIfAbsent(connectionId, id -> new Breaker(id)).onFailure();
+    }
+
+    /**
+     * 获取连接当前熔断状态
+     * @param connectionId 连接ID
+     * @return 熔断状态
+     */
+    public State getState(Long connectionId) {
+        Breaker breaker = breakers.get(connectionId);
+        return breaker != null ? breaker.currentState() : State.CLOSED;
+    }
+
+    /**
+     * 获取处于熔断或半开状态的连接ID
+     * @return 连接ID列表
+     */
+    public List<Long> getOpenConnectionIds() {
+        List<Long> ids = new ArrayList<>();
+        breakers.forEach((id, breaker) -> {
+            if (breaker.currentState() != State.CLOSED) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * 移除连接的熔断器（连接更新或删除时调用）
+     * @param connectionId 连接ID
+     */
+    public void reset(Long connectionId) {
+        if (connectionId != null) {
+            breakers.remove(connectionId);
+        }
+    }
+
+    /**
+     * 获取各连接熔断器状态快照
+     * @return 连接ID -> 状态信息
+     */
+    public Map<Long, Map<String, Object>> getSnapshot() {
+        Map<Long, Map<String, Object>> snapshot = new HashMap<>();
+        breakers.forEach((id, breaker) -> {
+            Map<String, Object> info = new HashMap<>();
+            info.put("state", breaker.currentState().name());
+            info.put("consecutiveFailures", breaker.consecutiveFailures);
+            info.put("openedAt", breaker.openedAt);
+            snapshot.put(id, info);
+        });
+        return snapshot;
+    }
+
+    /**
+     * 单个连接的熔断器
+     */
+    private class Breaker {
+
+        private final Long connectionId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile State state = State.CLOSED;
+        private volatile int consecutiveFailures;
+        private volatile long openedAt;
+        private boolean probeInFlight;
+        private long probeStartedAt;
+
+        Breaker(Long connectionId) {
+            this.connectionId = connectionId;
+        }
+
+        State currentState() {
+            if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        }
+
+        boolean tryAcquire() {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            lock.lock();
+            try {
+                if (state == State.CLOSED) {
+                    return true;
+                }
+                if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+                    state = State.HALF_OPEN;
+                    probeInFlight = false;
+                }
+                // 半开状态只放行一次探测调用，探测超过熔断时长仍未返回结果时允许重新探测
+                long now = System.currentTimeMillis();
+                if (state == State.HALF_OPEN && (!probeInFlight || now - probeStartedAt >= openDurationMs)) {
+                    probeInFlight = true;
+                    probeStartedAt = now;
+                    return true;
+                }
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void onSuccess() {
+            if (state == State.CLOSED && consecutiveFailures == 0) {
+                return;
+            }
+            lock.lock();
+            try {
+                if (state != State.CLOSED) {
+                    log.info("连接恢复，关闭熔断: connectionId={}", connectionId);
+                }
+                state = State.CLOSED;
+                consecutiveFailures = 0;
+                probeInFlight = false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void onFailure() {
+            lock.lock();
+            try {
+                consecutiveFailures++;
+                if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                    state = State.OPEN;
+                    openedAt = System.currentTimeMillis();
+                    probeInFlight = false;
+                    log.warn("连接后端不可用，开启熔断: connectionId={}, consecutiveFailures={}",
+                            connectionId, consecutiveFailures);
+                } else if (state == State.OPEN) {
+                    openedAt = System.currentTimeMillis();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
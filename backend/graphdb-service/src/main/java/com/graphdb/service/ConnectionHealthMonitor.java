@@ -0,0 +1,141 @@
+package com.graphdb.service;
+
+import com.graphdb.storage.repository.ConnectionMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 连接健康监控
+ * 定期对已打开的连接池以及处于熔断状态的连接执行轻量探测，
+ * 探测结果驱动熔断器，并在状态变化时批量回写connection_config.status
+ */
+@Slf4j
+@Component
+public class ConnectionHealthMonitor {
+
+    private static final int STATUS_NORMAL = 1;
+    private static final int STATUS_ERROR = 2;
+
+    @Autowired
+    private ConnectionAdapterRegistry adapterRegistry;
+
+    @Autowired
+    private ConnectionCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private GraphService graphService;
+
+    @Autowired
+    private ConnectionMapper connectionMapper;
+
+    @Value("${graphdb.health.enabled:true}")
+    private boolean enabled;
+
+    @Value("${graphdb.health.probe-timeout-ms:5000}")
+    private long probeTimeoutMs;
+
+    /**
+     * 连接ID -> 最近一次回写的状态，仅在状态变化时更新数据库
+     */
+    private final Map<Long, Integer> lastStatus = new ConcurrentHashMap<>();
+
+    private final AtomicInteger probeThreadCounter = new AtomicInteger();
+
+    private final ExecutorService probeExecutor = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "connection-health-" + probeThreadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 执行一轮健康探测
+     */
+    @Scheduled(fixedDelayString = "${graphdb.health.interval-ms:30000}",
+            initialDelayString = "${graphdb.health.interval-ms:30000}")
+    public void probeAll() {
+        if (!enabled) {
+            return;
+        }
+        Set<Long> connectionIds = new LinkedHashSet<>(adapterRegistry.getOpenAdapters().keySet());
+        connectionIds.addAll(circuitBreaker.getOpenConnectionIds());
+        if (connectionIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Future<Boolean>> futures = new HashMap<>();
+        for (Long connectionId : connectionIds) {
+            futures.put(connectionId, probeExecutor.submit(() -> graphService.probeConnection(connectionId)));
+        }
+
+        List<Long> healthy = new ArrayList<>();
+        List<Long> unhealthy = new ArrayList<>();
+        futures.forEach((connectionId, future) -> {
+            boolean ok;
+            try {
+                ok = future.get(probeTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                // 探测超时同样视为后端不可用
+                future.cancel(true);
+                circuitBreaker.recordFailure(connectionId);
+                ok = false;
+            }
+            if (lastStatus.getOrDefault(connectionId, -1) != (ok ? STATUS_NORMAL : STATUS_ERROR)) {
+                (ok ? healthy : unhealthy).add(connectionId);
+            }
+        });
+
+        updateStatus(healthy, STATUS_NORMAL);
+        updateStatus(unhealthy, STATUS_ERROR);
+        if (!unhealthy.isEmpty()) {
+            log.warn("连接健康探测失败: {}", unhealthy);
+        }
+    }
+
+    /**
+     * 获取最近一次探测后的状态及熔断信息
+     * @return 连接ID -> 健康信息
+     */
+    public Map<Long, Map<String, Object>> getHealthSnapshot() {
+        Map<Long, Map<String, Object>> snapshot = new HashMap<>(circuitBreaker.getSnapshot());
+        lastStatus.forEach((id, status) -> snapshot.computeIfAbsent(id, k -> {
+            Map<String, Object> info = new HashMap<>();
+            info.put("state", circuitBreaker.getState(id).name());
+            return info;
+        }).put("status", status));
+        return snapshot;
+    }
+
+    private void updateStatus(List<Long> connectionIds, int status) {
+        if (connectionIds.isEmpty()) {
+            return;
+        }
+        try {
+            connectionMapper.updateStatusBatch(connectionIds, status);
+            connectionIds.forEach(id -> lastStatus.put(id, status));
+        } catch (Exception e) {
+            log.warn("批量更新连接状态失败: ids={}, status={}, error={}", connectionIds, status, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+}
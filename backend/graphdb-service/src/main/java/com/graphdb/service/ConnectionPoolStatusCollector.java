@@ -0,0 +1,67 @@
+package com.graphdb.service;
+
+import com.graphdb.core.interfaces.GraphAdapter;
+import com.graphdb.core.model.PoolStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 连接池状态采集
+ * 定期从各已打开连接的适配器读取连接池指标生成快照，
+ * 查询接口直接返回快照，不在请求线程上访问驱动
+ */
+@Slf4j
+@Component
+public class ConnectionPoolStatusCollector {
+
+    @Autowired
+    private ConnectionAdapterRegistry adapterRegistry;
+
+    private volatile Map<Long, PoolStatus> snapshot = Collections.emptyMap();
+    private volatile long snapshotTime;
+
+    /**
+     * 刷新连接池状态快照
+     */
+    @Scheduled(fixedDelayString = "${graphdb.pool-status.refresh-ms:5000}")
+    public void refresh() {
+        Map<Long, PoolStatus> current = new LinkedHashMap<>();
+        for (Map.Entry<Long, GraphAdapter> entry : adapterRegistry.getOpenAdapters().entrySet()) {
+            try {
+                PoolStatus status = entry.getValue().getPoolStatus();
+                if (status != null) {
+                    status.setConnectionId(entry.getKey());
+                    current.put(entry.getKey(), status);
+                }
+            } catch (Exception e) {
+                log.warn("采集连接池状态失败: connectionId={}, error={}", entry.getKey(), e.getMessage());
+            }
+        }
+        snapshot = Collections.unmodifiableMap(current);
+        snapshotTime = System.currentTimeMillis();
+    }
+
+    /**
+     * 获取最近一次采集的快照
+     * @return 连接ID -> 连接池状态
+     */
+    public Map<Long, PoolStatus> getSnapshot() {
+        if (snapshotTime == 0) {
+            refresh();
+        }
+        return snapshot;
+    }
+
+    /**
+     * 快照采集时间
+     */
+    public long getSnapshotTime() {
+        return snapshotTime;
+    }
+}
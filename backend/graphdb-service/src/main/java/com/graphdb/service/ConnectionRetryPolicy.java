@@ -0,0 +1,161 @@
+package com.graphdb.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 连接级重试策略
+ * 幂等操作遇到瞬时故障时按带抖动的指数退避重试；每个连接维护一个重试预算：
+ * 瞬时故障消耗1个令牌，成功调用归还token-ratio个令牌，令牌数不超过max-tokens的一半时停止重试，
+ * 避免后端持续故障时重试放大流量
+ */
+@Slf4j
+@Component
+public class ConnectionRetryPolicy {
+
+    private final Map<Long, RetryBudget> budgets = new ConcurrentHashMap<>();
+
+    @Value("${graphdb.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${graphdb.retry.initial-backoff-ms:50}")
+    private long initialBackoffMs;
+
+    @Value("${graphdb.retry.max-backoff-ms:1000}")
+    private long maxBackoffMs;
+
+    @Value("${graphdb.retry.budget.max-tokens:10}")
+    private double maxTokens;
+
+    @Value("${graphdb.retry.budget.token-ratio:0.1}")
+    private double tokenRatio;
+
+    /**
+     * 判断失败的调用是否可以重试，可以重试时扣减重试预算
+     * @param connectionId 连接ID
+     * @param attempt 已执行的次数（从1开始）
+     * @param transientError 是否为瞬时故障
+     * @return 是否重试
+     */
+    public boolean shouldRetry(Long connectionId, int attempt, boolean transientError) {
+        if (!transientError) {
+            return false;
+        }
+        RetryBudget budget = budgetOf(connectionId);
+        boolean allowed = budget.onTransientFailure();
+        if (attempt >= maxAttempts) {
+            budget.exhausted.increment();
+            return false;
+        }
+        if (!allowed) {
+            budget.budgetRejected.increment();
+            log.warn("连接重试预算不足，不再重试: connectionId={}", connectionId);
+            return false;
+        }
+        budget.retries.increment();
+        return true;
+    }
+
+    /**
+     * 记录一次成功调用
+     * @param connectionId 连接ID
+     * @param attempt 成功时的执行次数（从1开始）
+     */
+    public void recordSuccess(Long connectionId, int attempt) {
+        RetryBudget budget = budgets.get(connectionId);
+        if (budget == null) {
+            return;
+        }
+        budget.onSuccess();
+        if (attempt > 1) {
+            budget.recovered.increment();
+        }
+    }
+
+    /**
+     * 计算第attempt次执行失败后的退避时间：在[0, min(max, initial * 2^(attempt-1))]内随机取值
+     * @param attempt 已执行的次数（从1开始）
+     * @return 退避时间（毫秒）
+     */
+    public long backoffMs(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 移除连接的重试预算及统计（连接更新或删除时调用）
+     * @param connectionId 连接ID
+     */
+    public void reset(Long connectionId) {
+        if (connectionId != null) {
+            budgets.remove(connectionId);
+        }
+    }
+
+    /**
+     * 获取各连接的重试统计
+     * @return 连接ID -> 统计（重试次数、重试后成功次数、次数耗尽次数、预算不足次数、剩余令牌）
+     */
+    public Map<Long, Map<String, Object>> getStats() {
+        Map<Long, Map<String, Object>> stats = new HashMap<>();
+        budgets.forEach((id, budget) -> {
+            Map<String, Object> info = new HashMap<>();
+            info.put("retries", budget.retries.sum());
+            info.put("recovered", budget.recovered.sum());
+            info.put("exhausted", budget.exhausted.sum());
+            info.put("budgetRejected", budget.budgetRejected.sum());
+            info.put("tokens", budget.currentTokens());
+            info.put("maxTokens", maxTokens);
+            stats.put(id, info);
+        });
+        return stats;
+    }
+
+    private RetryBudget budgetOf(Long connectionId) {
+        return budgets.computeIfAbsent(connectionId, id -> new RetryBudget(maxTokens, tokenRatio));
+    }
+
+    /**
+     * 单个连接的重试预算
+     */
+    private static class RetryBudget {
+
+        private final double maxTokens;
+        private final double tokenRatio;
+        private double tokens;
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder recovered = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder budgetRejected = new LongAdder();
+
+        RetryBudget(double maxTokens, double tokenRatio) {
+            this.maxTokens = maxTokens;
+            this.tokenRatio = tokenRatio;
+            this.tokens = maxTokens;
+        }
+
+        /**
+         * 扣减一个令牌
+         * @return 扣减后是否仍允许重试
+         */
+        synchronized boolean onTransientFailure() {
+            tokens = Math.max(0, tokens - 1);
+            return tokens > maxTokens / 2;
+        }
+
+        synchronized void onSuccess() {
+            tokens = Math.min(maxTokens, tokens + tokenRatio);
+        }
+
+        synchronized double currentTokens() {
+            return tokens;
+        }
+    }
+}
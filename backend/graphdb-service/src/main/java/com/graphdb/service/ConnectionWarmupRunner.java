@@ -0,0 +1,171 @@
+package com.graphdb.service;
+
+import com.graphdb.core.interfaces.GraphAdapter;
+import com.graphdb.core.model.ConnectionConfig;
+import com.graphdb.storage.entity.ConnectionEntity;
+import com.graphdb.storage.repository.ConnectionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 连接预热
+ * 应用启动时并行打开所有正常状态（status=1）连接的连接池并预取图schema，
+ * 预热在ApplicationRunner中同步执行，完成或达到截止时间后应用才进入就绪状态
+ */
+@Slf4j
+@Component
+public class ConnectionWarmupRunner implements ApplicationRunner {
+
+    /**
+     * 连接状态：正常
+     */
+    private static final int STATUS_NORMAL = 1;
+
+    @Autowired
+    private ConnectionMapper connectionMapper;
+
+    @Autowired
+    private GraphService graphService;
+
+    @Value("${graphdb.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${graphdb.warmup.parallelism:4}")
+    private int parallelism;
+
+    @Value("${graphdb.warmup.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    /**
+     * 连接ID -> 预热结果
+     */
+    private final Map<Long, Map<String, Object>> results = new ConcurrentHashMap<>();
+
+    private volatile String state = "PENDING";
+    private volatile long totalTimeMs;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            state = "DISABLED";
+            return;
+        }
+        List<ConnectionEntity> connections = connectionMapper.selectByStatus(STATUS_NORMAL);
+        if (connections.isEmpty()) {
+            state = "COMPLETED";
+            return;
+        }
+
+        state = "RUNNING";
+        long start = System.currentTimeMillis();
+        log.info("开始预热连接: count={}, parallelism={}, timeout={}s", connections.size(), parallelism, timeoutSeconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(parallelism, connections.size())), new WarmupThreadFactory());
+        for (ConnectionEntity connection : connections) {
+            Map<String, Object> result = Collections.synchronizedMap(new LinkedHashMap<>());
+            result.put("connectionId", connection.getId());
+            result.put("name", connection.getName());
+            result.put("type", connection.getType());
+            result.put("status", "PENDING");
+            results.put(connection.getId(), result);
+            executor.submit(() -> warmUp(connection.getId(), result));
+        }
+        executor.shutdown();
+
+        boolean finished;
+        try {
+            finished = executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finished = false;
+        }
+        if (!finished) {
+            executor.shutdownNow();
+        }
+
+        totalTimeMs = System.currentTimeMillis() - start;
+        state = finished ? "COMPLETED" : "TIMEOUT";
+        log.info("连接预热结束: state={}, totalTimeMs={}", state, totalTimeMs);
+    }
+
+    /**
+     * 预热单个连接：打开连接池并预取各图的schema
+     */
+    private void warmUp(Long connectionId, Map<String, Object> result) {
+        long start = System.currentTimeMillis();
+        result.put("status", "RUNNING");
+        try {
+            ResolvedConnection conn = graphService.resolveConnection(connectionId);
+            long connectedAt = System.currentTimeMillis();
+            result.put("connectTimeMs", connectedAt - start);
+
+            GraphAdapter adapter = conn.getAdapter();
+            ConnectionConfig config = conn.getConfig();
+            List<String> graphs = adapter.getGraphs(config);
+            List<String> warmedGraphs = new ArrayList<>();
+            for (String graphName : graphs) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                adapter.getGraphSchema(config, graphName);
+                warmedGraphs.add(graphName);
+            }
+            result.put("schemaTimeMs", System.currentTimeMillis() - connectedAt);
+            result.put("graphs", warmedGraphs);
+            result.put("status", "SUCCESS");
+        } catch (Exception e) {
+            result.put("status", "FAILED");
+            result.put("error", e.getMessage());
+            log.warn("连接预热失败: connectionId={}, error={}", connectionId, e.getMessage());
+        } finally {
+            result.put("totalTimeMs", System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 获取预热报告
+     * @return 预热状态及各连接的耗时
+     */
+    public Map<String, Object> getReport() {
+        Map<String, Object> report = new HashMap<>();
+        report.put("state", state);
+        report.put("totalTimeMs", totalTimeMs);
+        List<Map<String, Object>> connections = new ArrayList<>();
+        for (Map<String, Object> result : results.values()) {
+            synchronized (result) {
+                connections.add(new LinkedHashMap<>(result));
+            }
+        }
+        report.put("connections", connections);
+        return report;
+    }
+
+    private static class WarmupThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "connection-warmup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,33 +1,48 @@
 package com.graphdb.service;
 
+import com.graphdb.core.interfaces.BatchDataHandler;
 import com.graphdb.core.interfaces.GraphAdapter;
 import com.graphdb.core.interfaces.DataHandler;
 import com.graphdb.core.constant.DatabaseTypeEnum;
 import com.graphdb.core.constant.GraphSourceEnum;
 import com.graphdb.core.model.ConnectionConfig;
+import com.graphdb.core.model.CursorPage;
 import com.graphdb.core.model.GraphSchema;
 import com.graphdb.core.model.LabelType;
 import com.graphdb.core.model.Vertex;
 import com.graphdb.core.model.Edge;
+import com.graphdb.core.model.GraphElement;
+import com.graphdb.core.model.GraphMutation;
+import com.graphdb.core.model.GraphQueryResult;
 import com.graphdb.core.model.QueryCondition;
+import com.graphdb.core.model.QueryContext;
 import com.graphdb.core.model.CsvImportConfig;
 import com.graphdb.core.exception.CoreException;
+import com.graphdb.core.util.CursorCodec;
 import com.graphdb.api.service.ConnectionService;
 import com.graphdb.api.dto.ConnectionConfigDTO;
 import com.graphdb.storage.repository.GraphInstanceMapper;
 import com.graphdb.storage.entity.GraphInstanceEntity;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.List;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * 图服务
  * 负责图管理的业务逻辑
  */
+@Slf4j
 @Service
 public class GraphService {
     
@@ -39,6 +54,24 @@ public class GraphService {
     @Autowired
     private GraphInstanceMapper graphInstanceMapper;
     
+    @Autowired
+    private ConnectionAdapterRegistry adapterRegistry;
+    
+    @Autowired
+    private ResolvedConnectionCache connectionCache;
+    
+    @Autowired
+    private ConnectionCircuitBreaker circuitBreaker;
+    
+    @Autowired
+    private ConnectionBulkhead bulkhead;
+    
+    @Autowired
+    private ConnectionRetryPolicy retryPolicy;
+    
+    @Autowired
+    private MutationBatcher mutationBatcher;
+    
     /**
      * 自动注入所有适配器
      */
@@ -61,6 +94,218 @@ public class GraphService {
         return adapterMap.get(databaseType);
     }
     
+    /**
+     * 解析连接：优先从缓存获取连接配置及其专属适配器，未命中时查询元数据库
+     * @param connectionId 连接ID
+     * @return 已解析连接
+     */
+    public ResolvedConnection resolveConnection(Long connectionId) {
+        return connectionCache.get(connectionId, this::loadConnection);
+    }
+    
+    /**
+     * 从元数据库加载连接配置并获取连接专属的适配器实例
+     */
+    private ResolvedConnection loadConnection(Long connectionId) {
+        ConnectionConfigDTO dto = connectionService.getById(connectionId);
+        ConnectionConfig config = convertDTOToModel(dto);
+        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
+        try {
+            GraphAdapter adapter = adapterRegistry.getAdapter(config);
+            return new ResolvedConnection(config, type, adapter);
+        } catch (CoreException e) {
+            throw new RuntimeException("获取连接适配器失败: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 在连接上执行非幂等的适配器操作，失败时不重试
+     */
+    private <T> T execute(Long connectionId, String errorMessage, ConnectionCallback<T> callback) {
+        return execute(connectionId, errorMessage, false, callback);
+    }
+    
+    /**
+     * 在连接上执行幂等的适配器操作（读取、schema读取、按uid更新），瞬时故障时自动重试
+     */
+    private <T> T executeIdempotent(Long connectionId, String errorMessage, ConnectionCallback<T> callback) {
+        return execute(connectionId, errorMessage, true, callback);
+    }
+    
+    /**
+     * 在连接上执行适配器操作，统一处理适配器异常；
+     * 连接熔断时直接失败，后端不可用类异常计入熔断统计；
+     * 调用受连接舱壁限制，并发已满时排队等待，队列满或等待超时则拒绝；
+     * 幂等操作遇到瞬时故障时按重试策略退避后重试，重试期间保持舱壁许可
+     * @param connectionId 连接ID
+     * @param errorMessage 失败时的错误信息前缀
+     * @param idempotent 操作是否幂等（可安全重试）
+     * @param callback 适配器操作
+     * @return 操作结果
+     */
+    private <T> T execute(Long connectionId, String errorMessage, boolean idempotent,
+                          ConnectionCallback<T> callback) {
+        ResolvedConnection conn = resolveForExecution(connectionId);
+        ConnectionBulkhead.Permit permit = bulkhead.acquire(conn.getConfig());
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    T result = callback.apply(conn);
+                    circuitBreaker.recordSuccess(connectionId);
+                    retryPolicy.recordSuccess(connectionId, attempt);
+                    return result;
+                } catch (RuntimeException e) {
+                    if (!idempotent || !retryPolicy.shouldRetry(connectionId, attempt,
+                            conn.getAdapter().isTransientError(e))) {
+                        throw handleFailure(connectionId, conn, errorMessage, e);
+                    }
+                    long backoff = retryPolicy.backoffMs(attempt);
+                    log.warn(errorMessage + "，{}ms后第{}次重试: connectionId={}", backoff, attempt, connectionId, e);
+                    try {
+                        Thread.sleep(backoff);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw handleFailure(connectionId, conn, errorMessage, e);
+                    }
+                }
+            }
+        } finally {
+            permit.close();
+        }
+    }
+    
+    /**
+     * 异步执行适配器操作，异常处理、熔断统计及重试与execute一致；
+     * 返回的future在后端完成时完成，调用线程不等待，重试在退避时间后由延迟执行器发起；
+     * 舱壁并发已满时立即拒绝而不是像execute那样等待，避免在请求线程上阻塞，调用方可据此稍后重试；许可在最终完成时释放
+     * @param connectionId 连接ID
+     * @param errorMessage 失败时的错误信息前缀
+     * @param idempotent 操作是否幂等（可安全重试）
+     * @param callback 异步适配器操作
+     * @return 操作结果
+     */
+    private <T> CompletableFuture<T> executeAsync(Long connectionId, String errorMessage, boolean idempotent,
+                                                  AsyncConnectionCallback<T> callback) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        ResolvedConnection conn;
+        ConnectionBulkhead.Permit permit;
+        try {
+            conn = resolveForExecution(connectionId);
+            permit = bulkhead.tryAcquire(conn.getConfig());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        future.whenComplete((result, error) -> permit.close());
+        attemptAsync(connectionId, conn, errorMessage, idempotent, callback, 1, future);
+        return future;
+    }
+    
+    /**
+     * 执行一次异步调用，失败时根据重试策略调度下一次调用或以转换后的异常完成future
+     */
+    private <T> void attemptAsync(Long connectionId, ResolvedConnection conn, String errorMessage, boolean idempotent,
+                                  AsyncConnectionCallback<T> callback, int attempt, CompletableFuture<T> future) {
+        CompletionStage<T> stage;
+        try {
+            stage = callback.apply(conn);
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        stage.whenComplete((result, error) -> {
+            if (error == null) {
+                circuitBreaker.recordSuccess(connectionId);
+                retryPolicy.recordSuccess(connectionId, attempt);
+                future.complete(result);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (idempotent && retryPolicy.shouldRetry(connectionId, attempt, conn.getAdapter().isTransientError(cause))) {
+                long backoff = retryPolicy.backoffMs(attempt);
+                log.warn(errorMessage + "，{}ms后第{}次重试: connectionId={}", backoff, attempt, connectionId, cause);
+                CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS).execute(() ->
+                        attemptAsync(connectionId, conn, errorMessage, true, callback, attempt + 1, future));
+                return;
+            }
+            if (cause instanceof RuntimeException) {
+                future.completeExceptionally(handleFailure(connectionId, conn, errorMessage, (RuntimeException) cause));
+            } else {
+                circuitBreaker.recordFailure(connectionId);
+                future.completeExceptionally(new RuntimeException(errorMessage + ": " + cause.getMessage(), cause));
+            }
+        });
+    }
+    
+    /**
+     * 检查熔断状态并解析连接，建连失败计入熔断统计
+     */
+    private ResolvedConnection resolveForExecution(Long connectionId) {
+        circuitBreaker.acquirePermission(connectionId);
+        try {
+            return resolveConnection(connectionId);
+        } catch (RuntimeException e) {
+            // 适配器建连失败视为后端不可用，其他错误（如连接不存在）不影响熔断
+            if (e.getCause() instanceof CoreException) {
+                circuitBreaker.recordFailure(connectionId);
+            } else {
+                circuitBreaker.recordSuccess(connectionId);
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * 记录失败并转换异常：后端不可用类异常计入熔断，适配器异常包装为带操作前缀的RuntimeException
+     */
+    private RuntimeException handleFailure(Long connectionId, ResolvedConnection conn,
+                                           String errorMessage, RuntimeException e) {
+        if (conn.getAdapter().isUnavailableError(e)) {
+            circuitBreaker.recordFailure(connectionId);
+        } else {
+            circuitBreaker.recordSuccess(connectionId);
+        }
+        if (e instanceof CoreException) {
+            return new RuntimeException(errorMessage + ": " + e.getMessage(), e);
+        }
+        return e;
+    }
+    
+    /**
+     * 探测连接健康状态，结果同时用于驱动熔断器（不受熔断限制）
+     * @param connectionId 连接ID
+     * @return 后端是否可用
+     */
+    public boolean probeConnection(Long connectionId) {
+        boolean healthy;
+        try {
+            healthy = resolveConnection(connectionId).getAdapter().ping();
+        } catch (Exception e) {
+            healthy = false;
+        }
+        if (healthy) {
+            circuitBreaker.recordSuccess(connectionId);
+        } else {
+            circuitBreaker.recordFailure(connectionId);
+        }
+        return healthy;
+    }
+    
+    /**
+     * 连接上的适配器操作
+     */
+    @FunctionalInterface
+    private interface ConnectionCallback<T> {
+        T apply(ResolvedConnection conn);
+    }
+    
+    /**
+     * 连接上的异步适配器操作
+     */
+    @FunctionalInterface
+    private interface AsyncConnectionCallback<T> {
+        CompletionStage<T> apply(ResolvedConnection conn);
+    }
+    
     /**
      * 测试适配器连接
      * @param databaseType 数据库类型
@@ -102,66 +347,30 @@ public class GraphService {
     
     
     public List<String> getGraphs(Long connectionId) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            return adapter.getGraphs(config);
-        } catch (CoreException e) {
-            throw new RuntimeException("获取图列表失败: " + e.getMessage(), e);
-        }
+        return executeIdempotent(connectionId, "获取图列表失败",
+                conn -> conn.getAdapter().getGraphs(conn.getConfig()));
     }
     
     
     public GraphSchema getGraphSchema(Long connectionId, String graphName) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            return adapter.getGraphSchema(config, graphName);
-        } catch (CoreException e) {
-            throw new RuntimeException("获取图schema失败: " + e.getMessage(), e);
-        }
+        return executeIdempotent(connectionId, "获取图schema失败",
+                conn -> conn.getAdapter().getGraphSchema(conn.getConfig(), graphName));
     }
     
     
     public void createGraph(Long connectionId, String graphName) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            adapter.createGraph(config, graphName);
-        } catch (CoreException e) {
-            throw new RuntimeException("创建图失败: " + e.getMessage(), e);
-        }
+        execute(connectionId, "创建图失败", conn -> {
+            conn.getAdapter().createGraph(conn.getConfig(), graphName);
+            return null;
+        });
     }
     
     
     public void deleteGraph(Long connectionId, String graphName) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            adapter.deleteGraph(config, graphName);
-        } catch (CoreException e) {
-            throw new RuntimeException("删除图失败: " + e.getMessage(), e);
-        }
+        execute(connectionId, "删除图失败", conn -> {
+            conn.getAdapter().deleteGraph(conn.getConfig(), graphName);
+            return null;
+        });
     }
     
     private ConnectionConfig convertDTOToModel(ConnectionConfigDTO dto) {
@@ -187,313 +396,433 @@ public class GraphService {
     
     
     public List<LabelType> getVertexTypes(Long connectionId, String graphName) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            return adapter.getVertexTypes(config, graphName);
-        } catch (CoreException e) {
-            throw new RuntimeException("获取点类型列表失败: " + e.getMessage(), e);
-        }
+        return executeIdempotent(connectionId, "获取点类型列表失败",
+                conn -> conn.getAdapter().getVertexTypes(conn.getConfig(), graphName));
     }
     
     
     public List<LabelType> getEdgeTypes(Long connectionId, String graphName) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            return adapter.getEdgeTypes(config, graphName);
-        } catch (CoreException e) {
-            throw new RuntimeException("获取边类型列表失败: " + e.getMessage(), e);
-        }
+        return executeIdempotent(connectionId, "获取边类型列表失败",
+                conn -> conn.getAdapter().getEdgeTypes(conn.getConfig(), graphName));
     }
     
     
     public void createVertexType(Long connectionId, String graphName, LabelType labelType) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            adapter.createVertexType(config, graphName, labelType);
-        } catch (CoreException e) {
-            throw new RuntimeException("创建点类型失败: " + e.getMessage(), e);
-        }
+        execute(connectionId, "创建点类型失败", conn -> {
+            conn.getAdapter().createVertexType(conn.getConfig(), graphName, labelType);
+            return null;
+        });
     }
     
     
     public void deleteVertexType(Long connectionId, String graphName, String labelName) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            adapter.deleteVertexType(config, graphName, labelName);
-        } catch (CoreException e) {
-            throw new RuntimeException("删除点类型失败: " + e.getMessage(), e);
-        }
+        execute(connectionId, "删除点类型失败", conn -> {
+            conn.getAdapter().deleteVertexType(conn.getConfig(), graphName, labelName);
+            return null;
+        });
     }
     
     
     public void createEdgeType(Long connectionId, String graphName, LabelType labelType) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            adapter.createEdgeType(config, graphName, labelType);
-        } catch (CoreException e) {
-            throw new RuntimeException("创建边类型失败: " + e.getMessage(), e);
-        }
+        execute(connectionId, "创建边类型失败", conn -> {
+            conn.getAdapter().createEdgeType(conn.getConfig(), graphName, labelType);
+            return null;
+        });
     }
     
     
     public void deleteEdgeType(Long connectionId, String graphName, String labelName) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            adapter.deleteEdgeType(config, graphName, labelName);
-        } catch (CoreException e) {
-            throw new RuntimeException("删除边类型失败: " + e.getMessage(), e);
-        }
+        execute(connectionId, "删除边类型失败", conn -> {
+            conn.getAdapter().deleteEdgeType(conn.getConfig(), graphName, labelName);
+            return null;
+        });
     }
     
     // ========== 数据操作方法实现 ==========
     
     
     public Vertex createVertex(Long connectionId, String graphName, String label, Map<String, Object> properties) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
+        if (isBatchingEnabled(connectionId)) {
+            return convertMapToVertex(submitMutation(connectionId, graphName, GraphMutation.createVertex(label, properties)));
         }
-        try {
-            // 检查适配器是否实现了DataHandler接口
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
-            }
-            DataHandler dataHandler = (DataHandler) adapter;
-            Map<String, Object> vertexMap = dataHandler.createVertex(graphName, label, properties);
+        return execute(connectionId, "创建节点失败", conn -> {
+            Map<String, Object> vertexMap = conn.getDataHandler().createVertex(graphName, label, properties);
             return convertMapToVertex(vertexMap);
-        } catch (CoreException e) {
-            throw new RuntimeException("创建节点失败: " + e.getMessage(), e);
-        }
+        });
     }
     
     
     public List<Vertex> queryVertices(Long connectionId, String graphName, QueryCondition condition) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
-            }
-            DataHandler dataHandler = (DataHandler) adapter;
-            // 目前只支持标签过滤，后续可以扩展属性过滤
-            String label = condition != null ? condition.getLabel() : null;
-            List<Map<String, Object>> vertexMaps = dataHandler.queryVertices(graphName, label);
+        return executeIdempotent(connectionId, "查询节点失败", conn -> {
+            // 标签、属性过滤、排序及分页下推到数据库，只取当前页
+            List<Map<String, Object>> vertexMaps = conn.getDataHandler().queryVertices(graphName, condition);
             return vertexMaps.stream()
                     .map(this::convertMapToVertex)
                     .toList();
-        } catch (CoreException e) {
-            throw new RuntimeException("查询节点失败: " + e.getMessage(), e);
-        }
+        });
+    }
+    
+    
+    /**
+     * 游标分页查询节点，每页代价与翻页深度无关
+     * @param cursor 上一页返回的nextCursor，为空时从第一页开始
+     * @return 当前页节点及下一页游标
+     */
+    public CursorPage<Vertex> scrollVertices(Long connectionId, String graphName, QueryCondition condition, String cursor) {
+        return executeIdempotent(connectionId, "查询节点失败", conn -> {
+            QueryCondition page = condition != null ? condition : new QueryCondition();
+            page.setAfterKey(CursorCodec.decode(cursor));
+            CursorPage<Map<String, Object>> result = conn.getDataHandler().scrollVertices(graphName, page);
+            return new CursorPage<>(result.getItems().stream().map(this::convertMapToVertex).toList(),
+                    CursorCodec.encode(result.getNextCursor()));
+        });
+    }
+    
+    
+    /**
+     * 按uid获取单个节点，已知标签时按标签+uid走索引定位
+     * @return 节点，不存在时返回null
+     */
+    public Vertex getVertex(Long connectionId, String graphName, String label, String uid) {
+        return executeIdempotent(connectionId, "获取节点失败",
+                conn -> convertMapToVertex(conn.getDataHandler().getVertex(graphName, label, uid)));
     }
     
     
     public Vertex updateVertex(Long connectionId, String graphName, String uid, Map<String, Object> properties) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
-            }
-            DataHandler dataHandler = (DataHandler) adapter;
-            Map<String, Object> vertexMap = dataHandler.updateVertex(graphName, uid, properties);
+        return updateVertex(connectionId, graphName, null, uid, properties);
+    }
+    
+    /**
+     * 更新节点，已知标签时按标签+uid走索引定位
+     */
+    public Vertex updateVertex(Long connectionId, String graphName, String label, String uid,
+                               Map<String, Object> properties) {
+        if (isBatchingEnabled(connectionId)) {
+            return convertMapToVertex(submitMutation(connectionId, graphName,
+                    GraphMutation.update(GraphMutation.Type.UPDATE_VERTEX, label, uid, properties)));
+        }
+        return executeIdempotent(connectionId, "更新节点失败", conn -> {
+            Map<String, Object> vertexMap = conn.getDataHandler().updateVertex(graphName, label, uid, properties);
             return convertMapToVertex(vertexMap);
-        } catch (CoreException e) {
-            throw new RuntimeException("更新节点失败: " + e.getMessage(), e);
-        }
+        });
     }
     
     
     public void deleteVertex(Long connectionId, String graphName, String uid) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
-            }
-            DataHandler dataHandler = (DataHandler) adapter;
-            dataHandler.deleteVertex(graphName, uid);
-        } catch (CoreException e) {
-            throw new RuntimeException("删除节点失败: " + e.getMessage(), e);
+        deleteVertex(connectionId, graphName, null, uid);
+    }
+    
+    /**
+     * 删除节点，已知标签时按标签+uid走索引定位
+     */
+    public void deleteVertex(Long connectionId, String graphName, String label, String uid) {
+        if (isBatchingEnabled(connectionId)) {
+            submitMutation(connectionId, graphName, GraphMutation.delete(GraphMutation.Type.DELETE_VERTEX, label, uid));
+            return;
         }
+        execute(connectionId, "删除节点失败", conn -> {
+            conn.getDataHandler().deleteVertex(graphName, label, uid);
+            return null;
+        });
     }
     
     
     public Edge createEdge(Long connectionId, String graphName, String label, 
                           String sourceUid, String targetUid, Map<String, Object> properties) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
-            }
-            DataHandler dataHandler = (DataHandler) adapter;
-            Map<String, Object> edgeMap = dataHandler.createEdge(graphName, label, sourceUid, targetUid, properties);
+        return createEdge(connectionId, graphName, label, null, sourceUid, null, targetUid, properties);
+    }
+    
+    /**
+     * 创建边，已知两端节点标签时按标签+uid走索引定位两端节点
+     */
+    public Edge createEdge(Long connectionId, String graphName, String label,
+                           String sourceLabel, String sourceUid, String targetLabel, String targetUid,
+                           Map<String, Object> properties) {
+        if (isBatchingEnabled(connectionId)) {
+            return convertMapToEdge(submitMutation(connectionId, graphName,
+                    GraphMutation.createEdge(label, sourceLabel, sourceUid, targetLabel, targetUid, properties)));
+        }
+        return execute(connectionId, "创建边失败", conn -> {
+            Map<String, Object> edgeMap = conn.getDataHandler().createEdge(graphName, label,
+                    sourceLabel, sourceUid, targetLabel, targetUid, properties);
             return convertMapToEdge(edgeMap);
-        } catch (CoreException e) {
-            throw new RuntimeException("创建边失败: " + e.getMessage(), e);
-        }
+        });
     }
     
     
     public List<Edge> queryEdges(Long connectionId, String graphName, QueryCondition condition) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
-            }
-            DataHandler dataHandler = (DataHandler) adapter;
-            String label = condition != null ? condition.getLabel() : null;
-            List<Map<String, Object>> edgeMaps = dataHandler.queryEdges(graphName, label);
+        return executeIdempotent(connectionId, "查询边失败", conn -> {
+            List<Map<String, Object>> edgeMaps = conn.getDataHandler().queryEdges(graphName, condition);
             return edgeMaps.stream()
                     .map(this::convertMapToEdge)
                     .toList();
-        } catch (CoreException e) {
-            throw new RuntimeException("查询边失败: " + e.getMessage(), e);
-        }
+        });
+    }
+    
+    
+    /**
+     * 游标分页查询边，每页代价与翻页深度无关
+     * @param cursor 上一页返回的nextCursor，为空时从第一页开始
+     * @return 当前页边及下一页游标
+     */
+    public CursorPage<Edge> scrollEdges(Long connectionId, String graphName, QueryCondition condition, String cursor) {
+        return executeIdempotent(connectionId, "查询边失败", conn -> {
+            QueryCondition page = condition != null ? condition : new QueryCondition();
+            page.setAfterKey(CursorCodec.decode(cursor));
+            CursorPage<Map<String, Object>> result = conn.getDataHandler().scrollEdges(graphName, page);
+            return new CursorPage<>(result.getItems().stream().map(this::convertMapToEdge).toList(),
+                    CursorCodec.encode(result.getNextCursor()));
+        });
+    }
+    
+    
+    /**
+     * 流式查询全部匹配的节点，元素在消费时才从数据库读取并转换，不在内存中汇总
+     * 舱壁许可与重试只覆盖打开流的过程；返回的流持有数据库会话，使用方必须关闭
+     */
+    public Stream<Vertex> streamVertices(Long connectionId, String graphName, QueryCondition condition) {
+        return executeIdempotent(connectionId, "查询节点失败",
+                conn -> conn.getDataHandler().streamVertices(graphName, condition))
+                .map(this::convertMapToVertex);
+    }
+    
+    /**
+     * 流式查询全部匹配的边，约定同streamVertices
+     */
+    public Stream<Edge> streamEdges(Long connectionId, String graphName, QueryCondition condition) {
+        return executeIdempotent(connectionId, "查询边失败",
+                conn -> conn.getDataHandler().streamEdges(graphName, condition))
+                .map(this::convertMapToEdge);
+    }
+    
+    
+    /**
+     * 异步查询节点
+     */
+    public CompletableFuture<List<Vertex>> queryVerticesAsync(Long connectionId, String graphName, QueryCondition condition) {
+        return executeAsync(connectionId, "查询节点失败", true,
+                conn -> conn.getAsyncDataHandler().queryVerticesAsync(graphName, condition)
+                        .thenApply(vertexMaps -> vertexMaps.stream().map(this::convertMapToVertex).toList()));
+    }
+    
+    /**
+     * 异步查询边
+     */
+    public CompletableFuture<List<Edge>> queryEdgesAsync(Long connectionId, String graphName, QueryCondition condition) {
+        return executeAsync(connectionId, "查询边失败", true,
+                conn -> conn.getAsyncDataHandler().queryEdgesAsync(graphName, condition)
+                        .thenApply(edgeMaps -> edgeMaps.stream().map(this::convertMapToEdge).toList()));
+    }
+    
+    
+    /**
+     * 按uid获取单条边，已知类型时按类型+uid走索引定位
+     * @return 边，不存在时返回null
+     */
+    public Edge getEdge(Long connectionId, String graphName, String label, String uid) {
+        return executeIdempotent(connectionId, "获取边失败",
+                conn -> convertMapToEdge(conn.getDataHandler().getEdge(graphName, label, uid)));
     }
     
     
     public Edge updateEdge(Long connectionId, String graphName, String uid, Map<String, Object> properties) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
-            }
-            DataHandler dataHandler = (DataHandler) adapter;
-            Map<String, Object> edgeMap = dataHandler.updateEdge(graphName, uid, properties);
+        return updateEdge(connectionId, graphName, null, uid, properties);
+    }
+    
+    /**
+     * 更新边，已知类型时按类型+uid走索引定位
+     */
+    public Edge updateEdge(Long connectionId, String graphName, String label, String uid,
+                           Map<String, Object> properties) {
+        if (isBatchingEnabled(connectionId)) {
+            return convertMapToEdge(submitMutation(connectionId, graphName,
+                    GraphMutation.update(GraphMutation.Type.UPDATE_EDGE, label, uid, properties)));
+        }
+        return executeIdempotent(connectionId, "更新边失败", conn -> {
+            Map<String, Object> edgeMap = conn.getDataHandler().updateEdge(graphName, label, uid, properties);
             return convertMapToEdge(edgeMap);
-        } catch (CoreException e) {
-            throw new RuntimeException("更新边失败: " + e.getMessage(), e);
-        }
+        });
     }
     
     
     public void deleteEdge(Long connectionId, String graphName, String uid) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
+        deleteEdge(connectionId, graphName, null, uid);
+    }
+    
+    /**
+     * 删除边，已知类型时按类型+uid走索引定位
+     */
+    public void deleteEdge(Long connectionId, String graphName, String label, String uid) {
+        if (isBatchingEnabled(connectionId)) {
+            submitMutation(connectionId, graphName, GraphMutation.delete(GraphMutation.Type.DELETE_EDGE, label, uid));
+            return;
+        }
+        execute(connectionId, "删除边失败", conn -> {
+            conn.getDataHandler().deleteEdge(graphName, label, uid);
+            return null;
+        });
+    }
+    
+    /**
+     * 批量执行写操作
+     * 适配器支持批量写入时在单个事务中执行，全部成功或全部回滚；否则逐条执行
+     * @param connectionId 连接ID
+     * @param graphName 图名称
+     * @param mutations 变更列表
+     * @return 与变更一一对应的结果
+     */
+    public List<Map<String, Object>> executeMutations(Long connectionId, String graphName, List<GraphMutation> mutations) {
+        return execute(connectionId, "批量写入失败", conn -> {
+            if (conn.getAdapter() instanceof BatchDataHandler) {
+                return ((BatchDataHandler) conn.getAdapter()).executeMutations(graphName, mutations);
+            }
+            DataHandler dataHandler = conn.getDataHandler();
+            List<Map<String, Object>> results = new ArrayList<>(mutations.size());
+            for (GraphMutation mutation : mutations) {
+                results.add(applyMutation(dataHandler, graphName, mutation));
+            }
+            return results;
+        });
+    }
+    
+    private Map<String, Object> applyMutation(DataHandler dataHandler, String graphName, GraphMutation mutation) {
+        switch (mutation.getType()) {
+            case CREATE_VERTEX:
+                return dataHandler.createVertex(graphName, mutation.getLabel(), mutation.getProperties());
+            case CREATE_EDGE:
+                return dataHandler.createEdge(graphName, mutation.getLabel(), mutation.getSourceLabel(),
+                        mutation.getSourceUid(), mutation.getTargetLabel(), mutation.getTargetUid(),
+                        mutation.getProperties());
+            case UPDATE_VERTEX:
+                return dataHandler.updateVertex(graphName, mutation.getLabel(), mutation.getUid(),
+                        mutation.getProperties());
+            case UPDATE_EDGE:
+                return dataHandler.updateEdge(graphName, mutation.getLabel(), mutation.getUid(),
+                        mutation.getProperties());
+            case DELETE_VERTEX:
+                dataHandler.deleteVertex(graphName, mutation.getLabel(), mutation.getUid());
+                return Map.of("uid", mutation.getUid());
+            case DELETE_EDGE:
+                dataHandler.deleteEdge(graphName, mutation.getLabel(), mutation.getUid());
+                return Map.of("uid", mutation.getUid());
+            default:
+                throw new RuntimeException("不支持的变更类型: " + mutation.getType());
+        }
+    }
+    
+    /**
+     * 单条写操作是否走写入合并：需开启合并窗口且适配器支持单事务批量写入
+     */
+    private boolean isBatchingEnabled(Long connectionId) {
+        if (!mutationBatcher.isEnabled()) {
+            return false;
         }
         try {
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
+            return resolveConnection(connectionId).getAdapter() instanceof BatchDataHandler;
+        } catch (RuntimeException e) {
+            // 解析失败时走普通路径，由execute统一处理异常及熔断统计
+            return false;
+        }
+    }
+    
+    /**
+     * 将单条写操作交给写入合并器，等待所在批次提交后返回结果
+     */
+    private Map<String, Object> submitMutation(Long connectionId, String graphName, GraphMutation mutation) {
+        try {
+            return mutationBatcher.submit(connectionId, graphName, mutation,
+                    batch -> executeMutations(connectionId, graphName, batch)).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
             }
-            DataHandler dataHandler = (DataHandler) adapter;
-            dataHandler.deleteEdge(graphName, uid);
-        } catch (CoreException e) {
-            throw new RuntimeException("删除边失败: " + e.getMessage(), e);
+            throw new RuntimeException("批量写入失败: " + cause.getMessage(), cause);
         }
     }
     
     
     public Object executeNativeQuery(Long connectionId, String graphName, 
                                     String queryLanguage, String queryStatement) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            return adapter.executeNativeQuery(config, graphName, queryLanguage, queryStatement);
-        } catch (CoreException e) {
-            throw new RuntimeException("执行原生查询失败: " + e.getMessage(), e);
+        return execute(connectionId, "执行原生查询失败",
+                conn -> conn.getAdapter().executeNativeQuery(conn.getConfig(), graphName, queryLanguage, queryStatement));
+    }
+    
+    /**
+     * 在查询上下文中执行原生查询
+     * 排队及建连耗费的时间计入截止时间，剩余时间作为查询超时传给适配器；超时或被取消时后端查询被终止
+     * @param queryLanguage 查询语言，为空时使用连接数据库类型的默认查询语言
+     * @param context 查询上下文（查询ID、截止时间及取消句柄）
+     * @return 查询结果，超时或取消时统计状态为TIMEOUT或CANCELLED
+     */
+    public GraphQueryResult executeNativeQuery(Long connectionId, String graphName, String queryLanguage,
+                                               String queryStatement, QueryContext context) {
+        long start = System.currentTimeMillis();
+        return execute(connectionId, "执行原生查询失败", conn -> {
+            if (context.isCancelled()) {
+                return GraphQueryResult.cancelled(System.currentTimeMillis() - start);
+            }
+            if (context.getRemainingMs() < 0) {
+                return GraphQueryResult.timeout(System.currentTimeMillis() - start);
+            }
+            String language = queryLanguage != null && !queryLanguage.isEmpty()
+                    ? queryLanguage : defaultQueryLanguage(conn.getDatabaseType());
+            GraphQueryResult result = conn.getAdapter().executeNativeQuery(
+                    conn.getConfig(), graphName, language, queryStatement, context);
+            if (result.getStatistics() != null && result.getStatistics().getExecutionTimeMs() == null) {
+                result.getStatistics().setExecutionTimeMs(System.currentTimeMillis() - start);
+            }
+            return result;
+        });
+    }
+    
+    /**
+     * 流式执行原生查询，节点和边在读取驱动结果时逐个返回
+     * 返回的流持有数据库会话，使用方必须关闭
+     * @param queryLanguage 查询语言，为空时使用连接数据库类型的默认查询语言
+     */
+    public Stream<GraphElement> streamNativeQuery(Long connectionId, String graphName,
+                                                  String queryLanguage, String queryStatement) {
+        return execute(connectionId, "执行原生查询失败", conn -> {
+            String language = queryLanguage != null && !queryLanguage.isEmpty()
+                    ? queryLanguage : defaultQueryLanguage(conn.getDatabaseType());
+            return conn.getAdapter().streamNativeQuery(conn.getConfig(), graphName, language, queryStatement);
+        });
+    }
+    
+    /**
+     * 数据库类型对应的默认查询语言
+     */
+    private String defaultQueryLanguage(DatabaseTypeEnum databaseType) {
+        switch (databaseType) {
+            case NEO4J:
+                return "Cypher";
+            case NEBULA:
+                return "nGQL";
+            case JANUS:
+                return "Gremlin";
+            default:
+                throw new RuntimeException("不支持的数据库类型: " + databaseType);
         }
     }
     
+    /**
+     * 异步执行原生查询
+     */
+    public CompletableFuture<Object> executeNativeQueryAsync(Long connectionId, String graphName,
+                                                             String queryLanguage, String queryStatement) {
+        return executeAsync(connectionId, "执行原生查询失败", false,
+                conn -> conn.getAsyncAdapter()
+                        .executeNativeQueryAsync(conn.getConfig(), graphName, queryLanguage, queryStatement)
+                        .thenApply(result -> (Object) result));
+    }
+    
     
     public String importFromCsv(Long connectionId, String graphName, 
                                CsvImportConfig config, java.io.InputStream csvStream) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig configModel = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(configModel.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
-            }
-            DataHandler dataHandler = (DataHandler) adapter;
-            return dataHandler.importFromCsv(graphName, config, csvStream);
-        } catch (CoreException e) {
-            throw new RuntimeException("CSV导入失败: " + e.getMessage(), e);
-        }
+        return execute(connectionId, "CSV导入失败",
+                conn -> conn.getDataHandler().importFromCsv(graphName, config, csvStream));
     }
     
     // ========== 辅助方法 ==========
@@ -566,52 +895,27 @@ public class GraphService {
      * 获取图详情
      */
     public Map<String, Object> getGraphDetail(Long connectionId, String graphName) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
+        return executeIdempotent(connectionId, "获取图详情失败", conn -> {
             // 目前返回基本图信息，后续可以扩展为包含更多详细信息
             Map<String, Object> detail = new HashMap<>();
             detail.put("name", graphName);
             detail.put("connectionId", connectionId);
-            detail.put("databaseType", config.getType());
+            detail.put("databaseType", conn.getConfig().getType());
             detail.put("vertexCount", 0); // 需要从适配器获取实际数据
             detail.put("edgeCount", 0);    // 需要从适配器获取实际数据
-            detail.put("schemaInfo", adapter.getGraphSchema(config, graphName));
+            detail.put("schemaInfo", conn.getAdapter().getGraphSchema(conn.getConfig(), graphName));
             return detail;
-        } catch (CoreException e) {
-            throw new RuntimeException("获取图详情失败: " + e.getMessage(), e);
-        }
+        });
     }
     
     /**
      * 批量删除边
      */
     public void batchDeleteEdges(Long connectionId, String graphName, List<String> uids) {
-        ConnectionConfigDTO dto = connectionService.getById(connectionId);
-        ConnectionConfig config = convertDTOToModel(dto);
-        DatabaseTypeEnum type = DatabaseTypeEnum.fromCode(config.getType());
-        GraphAdapter adapter = getAdapter(type);
-        if (adapter == null) {
-            throw new RuntimeException("未找到对应数据库类型的适配器: " + type);
-        }
-        try {
-            if (!(adapter instanceof DataHandler)) {
-                throw new RuntimeException("适配器 " + type + " 未实现DataHandler接口");
-            }
-            DataHandler dataHandler = (DataHandler) adapter;
-            
-            // 批量删除边
-            for (String uid : uids) {
-                dataHandler.deleteEdge(graphName, uid);
-            }
-        } catch (CoreException e) {
-            throw new RuntimeException("批量删除边失败: " + e.getMessage(), e);
-        }
+        List<GraphMutation> mutations = uids.stream()
+                .map(uid -> GraphMutation.delete(GraphMutation.Type.DELETE_EDGE, null, uid))
+                .toList();
+        executeMutations(connectionId, graphName, mutations);
     }
     
     /**
@@ -0,0 +1,143 @@
+package com.graphdb.service;
+
+import com.graphdb.core.model.GraphMutation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 写入合并器
+ * 将同一连接、同一图在短时间窗口内到达的单条写操作合并为一批，在一个事务中提交，
+ * 减少高并发小写入时的事务提交次数。批次达到max-size时立即提交，否则在窗口结束时提交；
+ * 批次失败时该批内所有调用均失败。window-ms为0时不启用
+ */
+@Slf4j
+@Component
+public class MutationBatcher {
+
+    @Value("${graphdb.write-batch.window-ms:0}")
+    private long windowMs;
+
+    @Value("${graphdb.write-batch.max-size:200}")
+    private int maxSize;
+
+    @Value("${graphdb.write-batch.flush-threads:4}")
+    private int flushThreads;
+
+    /**
+     * 连接ID/图名称 -> 待提交批次
+     */
+    private final Map<String, Batch> pending = new HashMap<>();
+
+    private final AtomicInteger flushThreadCounter = new AtomicInteger();
+
+    private ScheduledExecutorService flushExecutor;
+
+    @PostConstruct
+    public void init() {
+        flushExecutor = Executors.newScheduledThreadPool(Math.max(1, flushThreads), runnable -> {
+            Thread thread = new Thread(runnable, "mutation-batch-" + flushThreadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 是否启用写入合并
+     */
+    public boolean isEnabled() {
+        return windowMs > 0;
+    }
+
+    /**
+     * 提交一个写操作，等待所在批次提交
+     * @param connectionId 连接ID
+     * @param graphName 图名称
+     * @param mutation 写操作
+     * @param flusher 批次提交函数，返回与变更一一对应的结果
+     * @return 该写操作的结果
+     */
+    public CompletableFuture<Map<String, Object>> submit(Long connectionId, String graphName, GraphMutation mutation,
+                                                         Function<List<GraphMutation>, List<Map<String, Object>>> flusher) {
+        String key = connectionId + "/" + graphName;
+        CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+        Batch full = null;
+        synchronized (pending) {
+            Batch batch = pending.get(key);
+            if (batch == null) {
+                batch = new Batch(flusher);
+                pending.put(key, batch);
+                Batch scheduled = batch;
+                flushExecutor.schedule(() -> flush(key, scheduled), windowMs, TimeUnit.MILLISECONDS);
+            }
+            batch.mutations.add(mutation);
+            batch.futures.add(future);
+            if (batch.mutations.size() >= maxSize) {
+                pending.remove(key);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            Batch batch = full;
+            flushExecutor.execute(() -> flush(key, batch));
+        }
+        return future;
+    }
+
+    /**
+     * 提交批次，窗口到期与达到上限可能同时触发，已提交的批次不会重复提交
+     */
+    private void flush(String key, Batch batch) {
+        synchronized (pending) {
+            if (batch.flushed) {
+                return;
+            }
+            batch.flushed = true;
+            if (pending.get(key) == batch) {
+                pending.remove(key);
+            }
+        }
+        try {
+            List<Map<String, Object>> results = batch.flusher.apply(batch.mutations);
+            for (int i = 0; i < batch.futures.size(); i++) {
+                batch.futures.get(i).complete(results.get(i));
+            }
+        } catch (Throwable e) {
+            log.warn("批量写入失败: key={}, size={}, error={}", key, batch.mutations.size(), e.getMessage());
+            batch.futures.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdownNow();
+    }
+
+    /**
+     * 待提交批次，mutations与futures一一对应
+     */
+    private static class Batch {
+
+        private final Function<List<GraphMutation>, List<Map<String, Object>>> flusher;
+        private final List<GraphMutation> mutations = new ArrayList<>();
+        private final List<CompletableFuture<Map<String, Object>>> futures = new ArrayList<>();
+        private boolean flushed;
+
+        Batch(Function<List<GraphMutation>, List<Map<String, Object>>> flusher) {
+            this.flusher = flusher;
+        }
+    }
+}
@@ -11,9 +11,22 @@ public interface NativeQueryService {
     
     /**
      * 执行原生查询
+     * @param queryId 查询ID，用于取消查询，为空时自动生成
+     * @param deadline 截止时间（毫秒时间戳），到期后取消后端查询并返回TIMEOUT状态
      */
-    Map<String, Object> executeQuery(Long connectionId, String graphName, 
-                                    String query, Integer timeout, Integer limit, Boolean explain);
+    Map<String, Object> executeQuery(Long connectionId, String graphName, String queryId,
+                                    String query, long deadline, Integer limit, Boolean explain);
+    
+    /**
+     * 列出连接上运行中的查询
+     */
+    List<Map<String, Object>> getRunningQueries(Long connectionId);
+    
+    /**
+     * 取消运行中的查询
+     * @return 是否找到并取消了该查询
+     */
+    boolean cancelQuery(Long connectionId, String queryId);
     
     /**
      * 获取查询执行计划
@@ -0,0 +1,69 @@
+package com.graphdb.service;
+
+import com.graphdb.core.constant.DatabaseTypeEnum;
+import com.graphdb.core.interfaces.AsyncDataHandler;
+import com.graphdb.core.interfaces.AsyncGraphAdapter;
+import com.graphdb.core.interfaces.DataHandler;
+import com.graphdb.core.interfaces.GraphAdapter;
+import com.graphdb.core.model.ConnectionConfig;
+import lombok.Getter;
+
+/**
+ * 已解析的连接
+ * 包含连接配置、数据库类型以及连接专属的适配器实例
+ */
+@Getter
+public class ResolvedConnection {
+
+    private final ConnectionConfig config;
+
+    private final DatabaseTypeEnum databaseType;
+
+    private final GraphAdapter adapter;
+
+    public ResolvedConnection(ConnectionConfig config, DatabaseTypeEnum databaseType, GraphAdapter adapter) {
+        this.config = config;
+        this.databaseType = databaseType;
+        this.adapter = adapter;
+    }
+
+    /**
+     * 获取数据处理器
+     * @return 适配器对应的DataHandler
+     */
+    public DataHandler getDataHandler() {
+        if (!(adapter instanceof DataHandler)) {
+            throw new RuntimeException("适配器 " + databaseType + " 未实现DataHandler接口");
+        }
+        return (DataHandler) adapter;
+    }
+
+    /**
+     * 获取异步适配器
+     * @return 适配器对应的AsyncGraphAdapter
+     */
+    public AsyncGraphAdapter getAsyncAdapter() {
+        if (!(adapter instanceof AsyncGraphAdapter)) {
+            throw new RuntimeException("适配器 " + databaseType + " 未实现AsyncGraphAdapter接口");
+        }
+        return (AsyncGraphAdapter) adapter;
+    }
+    
+    /**
+     * 获取异步数据处理器
+     * @return 适配器对应的AsyncDataHandler
+     */
+    public AsyncDataHandler getAsyncDataHandler() {
+        if (!(adapter instanceof AsyncDataHandler)) {
+            throw new RuntimeException("适配器 " + databaseType + " 未实现AsyncDataHandler接口");
+        }
+        return (AsyncDataHandler) adapter;
+    }
+    
+    /**
+     * 适配器是否仍然可用
+     */
+    public boolean isUsable() {
+        return adapter != null && adapter.isConnected();
+    }
+}
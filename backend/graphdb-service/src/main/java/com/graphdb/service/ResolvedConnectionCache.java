@@ -0,0 +1,133 @@
+package com.graphdb.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 已解析连接缓存
+ * 缓存连接ID对应的连接配置及适配器，避免每次请求都查询元数据库；
+ * 容量有上限并按TTL过期，连接新增、更新、删除时失效
+ */
+@Slf4j
+@Component
+public class ResolvedConnectionCache {
+
+    private final Map<Long, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 失效代数，加载期间发生失效时丢弃加载结果，防止写回旧配置
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Value("${graphdb.connection-cache.max-size:256}")
+    private int maxSize;
+
+    @Value("${graphdb.connection-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /**
+     * 获取已解析连接，未命中时通过loader加载并放入缓存
+     * @param connectionId 连接ID
+     * @param loader 加载函数
+     * @return 已解析连接
+     */
+    public ResolvedConnection get(Long connectionId, Function<Long, ResolvedConnection> loader) {
+        long now = System.currentTimeMillis();
+        CacheEntry entry = entries.get(connectionId);
+        if (entry != null && entry.expireAt > now && entry.value.isUsable()) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+
+        long loadGeneration = generation.get();
+        ResolvedConnection value = loader.apply(connectionId);
+        if (value != null && loadGeneration == generation.get()) {
+            entries.put(connectionId, new CacheEntry(value, now + ttlSeconds * 1000));
+            if (entries.size() > maxSize) {
+                evictOldest();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 使指定连接的缓存失效
+     * @param connectionId 连接ID
+     */
+    public void invalidate(Long connectionId) {
+        generation.incrementAndGet();
+        if (connectionId != null) {
+            entries.remove(connectionId);
+        }
+    }
+
+    /**
+     * 清空全部缓存
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * 获取缓存统计信息
+     * @return 统计信息（命中、未命中、淘汰次数等）
+     */
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("ttlSeconds", ttlSeconds);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    /**
+     * 淘汰最早过期的条目
+     */
+    private void evictOldest() {
+        while (entries.size() > maxSize) {
+            Long oldestKey = null;
+            long oldestExpireAt = Long.MAX_VALUE;
+            for (Map.Entry<Long, CacheEntry> e : entries.entrySet()) {
+                if (e.getValue().expireAt < oldestExpireAt) {
+                    oldestExpireAt = e.getValue().expireAt;
+                    oldestKey = e.getKey();
+                }
+            }
+            if (oldestKey == null || entries.remove(oldestKey) == null) {
+                return;
+            }
+            evictions.increment();
+        }
+    }
+
+    private static class CacheEntry {
+        private final ResolvedConnection value;
+        private final long expireAt;
+
+        CacheEntry(ResolvedConnection value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.graphdb.service;
+
+import com.graphdb.core.model.QueryContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 运行中查询登记表
+ * 每个执行中的原生查询登记一个查询ID及其上下文，用于列出运行中的查询及按ID取消
+ */
+@Slf4j
+@Component
+public class RunningQueryRegistry {
+
+    private final Map<String, RunningQuery> queries = new ConcurrentHashMap<>();
+
+    /**
+     * 登记查询
+     * @param queryId 查询ID，为空时自动生成
+     * @param connectionId 连接ID
+     * @param graphName 图名称
+     * @param statement 查询语句
+     * @param deadline 截止时间（毫秒时间戳）
+     * @return 查询上下文，查询结束后必须调用unregister
+     */
+    public QueryContext register(String queryId, Long connectionId, String graphName, String statement, long deadline) {
+        String id = queryId != null && !queryId.isEmpty() ? queryId : UUID.randomUUID().toString();
+        RunningQuery query = new RunningQuery(new QueryContext(id, deadline), connectionId, graphName, statement);
+        if (queries.putIfAbsent(id, query) != null) {
+            throw new RuntimeException("查询ID已存在: " + id);
+        }
+        return query.context;
+    }
+
+    /**
+     * 注销查询
+     * @param queryId 查询ID
+     */
+    public void unregister(String queryId) {
+        queries.remove(queryId);
+    }
+
+    /**
+     * 取消查询
+     * @param connectionId 连接ID
+     * @param queryId 查询ID
+     * @return 是否找到并取消了该查询
+     */
+    public boolean cancel(Long connectionId, String queryId) {
+        RunningQuery query = queries.get(queryId);
+        if (query == null || !query.connectionId.equals(connectionId)) {
+            return false;
+        }
+        log.info("取消查询: connectionId={}, queryId={}", connectionId, queryId);
+        query.context.cancel();
+        return true;
+    }
+
+    /**
+     * 列出连接上运行中的查询，按开始时间排序
+     * @param connectionId 连接ID
+     * @return 查询信息（查询ID、图名称、语句、开始时间、已运行时间、是否已取消）
+     */
+    public List<Map<String, Object>> list(Long connectionId) {
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> result = new ArrayList<>();
+        queries.values().stream()
+                .filter(query -> query.connectionId.equals(connectionId))
+                .sorted(Comparator.comparingLong(query -> query.startTime))
+                .forEach(query -> {
+                    Map<String, Object> info = new HashMap<>();
+                    info.put("queryId", query.context.getQueryId());
+                    info.put("connectionId", query.connectionId);
+                    info.put("graphName", query.graphName);
+                    info.put("query", query.statement);
+                    info.put("startTime", query.startTime);
+                    info.put("runningMs", now - query.startTime);
+                    info.put("deadline", query.context.getDeadline());
+                    info.put("cancelled", query.context.isCancelled());
+                    result.add(info);
+                });
+        return result;
+    }
+
+    private static class RunningQuery {
+
+        private final QueryContext context;
+        private final Long connectionId;
+        private final String graphName;
+        private final String statement;
+        private final long startTime = System.currentTimeMillis();
+
+        RunningQuery(QueryContext context, Long connectionId, String graphName, String statement) {
+            this.context = context;
+            this.connectionId = connectionId;
+            this.graphName = graphName;
+            this.statement = statement;
+        }
+    }
+}
@@ -69,4 +69,29 @@ public interface SystemService {
      * 获取数据库连接信息
      */
     Map<String, Object> getDatabaseInfo();
-}
\ No newline at end of file
+    
+    /**
+     * 获取连接解析缓存统计
+     */
+    Map<String, Object> getConnectionCacheStats();
+    
+    /**
+     * 获取启动时连接预热报告
+     */
+    Map<String, Object> getWarmupStatus();
+    
+    /**
+     * 获取连接健康探测及熔断状态
+     */
+    Map<String, Object> getConnectionHealth();
+    
+    /**
+     * 获取各连接舱壁的并发、排队及拒绝统计
+     */
+    Map<String, Object> getBulkheadStats();
+    
+    /**
+     * 获取各连接的瞬时故障重试统计
+     */
+    Map<String, Object> getRetryStats();
+}
@@ -1,10 +1,15 @@
 package com.graphdb.service.impl;
 
 import com.graphdb.core.model.GraphQueryResult;
+import com.graphdb.core.model.QueryContext;
+import com.graphdb.service.GraphService;
 import com.graphdb.service.NativeQueryService;
+import com.graphdb.service.RunningQueryRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,40 +20,52 @@ import java.util.Map;
 @Service
 public class NativeQueryServiceImpl implements NativeQueryService {
     
+    @Autowired
+    private GraphService graphService;
+    
+    @Autowired
+    private RunningQueryRegistry runningQueryRegistry;
+    
     @Override
-    public Map<String, Object> executeQuery(Long connectionId, String graphName, 
-                                           String query, Integer timeout, Integer limit, Boolean explain) {
-        log.info("执行原生查询: connectionId={}, graphName={}, query={}, timeout={}", 
-                connectionId, graphName, query, timeout);
+    public Map<String, Object> executeQuery(Long connectionId, String graphName, String queryId,
+                                           String query, long deadline, Integer limit, Boolean explain) {
+        QueryContext context = runningQueryRegistry.register(queryId, connectionId, graphName, query, deadline);
+        log.info("执行原生查询: connectionId={}, graphName={}, queryId={}, query={}, timeoutMs={}", 
+                connectionId, graphName, context.getQueryId(), query, deadline - System.currentTimeMillis());
         
-        // 实现查询逻辑
-        return Map.of(
-                "executionTimeMs", 234,
-                "resultCount", 85,
-                "columns", List.of("p", "r", "f"),
-                "rows", List.of(
-                        Map.of(
-                                "p", Map.of(
-                                        "uid", "v_001",
-                                        "tagName", "Person",
-                                        "properties", Map.of("name", "张三", "age", 30)
-                                ),
-                                "r", Map.of(
-                                        "uid", "e_001",
-                                        "edgeType", "KNOWS",
-                                        "sourceUid", "v_001",
-                                        "targetUid", "v_002",
-                                        "properties", Map.of("since", 2010)
-                                ),
-                                "f", Map.of(
-                                        "uid", "v_002",
-                                        "tagName", "Person",
-                                        "properties", Map.of("name", "李四", "age", 28)
-                                )
-                        )
-                ),
-                "explain", explain ? getQueryPlan() : null
-        );
+        GraphQueryResult queryResult;
+        try {
+            queryResult = graphService.executeNativeQuery(connectionId, graphName, null, query, context);
+        } finally {
+            runningQueryRegistry.unregister(context.getQueryId());
+        }
+        GraphQueryResult.QueryStatistics stats = queryResult.getStatistics();
+        if (GraphQueryResult.QueryStatistics.STATUS_TIMEOUT.equals(stats.getStatus())) {
+            log.warn("原生查询超时: connectionId={}, graphName={}, executionTimeMs={}", 
+                    connectionId, graphName, stats.getExecutionTimeMs());
+        }
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("queryId", context.getQueryId());
+        result.put("status", stats.getStatus());
+        result.put("errorMessage", stats.getErrorMessage());
+        result.put("executionTimeMs", stats.getExecutionTimeMs());
+        result.put("resultCount", queryResult.getTotalCount());
+        result.put("vertices", queryResult.getVertices());
+        result.put("edges", queryResult.getEdges());
+        result.put("truncated", Boolean.TRUE.equals(stats.getTruncated()));
+        result.put("explain", Boolean.TRUE.equals(explain) ? getQueryPlan() : null);
+        return result;
+    }
+    
+    @Override
+    public List<Map<String, Object>> getRunningQueries(Long connectionId) {
+        return runningQueryRegistry.list(connectionId);
+    }
+    
+    @Override
+    public boolean cancelQuery(Long connectionId, String queryId) {
+        return runningQueryRegistry.cancel(connectionId, queryId);
     }
     
     @Override
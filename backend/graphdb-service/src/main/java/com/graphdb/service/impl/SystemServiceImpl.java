@@ -1,9 +1,19 @@
 package com.graphdb.service.impl;
 
+import com.graphdb.core.model.PoolStatus;
+import com.graphdb.service.ConnectionBulkhead;
+import com.graphdb.service.ConnectionHealthMonitor;
+import com.graphdb.service.ConnectionPoolStatusCollector;
+import com.graphdb.service.ConnectionRetryPolicy;
+import com.graphdb.service.ConnectionWarmupRunner;
+import com.graphdb.service.ResolvedConnectionCache;
 import com.graphdb.service.SystemService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -13,6 +23,24 @@ import java.util.Map;
 @Service
 public class SystemServiceImpl implements SystemService {
     
+    @Autowired
+    private ResolvedConnectionCache connectionCache;
+    
+    @Autowired
+    private ConnectionWarmupRunner warmupRunner;
+    
+    @Autowired
+    private ConnectionHealthMonitor healthMonitor;
+    
+    @Autowired
+    private ConnectionPoolStatusCollector poolStatusCollector;
+    
+    @Autowired
+    private ConnectionBulkhead bulkhead;
+    
+    @Autowired
+    private ConnectionRetryPolicy retryPolicy;
+    
     @Override
     public Map<String, Object> getSystemHealth() {
         log.info("获取系统健康状态");
@@ -118,6 +146,10 @@ public class SystemServiceImpl implements SystemService {
     public Map<String, Object> clearCache(String cacheType) {
         log.info("清理缓存: cacheType={}", cacheType);
         
+        if (cacheType == null || "all".equals(cacheType) || "connection".equals(cacheType)) {
+            connectionCache.invalidateAll();
+        }
+        
         return Map.of(
                 "clearedCache", cacheType != null ? cacheType : "all",
                 "clearedSize", 1024 * 1024 * 50,
@@ -183,19 +215,30 @@ public class SystemServiceImpl implements SystemService {
     
     @Override
     public Map<String, Object> getConnectionPoolStatus() {
-        log.info("获取连接池状态");
+        Map<Long, PoolStatus> pools = poolStatusCollector.getSnapshot();
+        int active = 0;
+        int idle = 0;
+        int max = 0;
+        int waiting = 0;
+        long timeouts = 0;
+        for (PoolStatus pool : pools.values()) {
+            active += pool.getInUse() != null ? pool.getInUse() : 0;
+            idle += pool.getIdle() != null ? pool.getIdle() : 0;
+            max += pool.getMaxSize() != null ? pool.getMaxSize() : 0;
+            waiting += pool.getPending() != null ? pool.getPending() : 0;
+            timeouts += pool.getAcquisitionTimeouts() != null ? pool.getAcquisitionTimeouts() : 0;
+        }
         
-        return Map.of(
-                "activeConnections", 5,
-                "idleConnections", 15,
-                "maxConnections", 100,
-                "waitingRequests", 0,
-                "connectionUsage", 20.0,
-                "pools", Map.of(
-                        "neo4j", Map.of("active", 3, "idle", 7, "max", 50),
-                        "nebula", Map.of("active", 2, "idle", 8, "max", 50)
-                )
-        );
+        Map<String, Object> result = new HashMap<>();
+        result.put("activeConnections", active);
+        result.put("idleConnections", idle);
+        result.put("maxConnections", max);
+        result.put("waitingRequests", waiting);
+        result.put("acquisitionTimeouts", timeouts);
+        result.put("connectionUsage", max == 0 ? 0.0 : active * 100.0 / max);
+        result.put("pools", new ArrayList<>(pools.values()));
+        result.put("timestamp", poolStatusCollector.getSnapshotTime());
+        return result;
     }
     
     @Override
@@ -218,4 +261,38 @@ public class SystemServiceImpl implements SystemService {
                 "indexSize", "500MB"
         );
     }
-}
\ No newline at end of file
+    
+    @Override
+    public Map<String, Object> getConnectionCacheStats() {
+        return connectionCache.getStats();
+    }
+    
+    @Override
+    public Map<String, Object> getWarmupStatus() {
+        return warmupRunner.getReport();
+    }
+    
+    @Override
+    public Map<String, Object> getConnectionHealth() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("connections", healthMonitor.getHealthSnapshot());
+        result.put("timestamp", System.currentTimeMillis());
+        return result;
+    }
+    
+    @Override
+    public Map<String, Object> getBulkheadStats() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("connections", bulkhead.getStats());
+        result.put("timestamp", System.currentTimeMillis());
+        return result;
+    }
+    
+    @Override
+    public Map<String, Object> getRetryStats() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("connections", retryPolicy.getStats());
+        result.put("timestamp", System.currentTimeMillis());
+        return result;
+    }
+}
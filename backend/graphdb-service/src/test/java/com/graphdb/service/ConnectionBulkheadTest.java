@@ -0,0 +1,101 @@
+package com.graphdb.service;
+
+import com.graphdb.core.model.ConnectionConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionBulkheadTest {
+
+    private ConnectionBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new ConnectionBulkhead();
+        ReflectionTestUtils.setField(bulkhead, "defaultMaxConcurrent", 2);
+        ReflectionTestUtils.setField(bulkhead, "defaultMaxWaiting", 1);
+        ReflectionTestUtils.setField(bulkhead, "defaultMaxWaitMs", 50L);
+    }
+
+    @Test
+    void tryAcquireRejectsImmediatelyWhenFull() {
+        ConnectionConfig config = config(1L, null);
+        ConnectionBulkhead.Permit first = bulkhead.tryAcquire(config);
+        ConnectionBulkhead.Permit second = bulkhead.tryAcquire(config);
+        assertThrows(RuntimeException.class, () -> bulkhead.tryAcquire(config));
+
+        first.close();
+        assertDoesNotThrow(() -> bulkhead.tryAcquire(config).close());
+        second.close();
+        assertEquals(1L, stats(1L).get("rejected"));
+    }
+
+    @Test
+    void acquireWaitsThenTimesOut() {
+        ConnectionConfig config = config(1L, null);
+        bulkhead.acquire(config);
+        bulkhead.acquire(config);
+
+        long start = System.nanoTime();
+        assertThrows(RuntimeException.class, () -> bulkhead.acquire(config));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 40, "应在队列中等待max-wait-ms后再拒绝");
+        assertEquals(1L, stats(1L).get("waitTimeouts"));
+        assertEquals(0, stats(1L).get("queueDepth"));
+    }
+
+    @Test
+    void waiterProceedsWhenPermitIsReleased() throws Exception {
+        ReflectionTestUtils.setField(bulkhead, "defaultMaxWaitMs", 5000L);
+        ConnectionConfig config = config(1L, null);
+        ConnectionBulkhead.Permit first = bulkhead.acquire(config);
+        bulkhead.acquire(config);
+
+        CompletableFuture<ConnectionBulkhead.Permit> waiter = CompletableFuture.supplyAsync(() -> bulkhead.acquire(config));
+        while (!Integer.valueOf(1).equals(stats(1L).get("queueDepth"))) {
+            Thread.sleep(5);
+        }
+        // 等待队列已满（上限1）时直接拒绝
+        assertThrows(RuntimeException.class, () -> bulkhead.acquire(config));
+
+        first.close();
+        waiter.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void permitReleasesOnlyOnce() {
+        ConnectionConfig config = config(1L, null);
+        ConnectionBulkhead.Permit permit = bulkhead.acquire(config);
+        permit.close();
+        permit.close();
+        assertEquals(0, stats(1L).get("inFlight"));
+    }
+
+    @Test
+    void connectionCanOverrideLimits() {
+        ConnectionConfig config = config(2L, "{\"bulkheadMaxConcurrent\": 1}");
+        bulkhead.tryAcquire(config);
+        assertThrows(RuntimeException.class, () -> bulkhead.tryAcquire(config));
+        // 其他连接不受影响
+        assertDoesNotThrow(() -> bulkhead.tryAcquire(config(3L, null)));
+    }
+
+    private Map<String, Object> stats(Long connectionId) {
+        return bulkhead.getStats().get(connectionId);
+    }
+
+    private static ConnectionConfig config(Long id, String extraParams) {
+        ConnectionConfig config = new ConnectionConfig();
+        config.setId(id);
+        config.setExtraParams(extraParams);
+        return config;
+    }
+}
@@ -0,0 +1,90 @@
+package com.graphdb.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionCircuitBreakerTest {
+
+    private static final Long CONNECTION_ID = 1L;
+    private static final long OPEN_DURATION_MS = 100;
+
+    private ConnectionCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new ConnectionCircuitBreaker();
+        ReflectionTestUtils.setField(breaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(breaker, "openDurationMs", OPEN_DURATION_MS);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        breaker.recordFailure(CONNECTION_ID);
+        breaker.recordFailure(CONNECTION_ID);
+        assertEquals(ConnectionCircuitBreaker.State.CLOSED, breaker.getState(CONNECTION_ID));
+        assertDoesNotThrow(() -> breaker.acquirePermission(CONNECTION_ID));
+
+        breaker.recordFailure(CONNECTION_ID);
+        assertEquals(ConnectionCircuitBreaker.State.OPEN, breaker.getState(CONNECTION_ID));
+        assertThrows(RuntimeException.class, () -> breaker.acquirePermission(CONNECTION_ID));
+        assertTrue(breaker.getOpenConnectionIds().contains(CONNECTION_ID));
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        breaker.recordFailure(CONNECTION_ID);
+        breaker.recordFailure(CONNECTION_ID);
+        breaker.recordSuccess(CONNECTION_ID);
+        breaker.recordFailure(CONNECTION_ID);
+        breaker.recordFailure(CONNECTION_ID);
+        assertEquals(ConnectionCircuitBreaker.State.CLOSED, breaker.getState(CONNECTION_ID));
+    }
+
+    @Test
+    void halfOpenAdmitsSingleProbeAndClosesOnSuccess() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        assertEquals(ConnectionCircuitBreaker.State.HALF_OPEN, breaker.getState(CONNECTION_ID));
+
+        assertDoesNotThrow(() -> breaker.acquirePermission(CONNECTION_ID));
+        // 探测调用未返回前拒绝其他调用
+        assertThrows(RuntimeException.class, () -> breaker.acquirePermission(CONNECTION_ID));
+
+        breaker.recordSuccess(CONNECTION_ID);
+        assertEquals(ConnectionCircuitBreaker.State.CLOSED, breaker.getState(CONNECTION_ID));
+        assertDoesNotThrow(() -> breaker.acquirePermission(CONNECTION_ID));
+        assertTrue(breaker.getOpenConnectionIds().isEmpty());
+    }
+
+    @Test
+    void failedProbeReopens() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        assertDoesNotThrow(() -> breaker.acquirePermission(CONNECTION_ID));
+
+        breaker.recordFailure(CONNECTION_ID);
+        assertEquals(ConnectionCircuitBreaker.State.OPEN, breaker.getState(CONNECTION_ID));
+        assertThrows(RuntimeException.class, () -> breaker.acquirePermission(CONNECTION_ID));
+    }
+
+    @Test
+    void resetForgetsConnection() {
+        open();
+        breaker.reset(CONNECTION_ID);
+        assertEquals(ConnectionCircuitBreaker.State.CLOSED, breaker.getState(CONNECTION_ID));
+        assertDoesNotThrow(() -> breaker.acquirePermission(CONNECTION_ID));
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure(CONNECTION_ID);
+        }
+        assertEquals(ConnectionCircuitBreaker.State.OPEN, breaker.getState(CONNECTION_ID));
+    }
+}
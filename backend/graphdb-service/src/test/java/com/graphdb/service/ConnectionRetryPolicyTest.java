@@ -0,0 +1,87 @@
+package com.graphdb.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionRetryPolicyTest {
+
+    private static final Long CONNECTION_ID = 1L;
+
+    private ConnectionRetryPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new ConnectionRetryPolicy();
+        ReflectionTestUtils.setField(policy, "maxAttempts", 3);
+        ReflectionTestUtils.setField(policy, "initialBackoffMs", 50L);
+        ReflectionTestUtils.setField(policy, "maxBackoffMs", 1000L);
+        ReflectionTestUtils.setField(policy, "maxTokens", 10.0);
+        ReflectionTestUtils.setField(policy, "tokenRatio", 0.1);
+    }
+
+    @Test
+    void retriesOnlyTransientErrorsWithinMaxAttempts() {
+        assertFalse(policy.shouldRetry(CONNECTION_ID, 1, false));
+        assertTrue(policy.shouldRetry(CONNECTION_ID, 1, true));
+        assertTrue(policy.shouldRetry(CONNECTION_ID, 2, true));
+        assertFalse(policy.shouldRetry(CONNECTION_ID, 3, true));
+        assertEquals(1L, stats().get("exhausted"));
+    }
+
+    @Test
+    void stopsRetryingWhenBudgetRunsOut() {
+        // 令牌从10开始，每次瞬时故障扣减1，降到上限的一半（5）时不再重试
+        for (int i = 0; i < 4; i++) {
+            assertTrue(policy.shouldRetry(CONNECTION_ID, 1, true), "第" + (i + 1) + "次故障仍在预算内");
+        }
+        assertFalse(policy.shouldRetry(CONNECTION_ID, 1, true));
+        assertFalse(policy.shouldRetry(CONNECTION_ID, 1, true));
+        assertEquals(2L, stats().get("budgetRejected"));
+        assertEquals(4L, stats().get("retries"));
+    }
+
+    @Test
+    void successfulCallsRefillBudget() {
+        for (int i = 0; i < 5; i++) {
+            policy.shouldRetry(CONNECTION_ID, 1, true);
+        }
+        assertFalse(policy.shouldRetry(CONNECTION_ID, 1, true));
+
+        // 每次成功归还0.1个令牌
+        for (int i = 0; i < 30; i++) {
+            policy.recordSuccess(CONNECTION_ID, 1);
+        }
+        assertTrue(policy.shouldRetry(CONNECTION_ID, 1, true));
+    }
+
+    @Test
+    void budgetsArePerConnection() {
+        for (int i = 0; i < 5; i++) {
+            policy.shouldRetry(CONNECTION_ID, 1, true);
+        }
+        assertFalse(policy.shouldRetry(CONNECTION_ID, 1, true));
+        assertTrue(policy.shouldRetry(2L, 1, true));
+    }
+
+    @Test
+    void backoffStaysWithinExponentialCeiling() {
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long ceiling = Math.min(1000L, 50L << (attempt - 1));
+            for (int i = 0; i < 100; i++) {
+                long backoff = policy.backoffMs(attempt);
+                assertTrue(backoff >= 0 && backoff <= ceiling, "退避时间超出范围: attempt=" + attempt + ", backoff=" + backoff);
+            }
+        }
+    }
+
+    private Map<String, Object> stats() {
+        return policy.getStats().get(CONNECTION_ID);
+    }
+}
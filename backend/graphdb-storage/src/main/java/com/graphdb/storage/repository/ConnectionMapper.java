@@ -5,6 +5,8 @@ import com.graphdb.storage.entity.ConnectionEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -36,4 +38,16 @@ public interface ConnectionMapper extends BaseMapper<ConnectionEntity> {
      */
     @Select("SELECT * FROM connection_config WHERE name = #{name} AND deleted = 0 LIMIT 1")
     ConnectionEntity selectByName(@Param("name") String name);
+    
+    /**
+     * 批量更新连接状态
+     * @param ids 连接ID集合
+     * @param status 连接状态
+     * @return 更新行数
+     */
+    @Update("<script>UPDATE connection_config SET status = #{status}, updated_at = NOW() "
+            + "WHERE deleted = 0 AND id IN "
+            + "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>"
+            + "</script>")
+    int updateStatusBatch(@Param("ids") Collection<Long> ids, @Param("status") Integer status);
 }
\ No newline at end of file
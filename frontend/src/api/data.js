@@ -31,6 +31,20 @@ export const dataApi = {
     })
   },
 
+  /**
+   * 游标分页查询节点，每页代价与翻页深度无关
+   * @param {number} connectionId - 连接ID
+   * @param {string} graphName - 图名称
+   * @param {object} params - 查询参数 {label, cursor, pageSize}，cursor为上一页返回的nextCursor
+   */
+  scrollVertices(connectionId, graphName, params = {}) {
+    return request({
+      method: 'get',
+      url: `/connections/${connectionId}/graphs/${graphName}/data/vertices/scroll`,
+      params
+    })
+  },
+
   /**
    * 获取单个节点
    * @param {number} connectionId - 连接ID
@@ -102,6 +116,20 @@ export const dataApi = {
     })
   },
 
+  /**
+   * 游标分页查询边，每页代价与翻页深度无关
+   * @param {number} connectionId - 连接ID
+   * @param {string} graphName - 图名称
+   * @param {object} params - 查询参数 {label, cursor, pageSize}，cursor为上一页返回的nextCursor
+   */
+  scrollEdges(connectionId, graphName, params = {}) {
+    return request({
+      method: 'get',
+      url: `/connections/${connectionId}/graphs/${graphName}/data/edges/scroll`,
+      params
+    })
+  },
+
   /**
    * 获取单个边
    * @param {number} connectionId - 连接ID
@@ -22,11 +22,13 @@ import {
 } from '../mock/graph'
 import {
   mockQueryVertices,
+  mockScrollVertices,
   mockGetVertex,
   mockUpdateVertex,
   mockDeleteVertex,
   mockCreateVertex,
   mockQueryEdges,
+  mockScrollEdges,
   mockCreateEdge,
   mockGetEdge,
   mockUpdateEdge,
@@ -132,6 +134,8 @@ const mockHandler = async (config) => {
     if (match) {
       if (method === 'get' && urlLower.endsWith('/vertices')) {
         return mockQueryVertices(match[1], match[2], params)
+      } else if (method === 'get' && urlLower.endsWith('/vertices/scroll')) {
+        return mockScrollVertices(match[1], match[2], params)
       } else if (method === 'get' && urlLower.match(/\/vertices\/[^/]+$/)) {
         const uid = urlLower.match(/\/vertices\/([^/]+)/)?.[1]
         return mockGetVertex(match[1], match[2], uid)
@@ -153,6 +157,8 @@ const mockHandler = async (config) => {
     if (match) {
       if (method === 'get' && urlLower.endsWith('/edges')) {
         return mockQueryEdges(match[1], match[2], params)
+      } else if (method === 'get' && urlLower.endsWith('/edges/scroll')) {
+        return mockScrollEdges(match[1], match[2], params)
       } else if (method === 'get' && urlLower.match(/\/edges\/[^/]+$/)) {
         const uid = urlLower.match(/\/edges\/([^/]+)/)?.[1]
         return mockGetEdge(match[1], match[2], uid)
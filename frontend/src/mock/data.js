@@ -191,6 +191,24 @@ export const mockQueryVertices = async (connectionId, graphName, params) => {
   })
 }
 
+/**
+ * Mock: 游标分页查询节点，游标为下一页起始下标
+ */
+export const mockScrollVertices = async (connectionId, graphName, params) => {
+  await mockDelay()
+
+  const label = params.label
+  const vertices = label ? mockVertices[label] || [] : []
+  const start = Number(params.cursor || 0)
+  const pageSize = params.pageSize || 10
+  const end = start + pageSize
+
+  return mockSuccess({
+    items: vertices.slice(start, end),
+    nextCursor: end < vertices.length ? String(end) : null
+  })
+}
+
 /**
  * Mock: 获取单个节点
  */
@@ -296,6 +314,24 @@ export const mockQueryEdges = async (connectionId, graphName, params) => {
   })
 }
 
+/**
+ * Mock: 游标分页查询边，游标为下一页起始下标
+ */
+export const mockScrollEdges = async (connectionId, graphName, params) => {
+  await mockDelay()
+
+  const label = params.label
+  const edges = label ? mockEdges.filter(e => e.label === label) : mockEdges
+  const start = Number(params.cursor || 0)
+  const pageSize = params.pageSize || 10
+  const end = start + pageSize
+
+  return mockSuccess({
+    items: edges.slice(start, end),
+    nextCursor: end < edges.length ? String(end) : null
+  })
+}
+
 /**
  * Mock: 创建边
  */
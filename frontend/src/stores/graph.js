@@ -129,6 +129,7 @@ export const useGraphStore = defineStore('graph', () => {
           const res = await graphApi.list(conn.id, sourceType)
           const connGraphs = (res || []).map(graph => ({
             ...graph,
+            databaseType: graph.databaseType || conn.databaseType,
             connectionId: conn.id,
             connectionName: conn.name
           }))